@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.query.QuerySearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createDelimiterElementForHybridSearchResults;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createStartStopElementForHybridSearchResults;
+
+/**
+ * Measures parsing of a shard query result in hybrid search format into per sub-query results, which is done on the
+ * coordinator node for every shard before normalization.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CompoundTopDocsBenchmark {
+
+    @Param({ "2", "5", "10" })
+    public int numOfSubQueries;
+
+    @Param({ "100", "1000" })
+    public int paginationDepth;
+
+    private QuerySearchResult querySearchResult;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<ScoreDoc> scoreDocs = new ArrayList<>();
+        scoreDocs.add(createStartStopElementForHybridSearchResults(0));
+        for (int subQuery = 0; subQuery < numOfSubQueries; subQuery++) {
+            scoreDocs.add(createDelimiterElementForHybridSearchResults(0));
+            float score = 1.0f;
+            for (int i = 0; i < paginationDepth; i++) {
+                scoreDocs.add(new ScoreDoc(random.nextInt(paginationDepth * 2), score));
+                score -= random.nextFloat() * score / paginationDepth;
+            }
+        }
+        scoreDocs.add(createStartStopElementForHybridSearchResults(0));
+
+        querySearchResult = new QuerySearchResult();
+        querySearchResult.topDocs(
+            new TopDocsAndMaxScore(
+                new TopDocs(new TotalHits(paginationDepth, TotalHits.Relation.EQUAL_TO), scoreDocs.toArray(new ScoreDoc[0])),
+                1.0f
+            ),
+            null
+        );
+        querySearchResult.setSearchShardTarget(
+            new SearchShardTarget("benchmark-node", new ShardId("benchmark-index", "uuid", 0), null, OriginalIndices.NONE)
+        );
+    }
+
+    @Benchmark
+    public CompoundTopDocs parseShardResult() {
+        return new CompoundTopDocs(querySearchResult);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.neuralsearch.query.HybridQueryScorer;
+import org.opensearch.neuralsearch.search.HitsThresholdChecker;
+import org.opensearch.neuralsearch.search.collector.HybridTopScoreDocCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures throughput of collecting hybrid query results on one segment depending on the number of sub-queries.
+ * Every sub-query matches a random subset of documents, so only part of sub-queries match each collected document.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class HybridQueryCollectorBenchmark {
+    private static final int NUM_DOCS = 100_000;
+    private static final int TOTAL_HITS_THRESHOLD = 10_000;
+
+    @Param({ "2", "5", "10", "20" })
+    public int numOfSubQueries;
+
+    @Param({ "0.1" })
+    public double matchRatio;
+
+    @Param({ "100" })
+    public int numHits;
+
+    private int[][] docsPerSubQuery;
+    private float[][] scoresPerSubQuery;
+    private Directory directory;
+    private DirectoryReader reader;
+    private LeafReaderContext leafReaderContext;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        docsPerSubQuery = new int[numOfSubQueries][];
+        scoresPerSubQuery = new float[numOfSubQueries][];
+        for (int subQuery = 0; subQuery < numOfSubQueries; subQuery++) {
+            int[] docs = new int[NUM_DOCS];
+            int numOfMatches = 0;
+            for (int doc = 0; doc < NUM_DOCS; doc++) {
+                if (random.nextDouble() < matchRatio) {
+                    docs[numOfMatches++] = doc;
+                }
+            }
+            docsPerSubQuery[subQuery] = Arrays.copyOf(docs, numOfMatches);
+            scoresPerSubQuery[subQuery] = new float[numOfMatches];
+            for (int i = 0; i < numOfMatches; i++) {
+                scoresPerSubQuery[subQuery][i] = random.nextFloat();
+            }
+        }
+        // collector only needs leaf context for the doc base, single document segment is enough
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            writer.addDocument(new Document());
+        }
+        reader = DirectoryReader.open(directory);
+        leafReaderContext = reader.leaves().get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public void collectTopDocs(final Blackhole blackhole) throws IOException {
+        HybridTopScoreDocCollector collector = new HybridTopScoreDocCollector(numHits, new HitsThresholdChecker(TOTAL_HITS_THRESHOLD));
+        LeafCollector leafCollector = collector.getLeafCollector(leafReaderContext);
+        HybridQueryScorer hybridQueryScorer = createHybridQueryScorer();
+        leafCollector.setScorer(hybridQueryScorer);
+        DocIdSetIterator iterator = hybridQueryScorer.iterator();
+        for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            leafCollector.collect(doc);
+        }
+        List<TopDocs> topDocs = collector.topDocs();
+        blackhole.consume(topDocs);
+    }
+
+    @Benchmark
+    public void iterateWithHybridScores(final Blackhole blackhole) throws IOException {
+        HybridQueryScorer hybridQueryScorer = createHybridQueryScorer();
+        DocIdSetIterator iterator = hybridQueryScorer.iterator();
+        for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            blackhole.consume(hybridQueryScorer.hybridScores());
+        }
+    }
+
+    @Benchmark
+    public void iterateWithMatchedSubQueryScores(final Blackhole blackhole) throws IOException {
+        HybridQueryScorer hybridQueryScorer = createHybridQueryScorer();
+        int[] subQueryIndexes = new int[numOfSubQueries];
+        float[] scores = new float[numOfSubQueries];
+        DocIdSetIterator iterator = hybridQueryScorer.iterator();
+        for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            blackhole.consume(hybridQueryScorer.matchedSubQueryScores(subQueryIndexes, scores));
+        }
+        blackhole.consume(scores);
+    }
+
+    private HybridQueryScorer createHybridQueryScorer() throws IOException {
+        List<Scorer> subScorers = new ArrayList<>(numOfSubQueries);
+        for (int subQuery = 0; subQuery < numOfSubQueries; subQuery++) {
+            subScorers.add(new ArrayScorer(docsPerSubQuery[subQuery], scoresPerSubQuery[subQuery]));
+        }
+        return new HybridQueryScorer(null, subScorers);
+    }
+
+    /**
+     * Scorer over sorted arrays of doc ids and scores, excludes cost of postings decoding from measurements
+     */
+    private static final class ArrayScorer extends Scorer {
+        private final int[] docs;
+        private final float[] scores;
+        private final DocIdSetIterator iterator;
+        private int index = -1;
+
+        ArrayScorer(final int[] docs, final float[] scores) {
+            this.docs = docs;
+            this.scores = scores;
+            this.iterator = new DocIdSetIterator() {
+                @Override
+                public int docID() {
+                    if (index < 0) {
+                        return -1;
+                    }
+                    return index < docs.length ? docs[index] : NO_MORE_DOCS;
+                }
+
+                @Override
+                public int nextDoc() {
+                    if (index < docs.length) {
+                        index++;
+                    }
+                    return docID();
+                }
+
+                @Override
+                public int advance(final int target) {
+                    int doc = nextDoc();
+                    while (doc < target) {
+                        doc = nextDoc();
+                    }
+                    return doc;
+                }
+
+                @Override
+                public long cost() {
+                    return docs.length;
+                }
+            };
+        }
+
+        @Override
+        public int docID() {
+            return iterator.docID();
+        }
+
+        @Override
+        public DocIdSetIterator iterator() {
+            return iterator;
+        }
+
+        @Override
+        public float getMaxScore(final int upTo) {
+            return Float.MAX_VALUE;
+        }
+
+        @Override
+        public float score() {
+            return scores[index];
+        }
+    }
+}
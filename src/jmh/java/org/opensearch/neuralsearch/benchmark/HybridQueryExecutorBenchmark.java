@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
+import org.opensearch.neuralsearch.query.HybridQuery;
+import org.opensearch.neuralsearch.query.HybridQueryContext;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.threadpool.ThreadPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the fixed hybrid query thread pool with virtual threads on the work hybrid query dispatches to its executor:
+ * rewrite of sub-queries and creation of sub-query scorers for every segment. Sub-queries are prefix queries, so creating a
+ * scorer enumerates terms dictionary of the segment. With "cold" cache a new reader is opened before every invocation, so
+ * segment structures are read from the directory again, the OS page cache stays warm and needs to be dropped externally
+ * to include disk latency. With "warm" cache the same reader is reused.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HybridQueryExecutorBenchmark {
+    private static final String TEXT_FIELD_NAME = "text";
+    private static final int NUM_OF_DOCS = 100_000;
+    private static final int VOCABULARY_SIZE = 5_000;
+    private static final int TERMS_PER_DOC = 10;
+
+    @Param({ "fixed", "virtual" })
+    public String executorType;
+
+    @Param({ "warm", "cold" })
+    public String cache;
+
+    @Param({ "5", "10" })
+    public int numOfSubQueries;
+
+    @Param({ "50" })
+    public int numOfSegments;
+
+    private Path indexPath;
+    private Directory directory;
+    private DirectoryReader reader;
+    private IndexSearcher searcher;
+    private ThreadPool threadPool;
+    private HybridQuery hybridQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        indexPath = Files.createTempDirectory("hybrid-query-executor-benchmark");
+        directory = new NIOFSDirectory(indexPath);
+        IndexWriterConfig indexWriterConfig = new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE)
+            .setMaxBufferedDocs(NUM_OF_DOCS / numOfSegments);
+        try (IndexWriter writer = new IndexWriter(directory, indexWriterConfig)) {
+            for (int doc = 0; doc < NUM_OF_DOCS; doc++) {
+                StringBuilder text = new StringBuilder();
+                for (int i = 0; i < TERMS_PER_DOC; i++) {
+                    text.append("term").append(random.nextInt(VOCABULARY_SIZE)).append(' ');
+                }
+                Document document = new Document();
+                document.add(new TextField(TEXT_FIELD_NAME, text.toString(), Field.Store.NO));
+                writer.addDocument(document);
+            }
+        }
+        openReader();
+
+        Settings settings = Settings.builder()
+            .put("node.name", "benchmark")
+            .put(NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT.getKey(), numOfSubQueries)
+            .put(NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED.getKey(), "virtual".equals(executorType))
+            .build();
+        Set<Setting<?>> clusterSettings = new HashSet<>(ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        clusterSettings.add(NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT);
+        threadPool = new ThreadPool(settings, HybridQueryExecutor.getExecutorBuilder(settings));
+        HybridQueryExecutor.initialize(threadPool, new ClusterService(settings, new ClusterSettings(settings, clusterSettings), null));
+
+        List<Query> subQueries = new ArrayList<>(numOfSubQueries);
+        for (int subQuery = 1; subQuery <= numOfSubQueries; subQuery++) {
+            subQueries.add(new PrefixQuery(new Term(TEXT_FIELD_NAME, "term" + subQuery)));
+        }
+        hybridQuery = new HybridQuery(subQueries, List.of(), HybridQueryContext.builder().paginationDepth(10).build());
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() throws IOException {
+        if ("cold".equals(cache)) {
+            reader.close();
+            openReader();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        reader.close();
+        directory.close();
+        IOUtils.rm(indexPath);
+    }
+
+    @Benchmark
+    public void rewriteAndCreateScorers(final Blackhole blackhole) throws IOException {
+        Weight weight = searcher.createWeight(searcher.rewrite(hybridQuery), ScoreMode.TOP_SCORES, 1.0f);
+        for (LeafReaderContext leafReaderContext : searcher.getIndexReader().leaves()) {
+            ScorerSupplier scorerSupplier = weight.scorerSupplier(leafReaderContext);
+            if (scorerSupplier != null) {
+                blackhole.consume(scorerSupplier.get(Long.MAX_VALUE));
+            }
+        }
+    }
+
+    private void openReader() throws IOException {
+        reader = DirectoryReader.open(directory);
+        searcher = new IndexSearcher(reader);
+        // cached sub-query results would hide the cost of creating scorers
+        searcher.setQueryCache(null);
+    }
+}
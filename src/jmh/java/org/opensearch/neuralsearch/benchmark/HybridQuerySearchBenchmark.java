@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.neuralsearch.query.HybridQuery;
+import org.opensearch.neuralsearch.query.HybridQueryContext;
+import org.opensearch.neuralsearch.search.HitsThresholdChecker;
+import org.opensearch.neuralsearch.search.collector.HybridTopScoreDocCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures latency of executing hybrid query with term sub-queries over a synthetic Lucene index, including weight creation,
+ * scoring of sub-queries and collection of top hits per sub-query. Every document has a fixed number of terms drawn from
+ * a small vocabulary, so each sub-query matches roughly the same share of documents.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HybridQuerySearchBenchmark {
+    private static final String TEXT_FIELD_NAME = "text";
+    private static final int VOCABULARY_SIZE = 50;
+    private static final int TERMS_PER_DOC = 5;
+    private static final int TOTAL_HITS_THRESHOLD = 10_000;
+
+    @Param({ "100000" })
+    public int numOfDocs;
+
+    @Param({ "2", "5", "10" })
+    public int numOfSubQueries;
+
+    @Param({ "100", "1000" })
+    public int paginationDepth;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private IndexSearcher searcher;
+    private HybridQuery hybridQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int doc = 0; doc < numOfDocs; doc++) {
+                StringBuilder text = new StringBuilder();
+                for (int i = 0; i < TERMS_PER_DOC; i++) {
+                    text.append("term").append(random.nextInt(VOCABULARY_SIZE)).append(' ');
+                }
+                Document document = new Document();
+                document.add(new TextField(TEXT_FIELD_NAME, text.toString(), Field.Store.NO));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+        searcher = new IndexSearcher(reader);
+        // cached sub-query results would hide the cost of scoring
+        searcher.setQueryCache(null);
+
+        List<Query> subQueries = new ArrayList<>(numOfSubQueries);
+        for (int subQuery = 0; subQuery < numOfSubQueries; subQuery++) {
+            subQueries.add(new TermQuery(new Term(TEXT_FIELD_NAME, "term" + subQuery)));
+        }
+        hybridQuery = new HybridQuery(subQueries, List.of(), HybridQueryContext.builder().paginationDepth(paginationDepth).build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public void search(final Blackhole blackhole) throws IOException {
+        blackhole.consume(searcher.search(hybridQuery, new HybridTopDocsCollectorManager(paginationDepth)));
+    }
+
+    /**
+     * Creates one hybrid collector per index slice and returns top docs of every sub-query from all collectors
+     */
+    private static final class HybridTopDocsCollectorManager implements CollectorManager<HybridTopScoreDocCollector, List<TopDocs>> {
+        private final int numHits;
+
+        HybridTopDocsCollectorManager(final int numHits) {
+            this.numHits = numHits;
+        }
+
+        @Override
+        public HybridTopScoreDocCollector newCollector() {
+            return new HybridTopScoreDocCollector(numHits, new HitsThresholdChecker(TOTAL_HITS_THRESHOLD));
+        }
+
+        @Override
+        public List<TopDocs> reduce(final Collection<HybridTopScoreDocCollector> collectors) {
+            List<TopDocs> topDocs = new ArrayList<>();
+            for (HybridTopScoreDocCollector collector : collectors) {
+                topDocs.addAll(collector.topDocs());
+            }
+            return topDocs;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.env.Environment;
+import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.InferenceProcessor;
+import org.opensearch.neuralsearch.processor.SparseEncodingProcessor;
+import org.opensearch.neuralsearch.processor.TextEmbeddingProcessor;
+import org.opensearch.neuralsearch.processor.TextInferenceRequest;
+import org.opensearch.neuralsearch.util.TokenWeightUtil;
+import org.opensearch.neuralsearch.util.prune.PruneType;
+import org.opensearch.neuralsearch.util.quantization.EmbeddingDataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures ingest throughput of text_embedding and sparse_encoding processors in documents per second, excluding the model.
+ * Inference is done by a stub ml client accessor that returns canned dense vectors or token weights immediately, so results
+ * show the cost of preprocessing documents, building the inference list and writing embeddings back to documents. Every
+ * operation is one document, with -Pjmh.profilers=gc gc.alloc.rate.norm is the number of bytes allocated per document.
+ * createDocuments measures copying of documents alone, it is part of other benchmarks as processors update documents in place.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class InferenceProcessorBenchmark {
+    private static final int NUM_OF_DOCS = 100;
+    private static final int EMBEDDING_DIMENSION = 768;
+    private static final int NUM_OF_TOKENS = 150;
+    private static final String MODEL_ID = "benchmark-model";
+
+    @Param({ TextEmbeddingProcessor.TYPE, SparseEncodingProcessor.TYPE })
+    public String processorType;
+
+    @Param({ "2", "10" })
+    public int numOfPassages;
+
+    private List<Map<String, Object>> sources;
+    private InferenceProcessor processor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        sources = IngestBenchmarkFixtures.createSources(NUM_OF_DOCS, numOfPassages, random);
+        MLCommonsClientAccessor clientAccessor = new StubMLCommonsClientAccessor(random);
+        Environment environment = IngestBenchmarkFixtures.createEnvironment();
+        ClusterService clusterService = IngestBenchmarkFixtures.createClusterService();
+        Map<String, Object> fieldMap = IngestBenchmarkFixtures.INFERENCE_FIELD_MAP;
+        processor = switch (processorType) {
+            case TextEmbeddingProcessor.TYPE -> new TextEmbeddingProcessor(
+                "benchmark",
+                "",
+                NUM_OF_DOCS,
+                MODEL_ID,
+                fieldMap,
+                false,
+                EmbeddingDataType.FLOAT,
+                clientAccessor,
+                environment,
+                clusterService
+            );
+            case SparseEncodingProcessor.TYPE -> new SparseEncodingProcessor(
+                "benchmark",
+                "",
+                NUM_OF_DOCS,
+                MODEL_ID,
+                fieldMap,
+                false,
+                PruneType.NONE,
+                0f,
+                clientAccessor,
+                environment,
+                clusterService
+            );
+            default -> throw new IllegalArgumentException(String.format(Locale.ROOT, "unsupported processor type [%s]", processorType));
+        };
+        // measuring the error path would be misleading, fail fast if documents are not processed successfully
+        processor.subBatchExecute(IngestBenchmarkFixtures.createIngestDocuments(sources), ingestDocumentWrappers -> {
+            for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+                if (ingestDocumentWrapper.getException() != null) {
+                    throw new IllegalStateException("benchmark document failed to process", ingestDocumentWrapper.getException());
+                }
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_DOCS)
+    public List<IngestDocumentWrapper> createDocuments() {
+        return IngestBenchmarkFixtures.createIngestDocuments(sources);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_DOCS)
+    public void subBatchExecute(final Blackhole blackhole) {
+        processor.subBatchExecute(IngestBenchmarkFixtures.createIngestDocuments(sources), blackhole::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_DOCS)
+    public void execute(final Blackhole blackhole) {
+        for (IngestDocumentWrapper ingestDocumentWrapper : IngestBenchmarkFixtures.createIngestDocuments(sources)) {
+            processor.execute(ingestDocumentWrapper.getIngestDocument(), (ingestDocument, exception) -> {
+                blackhole.consume(ingestDocument);
+                blackhole.consume(exception);
+            });
+        }
+    }
+
+    /**
+     * Ml client accessor that responds synchronously with canned inference results. Every result is a new object, as if it
+     * was parsed from the model response, so allocations of results are included into measurements.
+     */
+    private static final class StubMLCommonsClientAccessor extends MLCommonsClientAccessor {
+        private final float[] vector;
+        private final Map<String, Float> tokenWeights;
+
+        StubMLCommonsClientAccessor(final Random random) {
+            super(null);
+            this.vector = new float[EMBEDDING_DIMENSION];
+            for (int i = 0; i < EMBEDDING_DIMENSION; i++) {
+                vector[i] = random.nextFloat();
+            }
+            this.tokenWeights = new HashMap<>();
+            for (int i = 0; i < NUM_OF_TOKENS; i++) {
+                tokenWeights.put("token" + i, random.nextFloat());
+            }
+        }
+
+        @Override
+        public void inferenceSentences(final TextInferenceRequest inferenceRequest, final ActionListener<List<List<Number>>> listener) {
+            List<List<Number>> vectors = new ArrayList<>(inferenceRequest.getInputTexts().size());
+            for (int i = 0; i < inferenceRequest.getInputTexts().size(); i++) {
+                List<Number> vectorCopy = new ArrayList<>(vector.length);
+                for (float value : vector) {
+                    vectorCopy.add(value);
+                }
+                vectors.add(vectorCopy);
+            }
+            listener.onResponse(vectors);
+        }
+
+        @Override
+        public void inferenceSentencesWithMapResult(
+            final TextInferenceRequest inferenceRequest,
+            final ActionListener<List<Map<String, ?>>> listener
+        ) {
+            List<Map<String, Float>> tokenWeightsPerText = new ArrayList<>(inferenceRequest.getInputTexts().size());
+            for (int i = 0; i < inferenceRequest.getInputTexts().size(); i++) {
+                tokenWeightsPerText.add(new HashMap<>(tokenWeights));
+            }
+            listener.onResponse(List.of(Map.of(TokenWeightUtil.RESPONSE_KEY, tokenWeightsPerText)));
+        }
+    }
+}
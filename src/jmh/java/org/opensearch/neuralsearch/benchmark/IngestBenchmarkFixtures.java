@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.env.Environment;
+import org.opensearch.index.mapper.IndexFieldMapper;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
+
+/**
+ * Synthetic documents and cluster fixtures shared by ingest processor benchmarks. Every document has a title, a body made of
+ * paragraphs, a list of passages and a flattened "metadata.summary" field, so processors go through unflattening, validation
+ * of nested fields and handling of lists of objects as they do for real documents.
+ */
+final class IngestBenchmarkFixtures {
+    static final String INDEX_NAME = "benchmark-index";
+    static final String PARAGRAPH_DELIMITER = "\n\n";
+    // field map of inference processors, covers plain, nested and list of objects fields
+    static final Map<String, Object> INFERENCE_FIELD_MAP = Map.of(
+        "title",
+        "title_embedding",
+        "body",
+        "body_embedding",
+        "passages",
+        Map.of("text", "text_embedding"),
+        "metadata",
+        Map.of("summary", "summary_embedding")
+    );
+    private static final int VOCABULARY_SIZE = 5_000;
+    private static final int WORDS_PER_SENTENCE = 15;
+    private static final int SENTENCES_PER_PARAGRAPH = 4;
+    private static final int PARAGRAPHS_PER_BODY = 8;
+
+    private IngestBenchmarkFixtures() {}
+
+    /**
+     * Creates sources of documents, sources are never modified and copied for every benchmark invocation
+     */
+    static List<Map<String, Object>> createSources(final int numOfDocs, final int numOfPassages, final Random random) {
+        List<Map<String, Object>> sources = new ArrayList<>(numOfDocs);
+        for (int doc = 0; doc < numOfDocs; doc++) {
+            Map<String, Object> source = new HashMap<>();
+            source.put("title", createSentence(random));
+            source.put("body", createBody(random));
+            List<Object> passages = new ArrayList<>(numOfPassages);
+            for (int passage = 0; passage < numOfPassages; passage++) {
+                Map<String, Object> passageMap = new HashMap<>();
+                passageMap.put("text", createParagraph(random));
+                passageMap.put("position", passage);
+                passages.add(passageMap);
+            }
+            source.put("passages", passages);
+            source.put("metadata.summary", createParagraph(random));
+            source.put("metadata.author", "author" + random.nextInt(100));
+            sources.add(source);
+        }
+        return sources;
+    }
+
+    /**
+     * Creates documents for one batch, processors update documents in place, so every invocation needs new documents
+     */
+    static List<IngestDocumentWrapper> createIngestDocuments(final List<Map<String, Object>> sources) {
+        List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            Map<String, Object> sourceAndMetadata = deepCopy(sources.get(i));
+            sourceAndMetadata.put(IndexFieldMapper.NAME, INDEX_NAME);
+            ingestDocumentWrappers.add(new IngestDocumentWrapper(i, new IngestDocument(sourceAndMetadata, new HashMap<>()), null));
+        }
+        return ingestDocumentWrappers;
+    }
+
+    /**
+     * Cluster service without index metadata, processors fall back to node settings for index level limits
+     */
+    static ClusterService createClusterService() {
+        return new StaticStateClusterService(ClusterState.builder(ClusterName.DEFAULT).build());
+    }
+
+    static Environment createEnvironment() {
+        return new Environment(
+            Settings.builder().put(Environment.PATH_HOME_SETTING.getKey(), System.getProperty("java.io.tmpdir")).build(),
+            null
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> deepCopy(final Map<String, Object> map) {
+        Map<String, Object> copy = new HashMap<>(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof Map) {
+                value = deepCopy((Map<String, Object>) value);
+            } else if (value instanceof List) {
+                List<Object> listCopy = new ArrayList<>(((List<Object>) value).size());
+                for (Object element : (List<Object>) value) {
+                    listCopy.add(element instanceof Map ? deepCopy((Map<String, Object>) element) : element);
+                }
+                value = listCopy;
+            }
+            copy.put(entry.getKey(), value);
+        }
+        return copy;
+    }
+
+    private static String createBody(final Random random) {
+        StringBuilder body = new StringBuilder();
+        for (int paragraph = 0; paragraph < PARAGRAPHS_PER_BODY; paragraph++) {
+            if (paragraph > 0) {
+                body.append(PARAGRAPH_DELIMITER);
+            }
+            body.append(createParagraph(random));
+        }
+        return body.toString();
+    }
+
+    private static String createParagraph(final Random random) {
+        StringBuilder paragraph = new StringBuilder();
+        for (int sentence = 0; sentence < SENTENCES_PER_PARAGRAPH; sentence++) {
+            if (sentence > 0) {
+                paragraph.append(' ');
+            }
+            paragraph.append(createSentence(random));
+        }
+        return paragraph.toString();
+    }
+
+    private static String createSentence(final Random random) {
+        StringBuilder sentence = new StringBuilder();
+        for (int word = 0; word < WORDS_PER_SENTENCE; word++) {
+            if (word > 0) {
+                sentence.append(' ');
+            }
+            sentence.append("word").append(random.nextInt(VOCABULARY_SIZE));
+        }
+        return sentence.append('.').toString();
+    }
+
+    /**
+     * Cluster service that returns the same cluster state and is never started
+     */
+    private static final class StaticStateClusterService extends ClusterService {
+        private final ClusterState clusterState;
+
+        StaticStateClusterService(final ClusterState clusterState) {
+            super(Settings.EMPTY, new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), null);
+            this.clusterState = clusterState;
+        }
+
+        @Override
+        public ClusterState state() {
+            return clusterState;
+        }
+    }
+}
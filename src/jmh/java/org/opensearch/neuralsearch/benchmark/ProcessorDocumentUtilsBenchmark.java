@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.env.Environment;
+import org.opensearch.neuralsearch.util.ProcessorDocumentUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures document utilities every inference processor runs for each ingested document: unflattening of field names with
+ * dots and validation of fields from the field map. Every operation is one document, neither benchmark modifies documents.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ProcessorDocumentUtilsBenchmark {
+    private static final int NUM_OF_DOCS = 100;
+
+    @Param({ "2", "10" })
+    public int numOfPassages;
+
+    private List<Map<String, Object>> sources;
+    private List<Map<String, Object>> unflattenedSources;
+    private ClusterService clusterService;
+    private Environment environment;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sources = IngestBenchmarkFixtures.createSources(NUM_OF_DOCS, numOfPassages, new Random(42));
+        unflattenedSources = new ArrayList<>(NUM_OF_DOCS);
+        for (Map<String, Object> source : sources) {
+            unflattenedSources.add(ProcessorDocumentUtils.unflattenJson(source));
+        }
+        clusterService = IngestBenchmarkFixtures.createClusterService();
+        environment = IngestBenchmarkFixtures.createEnvironment();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_DOCS)
+    public void unflattenJson(final Blackhole blackhole) {
+        for (Map<String, Object> source : sources) {
+            blackhole.consume(ProcessorDocumentUtils.unflattenJson(source));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_DOCS)
+    public void validateMapTypeValue() {
+        for (Map<String, Object> source : unflattenedSources) {
+            ProcessorDocumentUtils.validateMapTypeValue(
+                "field_map",
+                source,
+                IngestBenchmarkFixtures.INFERENCE_FIELD_MAP,
+                IngestBenchmarkFixtures.INDEX_NAME,
+                clusterService,
+                environment,
+                false
+            );
+        }
+    }
+}
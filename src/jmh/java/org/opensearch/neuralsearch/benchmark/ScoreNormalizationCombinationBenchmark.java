@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
+import org.opensearch.neuralsearch.processor.SearchShard;
+import org.opensearch.neuralsearch.processor.combination.ArithmeticMeanScoreCombinationTechnique;
+import org.opensearch.neuralsearch.processor.combination.CombineScoresDto;
+import org.opensearch.neuralsearch.processor.combination.RRFScoreCombinationTechnique;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombinationFactory;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombinationTechnique;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombiner;
+import org.opensearch.neuralsearch.processor.normalization.RRFNormalizationTechnique;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationFactory;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationTechnique;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures cost of score normalization and combination on the coordinator node depending on the number of shards and the
+ * number of results every shard returns per sub-query. Shard results are synthetic, techniques update scores in place, so
+ * every invocation creates shard results from the same pre-generated data; createShardResults measures that part alone.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ScoreNormalizationCombinationBenchmark {
+    private static final int NUM_OF_SUB_QUERIES = 3;
+    private static final String INDEX_NAME = "benchmark-index";
+    private static final String NODE_ID = "benchmark-node";
+
+    @Param({ "min_max", "l2", "rrf" })
+    public String normalizationTechniqueName;
+
+    @Param({ "1", "5", "20" })
+    public int numOfShards;
+
+    @Param({ "100", "1000" })
+    public int paginationDepth;
+
+    // doc ids and scores per shard and sub-query, scores are sorted in descending order as in shard results
+    private int[][][] docIds;
+    private float[][][] scores;
+    private ScoreNormalizationTechnique normalizationTechnique;
+    private ScoreCombinationTechnique combinationTechnique;
+    private ScoreNormalizer scoreNormalizer;
+    private ScoreCombiner scoreCombiner;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        docIds = new int[numOfShards][NUM_OF_SUB_QUERIES][];
+        scores = new float[numOfShards][NUM_OF_SUB_QUERIES][];
+        for (int shard = 0; shard < numOfShards; shard++) {
+            for (int subQuery = 0; subQuery < NUM_OF_SUB_QUERIES; subQuery++) {
+                // sub-queries return overlapping sets of documents, as it's typical for lexical and semantic queries
+                docIds[shard][subQuery] = random.ints(0, paginationDepth * 2).distinct().limit(paginationDepth).toArray();
+                float[] subQueryScores = new float[paginationDepth];
+                float score = 1.0f + random.nextFloat() * 10;
+                for (int i = 0; i < paginationDepth; i++) {
+                    subQueryScores[i] = score;
+                    score -= random.nextFloat() * score / paginationDepth;
+                }
+                scores[shard][subQuery] = subQueryScores;
+            }
+        }
+        normalizationTechnique = new ScoreNormalizationFactory().createNormalization(normalizationTechniqueName);
+        String combinationTechniqueName = RRFNormalizationTechnique.TECHNIQUE_NAME.equals(normalizationTechniqueName)
+            ? RRFScoreCombinationTechnique.TECHNIQUE_NAME
+            : ArithmeticMeanScoreCombinationTechnique.TECHNIQUE_NAME;
+        combinationTechnique = new ScoreCombinationFactory().createCombination(combinationTechniqueName);
+        scoreNormalizer = new ScoreNormalizer();
+        scoreCombiner = new ScoreCombiner();
+    }
+
+    @Benchmark
+    public List<CompoundTopDocs> createShardResults() {
+        return createQueryTopDocs();
+    }
+
+    @Benchmark
+    public List<CompoundTopDocs> normalize() {
+        List<CompoundTopDocs> queryTopDocs = createQueryTopDocs();
+        scoreNormalizer.normalizeScores(
+            NormalizeScoresDTO.builder().queryTopDocs(queryTopDocs).normalizationTechnique(normalizationTechnique).build()
+        );
+        return queryTopDocs;
+    }
+
+    @Benchmark
+    public List<CompoundTopDocs> normalizeAndCombine() {
+        List<CompoundTopDocs> queryTopDocs = createQueryTopDocs();
+        scoreNormalizer.normalizeScores(
+            NormalizeScoresDTO.builder().queryTopDocs(queryTopDocs).normalizationTechnique(normalizationTechnique).build()
+        );
+        scoreCombiner.combineScores(
+            CombineScoresDto.builder()
+                .queryTopDocs(queryTopDocs)
+                .scoreCombinationTechnique(combinationTechnique)
+                .querySearchResults(List.of())
+                .build()
+        );
+        return queryTopDocs;
+    }
+
+    private List<CompoundTopDocs> createQueryTopDocs() {
+        List<CompoundTopDocs> queryTopDocs = new ArrayList<>(numOfShards);
+        for (int shard = 0; shard < numOfShards; shard++) {
+            List<TopDocs> topDocsPerSubQuery = new ArrayList<>(NUM_OF_SUB_QUERIES);
+            for (int subQuery = 0; subQuery < NUM_OF_SUB_QUERIES; subQuery++) {
+                int[] subQueryDocIds = docIds[shard][subQuery];
+                float[] subQueryScores = scores[shard][subQuery];
+                ScoreDoc[] scoreDocs = new ScoreDoc[subQueryDocIds.length];
+                for (int i = 0; i < scoreDocs.length; i++) {
+                    scoreDocs[i] = new ScoreDoc(subQueryDocIds[i], subQueryScores[i]);
+                }
+                topDocsPerSubQuery.add(new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs));
+            }
+            queryTopDocs.add(
+                new CompoundTopDocs(
+                    new TotalHits(paginationDepth, TotalHits.Relation.EQUAL_TO),
+                    topDocsPerSubQuery,
+                    false,
+                    new SearchShard(INDEX_NAME, shard, NODE_ID)
+                )
+            );
+        }
+        return queryTopDocs;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.neuralsearch.processor.TextChunkingProcessor;
+import org.opensearch.neuralsearch.processor.chunker.DelimiterChunker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures ingest throughput of text_chunking processor in documents per second, every operation is one document. Documents
+ * are chunked with the delimiter algorithm, fixed token length algorithm needs analysis registry of a running node for
+ * tokenization. Chunking executor is not initialized in benchmarks, so all strings are chunked by the benchmark thread.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TextChunkingProcessorBenchmark {
+    private static final int NUM_OF_DOCS = 100;
+
+    @Param({ "2", "10" })
+    public int numOfPassages;
+
+    private List<Map<String, Object>> sources;
+    private TextChunkingProcessor processor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sources = IngestBenchmarkFixtures.createSources(NUM_OF_DOCS, numOfPassages, new Random(42));
+        Map<String, Object> algorithmParameters = new HashMap<>();
+        algorithmParameters.put(DelimiterChunker.DELIMITER_FIELD, IngestBenchmarkFixtures.PARAGRAPH_DELIMITER);
+        Map<String, Object> algorithmMap = new HashMap<>();
+        algorithmMap.put(DelimiterChunker.ALGORITHM_NAME, algorithmParameters);
+        processor = new TextChunkingProcessor(
+            "benchmark",
+            "",
+            NUM_OF_DOCS,
+            Map.of("body", "body_chunks", "passages", Map.of("text", "text_chunks")),
+            algorithmMap,
+            false,
+            IngestBenchmarkFixtures.createEnvironment(),
+            IngestBenchmarkFixtures.createClusterService(),
+            null
+        );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_DOCS)
+    public void subBatchExecute(final Blackhole blackhole) {
+        processor.subBatchExecute(IngestBenchmarkFixtures.createIngestDocuments(sources), blackhole::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_DOCS)
+    public void execute(final Blackhole blackhole) {
+        for (IngestDocumentWrapper ingestDocumentWrapper : IngestBenchmarkFixtures.createIngestDocuments(sources)) {
+            blackhole.consume(processor.execute(ingestDocumentWrapper.getIngestDocument()));
+        }
+    }
+}
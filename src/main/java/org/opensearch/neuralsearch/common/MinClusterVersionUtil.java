@@ -15,6 +15,8 @@ import static org.opensearch.knn.index.query.KNNQueryBuilder.MAX_DISTANCE_FIELD;
 import static org.opensearch.knn.index.query.KNNQueryBuilder.MIN_SCORE_FIELD;
 import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.MODEL_ID_FIELD;
 import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.QUERY_IMAGE_FIELD;
+import static org.opensearch.neuralsearch.query.OnInferenceFailure.ON_INFERENCE_FAILURE_FIELD;
+import static org.opensearch.neuralsearch.util.quantization.EmbeddingDataType.EMBEDDING_DATA_TYPE_FIELD;
 
 /**
  * A util class which holds the logic to determine the min version supported by the request parameters
@@ -25,6 +27,8 @@ public final class MinClusterVersionUtil {
     private static final Version MINIMAL_SUPPORTED_VERSION_RADIAL_SEARCH = Version.V_2_14_0;
     private static final Version MINIMAL_SUPPORTED_VERSION_QUERY_IMAGE_FIX = Version.V_2_19_0;
     private static final Version MINIMAL_SUPPORTED_VERSION_PAGINATION_IN_HYBRID_QUERY = Version.V_2_19_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_ON_INFERENCE_FAILURE = Version.V_3_0_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_EMBEDDING_DATA_TYPE = Version.V_3_0_0;
 
     // Note this minimal version will act as a override
     private static final Map<String, Version> MINIMAL_VERSION_NEURAL = ImmutableMap.<String, Version>builder()
@@ -32,6 +36,8 @@ public final class MinClusterVersionUtil {
         .put(MAX_DISTANCE_FIELD.getPreferredName(), MINIMAL_SUPPORTED_VERSION_RADIAL_SEARCH)
         .put(MIN_SCORE_FIELD.getPreferredName(), MINIMAL_SUPPORTED_VERSION_RADIAL_SEARCH)
         .put(QUERY_IMAGE_FIELD.getPreferredName(), MINIMAL_SUPPORTED_VERSION_QUERY_IMAGE_FIX)
+        .put(ON_INFERENCE_FAILURE_FIELD.getPreferredName(), MINIMAL_SUPPORTED_VERSION_ON_INFERENCE_FAILURE)
+        .put(EMBEDDING_DATA_TYPE_FIELD.getPreferredName(), MINIMAL_SUPPORTED_VERSION_EMBEDDING_DATA_TYPE)
         .build();
 
     public static boolean isClusterOnOrAfterMinReqVersionForDefaultModelIdSupport() {
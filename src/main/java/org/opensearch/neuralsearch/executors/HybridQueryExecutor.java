@@ -4,22 +4,43 @@
  */
 package org.opensearch.neuralsearch.executors;
 
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.experimental.PackagePrivate;
 import org.apache.lucene.search.TaskExecutor;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_MAX_CONCURRENCY;
+
 /**
  * {@link HybridQueryExecutor} provides necessary implementation and instances to execute
  * sub-queries from hybrid query in parallel as a Task by caller. This ensures that one thread pool
  * is used for hybrid query execution per node. The number of parallelization is also constrained
  * by twice allocated processor count since most of the operation from hybrid search is expected to be
  * short-lived thread. This will help us to achieve optimal parallelization and reasonable throughput.
+ * <p>
+ * Tasks are never queued behind tasks of other queries: a task is forked to the thread pool only if one of its threads is
+ * free, and every parallel step of a query forks at most the number of tasks defined by max fan-out setting. Tasks that are
+ * not forked are executed by the search thread, see {@link FanOutLimitingExecutor}.
+ * <p>
+ * Optionally tasks run on virtual threads instead of the fixed thread pool. In this mode the number of running tasks is
+ * limited by the max concurrency setting instead of the number of threads of the pool.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class HybridQueryExecutor {
@@ -28,7 +49,12 @@ public final class HybridQueryExecutor {
     private static final Integer MAX_THREAD_SIZE = 1000;
     private static final Integer MIN_THREAD_SIZE = 2;
     private static final Integer PROCESSOR_COUNT_MULTIPLIER = 2;
-    private static TaskExecutor taskExecutor;
+    private static final String VIRTUAL_THREAD_NAME_PREFIX = HYBRID_QUERY_EXEC_THREAD_POOL_NAME + "[virtual]-";
+    private static final AtomicInteger runningTasks = new AtomicInteger();
+    private static Executor executor;
+    private static int maxRunningTasks;
+    private static volatile int maxFanOut = HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT.get(Settings.EMPTY);
+    private static volatile HybridQueryExecutorMetrics metrics;
 
     /**
      * Provide fixed executor builder to use for hybrid query executors
@@ -50,22 +76,41 @@ public final class HybridQueryExecutor {
     /**
      * Initialize @{@link TaskExecutor} to run tasks concurrently using {@link ThreadPool}
      * @param threadPool OpenSearch's thread pool instance
+     * @param clusterService cluster service of the node, used to keep max fan-out in sync with dynamic cluster setting
      */
-    public static void initialize(ThreadPool threadPool) {
+    public static void initialize(ThreadPool threadPool, ClusterService clusterService) {
         if (threadPool == null) {
             throw new IllegalArgumentException(
                 "Argument thread-pool to Hybrid Query Executor cannot be null. This is required to build executor to run actions in parallel"
             );
         }
-        taskExecutor = new TaskExecutor(threadPool.executor(HYBRID_QUERY_EXEC_THREAD_POOL_NAME));
+        Settings settings = clusterService.getSettings();
+        if (HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED.get(settings)) {
+            executor = createVirtualThreadExecutor(threadPool.getThreadContext());
+            maxRunningTasks = HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_MAX_CONCURRENCY.get(settings);
+        } else {
+            executor = threadPool.executor(HYBRID_QUERY_EXEC_THREAD_POOL_NAME);
+            maxRunningTasks = getFixedNumberOfThreadSize(settings);
+        }
+        maxFanOut = HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT, value -> maxFanOut = value);
+    }
+
+    /**
+     * Initialize metrics of the executor, metrics are not recorded until initialized
+     * @param metricsRegistry OpenSearch's metrics registry
+     */
+    public static void initializeMetrics(MetricsRegistry metricsRegistry) {
+        metrics = HybridQueryExecutorMetrics.create(metricsRegistry);
     }
 
     /**
-     * Return TaskExecutor Wrapper that helps runs tasks concurrently
+     * Return TaskExecutor Wrapper that helps runs tasks concurrently. Returned instance is meant for one parallel step
+     * of a query, as fan-out limit is applied per instance.
      * @return TaskExecutor instance to help run search tasks in parallel
      */
     public static TaskExecutor getExecutor() {
-        return taskExecutor != null ? taskExecutor : new TaskExecutor(Runnable::run);
+        return executor != null ? new TaskExecutor(new FanOutLimitingExecutor(maxFanOut)) : new TaskExecutor(Runnable::run);
     }
 
     @PackagePrivate
@@ -83,4 +128,78 @@ public final class HybridQueryExecutor {
         int threadSize = Math.max(PROCESSOR_COUNT_MULTIPLIER * allocatedProcessors, MIN_THREAD_SIZE);
         return Math.min(threadSize, MAX_THREAD_SIZE);
     }
+
+    /**
+     * Create executor that starts a new virtual thread for every task. Unlike executors of OpenSearch thread pool it doesn't
+     * propagate thread context by itself, so the context of the submitting thread is preserved explicitly.
+     */
+    private static Executor createVirtualThreadExecutor(final ThreadContext threadContext) {
+        ExecutorService virtualThreadExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name(VIRTUAL_THREAD_NAME_PREFIX, 0).factory()
+        );
+        return task -> virtualThreadExecutor.execute(threadContext.preserveContext(task));
+    }
+
+    // lock-free check that the pool has a free thread, so forked task starts right away and doesn't wait in the queue
+    private static boolean tryAcquireThread() {
+        int running;
+        do {
+            running = runningTasks.get();
+            if (running >= maxRunningTasks) {
+                return false;
+            }
+        } while (!runningTasks.compareAndSet(running, running + 1));
+        return true;
+    }
+
+    /**
+     * Executor used by {@link TaskExecutor} for one parallel step of a query. {@link TaskExecutor} forks runnables that take
+     * the next not started task of the step, and the calling thread keeps executing not started tasks until all of them are
+     * done, so tasks are spread between forked threads and the search thread as they become free. A runnable that would
+     * exceed the fan-out limit, or that can't get a free thread of the pool, is executed inline by the search thread.
+     */
+    private static final class FanOutLimitingExecutor implements Executor {
+        private final int maxFanOut;
+        // execute is called only by the thread that invokes TaskExecutor, no synchronization is needed
+        private int forkedTasks;
+
+        FanOutLimitingExecutor(final int maxFanOut) {
+            this.maxFanOut = maxFanOut;
+        }
+
+        @Override
+        public void execute(final Runnable task) {
+            if (forkedTasks >= maxFanOut || !tryAcquireThread()) {
+                runInline(task);
+                return;
+            }
+            forkedTasks++;
+            long submitTime = System.nanoTime();
+            try {
+                executor.execute(() -> {
+                    long startTime = System.nanoTime();
+                    try {
+                        task.run();
+                    } finally {
+                        runningTasks.decrementAndGet();
+                        HybridQueryExecutorMetrics currentMetrics = metrics;
+                        if (Objects.nonNull(currentMetrics)) {
+                            currentMetrics.recordForkedTask(startTime - submitTime, System.nanoTime() - startTime);
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                runningTasks.decrementAndGet();
+                runInline(task);
+            }
+        }
+
+        private void runInline(final Runnable task) {
+            HybridQueryExecutorMetrics currentMetrics = metrics;
+            if (Objects.nonNull(currentMetrics)) {
+                currentMetrics.recordInlineTask();
+            }
+            task.run();
+        }
+    }
 }
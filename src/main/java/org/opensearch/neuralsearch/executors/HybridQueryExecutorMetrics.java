@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.telemetry.metrics.Counter;
+import org.opensearch.telemetry.metrics.Histogram;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/**
+ * Metrics of {@link HybridQueryExecutor} reported with OpenSearch telemetry. Queue size, active threads and rejections of the
+ * thread pool are already part of thread pool stats, these metrics add the number of tasks forked to the pool, the number of
+ * tasks executed inline by the search thread, and time forked tasks spend in the queue and running.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class HybridQueryExecutorMetrics {
+    static final String FORKED_TASKS_METRIC_NAME = "neural_search.hybrid_query_executor.forked_tasks";
+    static final String INLINE_TASKS_METRIC_NAME = "neural_search.hybrid_query_executor.inline_tasks";
+    static final String QUEUE_LATENCY_METRIC_NAME = "neural_search.hybrid_query_executor.queue_latency";
+    static final String EXECUTION_LATENCY_METRIC_NAME = "neural_search.hybrid_query_executor.execution_latency";
+    private static final String COUNT_UNIT = "1";
+    private static final String LATENCY_UNIT = "ms";
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Counter forkedTasks;
+    private final Counter inlineTasks;
+    private final Histogram queueLatency;
+    private final Histogram executionLatency;
+
+    /**
+     * Create metrics of hybrid query executor
+     * @param metricsRegistry OpenSearch's metrics registry
+     * @return metrics instance
+     */
+    static HybridQueryExecutorMetrics create(final MetricsRegistry metricsRegistry) {
+        return new HybridQueryExecutorMetrics(
+            metricsRegistry.createCounter(FORKED_TASKS_METRIC_NAME, "Number of hybrid query tasks forked to the thread pool", COUNT_UNIT),
+            metricsRegistry.createCounter(
+                INLINE_TASKS_METRIC_NAME,
+                "Number of hybrid query tasks executed by the search thread",
+                COUNT_UNIT
+            ),
+            metricsRegistry.createHistogram(
+                QUEUE_LATENCY_METRIC_NAME,
+                "Time hybrid query tasks wait in the queue of the thread pool",
+                LATENCY_UNIT
+            ),
+            metricsRegistry.createHistogram(EXECUTION_LATENCY_METRIC_NAME, "Execution time of forked hybrid query tasks", LATENCY_UNIT)
+        );
+    }
+
+    void recordInlineTask() {
+        inlineTasks.add(1);
+    }
+
+    void recordForkedTask(final long queueTimeInNanos, final long executionTimeInNanos) {
+        forkedTasks.add(1);
+        queueLatency.record(queueTimeInNanos / NANOS_PER_MILLI);
+        executionLatency.record(executionTimeInNanos / NANOS_PER_MILLI);
+    }
+}
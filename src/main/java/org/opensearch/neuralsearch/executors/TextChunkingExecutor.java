@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import java.util.concurrent.Executor;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.experimental.PackagePrivate;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * {@link TextChunkingExecutor} provides the bounded thread pool used by text chunking processor to tokenize and chunk
+ * strings of a batch of ingest documents in parallel. Tokenization is CPU bound, so the number of threads is limited
+ * by allocated processor count, and the queue is bounded so a large bulk request cannot hold an unlimited number of tasks.
+ * Work that follows chunking, like writing back results and the rest of the ingest pipeline, is handed off to the generic
+ * thread pool so it doesn't occupy chunking threads.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextChunkingExecutor {
+    private static final String TEXT_CHUNKING_EXEC_THREAD_POOL_NAME = "_plugin_neural_search_text_chunking_executor";
+    private static final Integer TEXT_CHUNKING_EXEC_THREAD_POOL_QUEUE_SIZE = 1000;
+    private static final Integer MIN_THREAD_SIZE = 1;
+    private static Executor executor;
+    private static Executor continuationExecutor;
+
+    /**
+     * Provide fixed executor builder to use for text chunking executor
+     * @param settings Node level settings
+     * @return the executor builder for text chunking custom thread pool.
+     */
+    public static ExecutorBuilder getExecutorBuilder(final Settings settings) {
+        int numberOfThreads = Math.max(OpenSearchExecutors.allocatedProcessors(settings), MIN_THREAD_SIZE);
+        return new FixedExecutorBuilder(
+            settings,
+            TEXT_CHUNKING_EXEC_THREAD_POOL_NAME,
+            numberOfThreads,
+            TEXT_CHUNKING_EXEC_THREAD_POOL_QUEUE_SIZE,
+            TEXT_CHUNKING_EXEC_THREAD_POOL_NAME
+        );
+    }
+
+    /**
+     * Initialize {@link Executor} to run chunking tasks concurrently using {@link ThreadPool}
+     * @param threadPool OpenSearch's thread pool instance
+     */
+    public static void initialize(ThreadPool threadPool) {
+        if (threadPool == null) {
+            throw new IllegalArgumentException(
+                "Argument thread-pool to Text Chunking Executor cannot be null. This is required to build executor to run chunking tasks"
+            );
+        }
+        executor = threadPool.executor(TEXT_CHUNKING_EXEC_THREAD_POOL_NAME);
+        continuationExecutor = threadPool.generic();
+    }
+
+    /**
+     * Return executor for chunking tasks, tasks are executed by the caller thread if executor is not initialized
+     * @return Executor instance to run chunking tasks in parallel
+     */
+    public static Executor getExecutor() {
+        return executor != null ? executor : Runnable::run;
+    }
+
+    /**
+     * Return executor for work that follows chunking of a batch, tasks are executed by the caller thread if executor is not
+     * initialized
+     * @return Executor instance to continue processing of chunked documents
+     */
+    public static Executor getContinuationExecutor() {
+        return continuationExecutor != null ? continuationExecutor : Runnable::run;
+    }
+
+    @PackagePrivate
+    public static String getThreadPoolName() {
+        return TEXT_CHUNKING_EXEC_THREAD_POOL_NAME;
+    }
+}
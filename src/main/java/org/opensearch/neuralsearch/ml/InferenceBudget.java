@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/**
+ * Cancellation and remaining time of the search request that triggers model inference. Budget is put into the thread context
+ * by {@link InferenceBudgetActionFilter}, and {@link MLCommonsClientAccessor} binds inference listeners to it, so inference
+ * of a cancelled or timed out search is abandoned instead of holding the search until the model responds. Cancellation of the
+ * task and cancel_after_time_interval fail the search, while the search timeout is best-effort like in the query phase and
+ * only makes the query waiting for inference skip it, see {@link InferenceTimeoutException}.
+ */
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class InferenceBudget {
+    static final String THREAD_CONTEXT_KEY = "_neural_search_inference_budget";
+    // cancellation of the task can't be observed, it's checked periodically while inference is in progress
+    private static final long CANCELLATION_CHECK_INTERVAL_IN_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Task task;
+    // deadlines are relative to System.nanoTime(), Long.MAX_VALUE if not set. Search fails when cancel deadline is exceeded,
+    // query skips inference when timeout deadline is exceeded
+    private final long cancelDeadlineInNanos;
+    private final long timeoutDeadlineInNanos;
+    private final ThreadPool threadPool;
+
+    /**
+     * Create budget for the search request. Deadlines are based on the start of the search task, cancel deadline on
+     * cancel_after_time_interval and timeout deadline on search timeout of the request. If the request doesn't allow partial
+     * results, search timeout fails the search as well.
+     * @param task search task
+     * @param searchRequest search request
+     * @param threadPool thread pool used to check the budget while inference is in progress
+     * @return inference budget of the search request
+     */
+    static InferenceBudget create(final Task task, final SearchRequest searchRequest, final ThreadPool threadPool) {
+        long cancelDeadlineInNanos = Long.MAX_VALUE;
+        if (isSet(searchRequest.getCancelAfterTimeInterval())) {
+            cancelDeadlineInNanos = task.getStartTimeNanos() + searchRequest.getCancelAfterTimeInterval().nanos();
+        }
+        long timeoutDeadlineInNanos = Long.MAX_VALUE;
+        if (Objects.nonNull(searchRequest.source()) && isSet(searchRequest.source().timeout())) {
+            timeoutDeadlineInNanos = task.getStartTimeNanos() + searchRequest.source().timeout().nanos();
+        }
+        // allow_partial_search_results is resolved from cluster default later, partial results are allowed by default
+        if (Boolean.FALSE.equals(searchRequest.allowPartialSearchResults())) {
+            cancelDeadlineInNanos = Math.min(cancelDeadlineInNanos, timeoutDeadlineInNanos);
+        }
+        return new InferenceBudget(task, cancelDeadlineInNanos, timeoutDeadlineInNanos, threadPool);
+    }
+
+    /**
+     * Bind the listener of the inference to the budget. Returned listener fails with {@link TaskCancelledException} if the search
+     * task is cancelled, with {@link OpenSearchTimeoutException} if the search runs out of cancel_after_time_interval, and with
+     * {@link InferenceTimeoutException} if the search timeout is exceeded before inference completes. The response or failure
+     * arriving afterward is dropped.
+     * @param listener listener of the inference
+     * @return listener that is notified once, when inference completes or the budget is exhausted
+     * @param <T> type of inference result
+     */
+    <T> ActionListener<T> bind(final ActionListener<T> listener) {
+        BoundListener<T> boundListener = new BoundListener<>(listener);
+        boundListener.checkBudget();
+        return boundListener;
+    }
+
+    /**
+     * Check if budget is exhausted, called before every model call including retries
+     * @return exception describing why budget is exhausted, null if budget is not exhausted
+     */
+    Exception checkExhausted() {
+        if (task instanceof CancellableTask && ((CancellableTask) task).isCancelled()) {
+            return new TaskCancelledException(
+                String.format(Locale.ROOT, "search task [%d] is cancelled, model inference is abandoned", task.getId())
+            );
+        }
+        if (getRemainingNanos(cancelDeadlineInNanos) <= 0) {
+            return new OpenSearchTimeoutException(
+                String.format(Locale.ROOT, "search task [%d] timed out waiting for model inference", task.getId())
+            );
+        }
+        if (getRemainingNanos(timeoutDeadlineInNanos) <= 0) {
+            return new InferenceTimeoutException(
+                String.format(Locale.ROOT, "search task [%d] exceeded search timeout waiting for model inference", task.getId())
+            );
+        }
+        return null;
+    }
+
+    private static long getRemainingNanos(final long deadlineInNanos) {
+        return deadlineInNanos == Long.MAX_VALUE ? Long.MAX_VALUE : deadlineInNanos - System.nanoTime();
+    }
+
+    private static boolean isSet(final TimeValue timeValue) {
+        return Objects.nonNull(timeValue) && timeValue.nanos() >= 0;
+    }
+
+    private final class BoundListener<T> implements ActionListener<T> {
+        private final ActionListener<T> delegate;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile Scheduler.ScheduledCancellable scheduledCheck;
+
+        private BoundListener(final ActionListener<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onResponse(final T response) {
+            Exception exhausted = checkExhausted();
+            if (Objects.nonNull(exhausted)) {
+                onFailure(exhausted);
+                return;
+            }
+            if (complete()) {
+                delegate.onResponse(response);
+            }
+        }
+
+        @Override
+        public void onFailure(final Exception e) {
+            if (complete()) {
+                delegate.onFailure(e);
+            }
+        }
+
+        private boolean complete() {
+            if (!completed.compareAndSet(false, true)) {
+                return false;
+            }
+            Scheduler.ScheduledCancellable check = scheduledCheck;
+            if (Objects.nonNull(check)) {
+                check.cancel();
+            }
+            return true;
+        }
+
+        private void checkBudget() {
+            if (completed.get()) {
+                return;
+            }
+            Exception exhausted = checkExhausted();
+            if (Objects.nonNull(exhausted)) {
+                onFailure(exhausted);
+                return;
+            }
+            long delayInNanos = Math.min(
+                Math.min(getRemainingNanos(cancelDeadlineInNanos), getRemainingNanos(timeoutDeadlineInNanos)),
+                CANCELLATION_CHECK_INTERVAL_IN_NANOS
+            );
+            scheduledCheck = threadPool.schedule(this::checkBudget, TimeValue.timeValueNanos(delayInNanos), ThreadPool.Names.GENERIC);
+            // inference may complete while the check is being scheduled
+            if (completed.get()) {
+                scheduledCheck.cancel();
+            }
+        }
+    }
+}
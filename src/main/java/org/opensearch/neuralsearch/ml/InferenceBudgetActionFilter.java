@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.Objects;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.ActionFilter;
+import org.opensearch.action.support.ActionFilterChain;
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Puts {@link InferenceBudget} of the search request into the thread context, so model inference of query rewrite and search
+ * response processors started by the request can be abandoned when the search is cancelled or runs out of time
+ */
+@RequiredArgsConstructor
+public class InferenceBudgetActionFilter implements ActionFilter {
+    private final ThreadPool threadPool;
+
+    @Override
+    public int order() {
+        // budget must be in place before any other filter may start the search
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public <Request extends ActionRequest, Response extends ActionResponse> void apply(
+        final Task task,
+        final String action,
+        final Request request,
+        final ActionListener<Response> listener,
+        final ActionFilterChain<Request, Response> chain
+    ) {
+        ThreadContext threadContext = threadPool.getThreadContext();
+        // budget of the outer request is kept for searches executed by other actions
+        if (!SearchAction.NAME.equals(action)
+            || !(request instanceof SearchRequest)
+            || Objects.nonNull(threadContext.getTransient(InferenceBudget.THREAD_CONTEXT_KEY))) {
+            chain.proceed(task, action, request, listener);
+            return;
+        }
+        InferenceBudget inferenceBudget = InferenceBudget.create(task, (SearchRequest) request, threadPool);
+        ActionListener<Response> restoringListener = new ContextPreservingActionListener<>(
+            threadContext.newRestorableContext(false),
+            listener
+        );
+        try (ThreadContext.StoredContext ignored = threadContext.newStoredContext(true)) {
+            threadContext.putTransient(InferenceBudget.THREAD_CONTEXT_KEY, inferenceBudget);
+            chain.proceed(task, action, request, restoringListener);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import org.opensearch.OpenSearchTimeoutException;
+
+/**
+ * Exception thrown when the search timeout is exceeded while waiting for model inference. Search timeout is best-effort,
+ * so the query waiting for inference is skipped and the search returns partial results instead of failing.
+ */
+public class InferenceTimeoutException extends OpenSearchTimeoutException {
+
+    public InferenceTimeoutException(final String message) {
+        super(message);
+    }
+}
@@ -11,8 +11,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.ml.client.MachineLearningNodeClient;
@@ -37,12 +39,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 /**
- * This class will act as an abstraction on the MLCommons client for accessing the ML Capabilities
+ * This class will act as an abstraction on the MLCommons client for accessing the ML Capabilities. Inference started by a
+ * search request is bound to the {@link InferenceBudget} of the request, if one is present in the thread context.
  */
 @RequiredArgsConstructor
 @Log4j2
 public class MLCommonsClientAccessor {
     private final MachineLearningNodeClient mlClient;
+    // null if inference budget of search requests is not tracked
+    private final ThreadContext threadContext;
 
     /**
      * Wrapper around {@link #inferenceSentences} that expected a single input text and produces a single floating
@@ -89,14 +94,14 @@ public class MLCommonsClientAccessor {
         @NonNull final TextInferenceRequest inferenceRequest,
         @NonNull final ActionListener<List<List<Number>>> listener
     ) {
-        retryableInferenceSentencesWithVectorResult(inferenceRequest, 0, listener);
+        retryableInferenceSentencesWithVectorResult(inferenceRequest, 0, bindToInferenceBudget(listener));
     }
 
     public void inferenceSentencesWithMapResult(
         @NonNull final TextInferenceRequest inferenceRequest,
         @NonNull final ActionListener<List<Map<String, ?>>> listener
     ) {
-        retryableInferenceSentencesWithMapResult(inferenceRequest, 0, listener);
+        retryableInferenceSentencesWithMapResult(inferenceRequest, 0, bindToInferenceBudget(listener));
     }
 
     /**
@@ -108,7 +113,7 @@ public class MLCommonsClientAccessor {
      * @param listener {@link ActionListener} which will be called when prediction is completed or errored out.
      */
     public void inferenceSentencesMap(@NonNull MapInferenceRequest inferenceRequest, @NonNull final ActionListener<List<Number>> listener) {
-        retryableInferenceSentencesWithSingleVectorResult(inferenceRequest, 0, listener);
+        retryableInferenceSentencesWithSingleVectorResult(inferenceRequest, 0, bindToInferenceBudget(listener));
     }
 
     /**
@@ -123,7 +128,7 @@ public class MLCommonsClientAccessor {
         @NonNull SimilarityInferenceRequest inferenceRequest,
         @NonNull final ActionListener<List<Float>> listener
     ) {
-        retryableInferenceSimilarityWithVectorResult(inferenceRequest, 0, listener);
+        retryableInferenceSimilarityWithVectorResult(inferenceRequest, 0, bindToInferenceBudget(listener));
     }
 
     private void retryableInferenceSentencesWithMapResult(
@@ -132,7 +137,7 @@ public class MLCommonsClientAccessor {
         final ActionListener<List<Map<String, ?>>> listener
     ) {
         MLInput mlInput = createMLTextInput(null, inferenceRequest.getInputTexts());
-        mlClient.predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+        predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
             final List<Map<String, ?>> result = buildMapResultFromResponse(mlOutput);
             listener.onResponse(result);
         },
@@ -151,7 +156,7 @@ public class MLCommonsClientAccessor {
         final ActionListener<List<List<Number>>> listener
     ) {
         MLInput mlInput = createMLTextInput(inferenceRequest.getTargetResponseFilters(), inferenceRequest.getInputTexts());
-        mlClient.predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+        predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
             final List<List<Number>> vector = buildVectorFromResponse(mlOutput);
             listener.onResponse(vector);
         },
@@ -170,7 +175,7 @@ public class MLCommonsClientAccessor {
         final ActionListener<List<Float>> listener
     ) {
         MLInput mlInput = createMLTextPairsInput(inferenceRequest.getQueryText(), inferenceRequest.getInputTexts());
-        mlClient.predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+        predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
             final List<Float> scores = buildVectorFromResponse(mlOutput).stream()
                 .map(v -> v.getFirst().floatValue())
                 .collect(Collectors.toList());
@@ -185,6 +190,26 @@ public class MLCommonsClientAccessor {
         ));
     }
 
+    private void predict(final String modelId, final MLInput mlInput, final ActionListener<MLOutput> listener) {
+        // model is not called, also on retry, once search that started inference is cancelled or timed out
+        InferenceBudget inferenceBudget = getInferenceBudget();
+        Exception budgetExhausted = Objects.isNull(inferenceBudget) ? null : inferenceBudget.checkExhausted();
+        if (Objects.nonNull(budgetExhausted)) {
+            listener.onFailure(budgetExhausted);
+            return;
+        }
+        mlClient.predict(modelId, mlInput, listener);
+    }
+
+    private <T> ActionListener<T> bindToInferenceBudget(final ActionListener<T> listener) {
+        InferenceBudget inferenceBudget = getInferenceBudget();
+        return Objects.isNull(inferenceBudget) ? listener : inferenceBudget.bind(listener);
+    }
+
+    private InferenceBudget getInferenceBudget() {
+        return Objects.isNull(threadContext) ? null : threadContext.getTransient(InferenceBudget.THREAD_CONTEXT_KEY);
+    }
+
     private MLInput createMLTextInput(final List<String> targetResponseFilters, List<String> inputText) {
         final ModelResultFilter modelResultFilter = new ModelResultFilter(false, true, targetResponseFilters, null);
         final MLInputDataset inputDataset = new TextDocsInputDataSet(inputText, modelResultFilter);
@@ -238,7 +263,7 @@ public class MLCommonsClientAccessor {
         final ActionListener<List<Number>> listener
     ) {
         MLInput mlInput = createMLMultimodalInput(inferenceRequest.getTargetResponseFilters(), inferenceRequest.getInputObjects());
-        mlClient.predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+        predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
             final List<Number> vector = buildSingleVectorFromResponse(mlOutput);
             log.debug("Inference Response for input sentence is : {} ", vector);
             listener.onResponse(vector);
@@ -4,6 +4,13 @@
  */
 package org.opensearch.neuralsearch.plugin;
 
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.EMBEDDING_CACHE_DISK_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.EMBEDDING_CACHE_INDEX_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_MAX_CONCURRENCY;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_MAX_SUB_QUERIES;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_RESULTS_CACHE_SIZE;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.NEURAL_SEARCH_HYBRID_SEARCH_DISABLED;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.RERANKER_MAX_DOC_FIELDS;
 
@@ -15,6 +22,7 @@ import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.opensearch.transport.client.Client;
+import org.opensearch.action.support.ActionFilter;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Setting;
@@ -27,6 +35,8 @@ import org.opensearch.env.NodeEnvironment;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
+import org.opensearch.neuralsearch.executors.TextChunkingExecutor;
+import org.opensearch.neuralsearch.ml.InferenceBudgetActionFilter;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.NeuralQueryEnricherProcessor;
 import org.opensearch.neuralsearch.processor.NeuralSparseTwoPhaseProcessor;
@@ -38,7 +48,9 @@ import org.opensearch.neuralsearch.processor.TextChunkingProcessor;
 import org.opensearch.neuralsearch.processor.TextImageEmbeddingProcessor;
 import org.opensearch.neuralsearch.processor.RRFProcessor;
 import org.opensearch.neuralsearch.processor.NormalizationProcessor;
+import org.opensearch.neuralsearch.processor.cache.EmbeddingCache;
 import org.opensearch.neuralsearch.processor.combination.ScoreCombinationFactory;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombinationTechniqueProvider;
 import org.opensearch.neuralsearch.processor.combination.ScoreCombiner;
 import org.opensearch.neuralsearch.processor.factory.ExplanationResponseProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.TextChunkingProcessorFactory;
@@ -56,6 +68,8 @@ import org.opensearch.neuralsearch.query.NeuralQueryBuilder;
 import org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder;
 import org.opensearch.neuralsearch.query.ext.RerankSearchExtBuilder;
 import org.opensearch.neuralsearch.search.query.HybridQueryPhaseSearcher;
+import org.opensearch.neuralsearch.search.query.HybridQueryResultsCache;
+import org.opensearch.neuralsearch.util.IndexSettingsCache;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
 import org.opensearch.plugins.ActionPlugin;
 import org.opensearch.plugins.ExtensiblePlugin;
@@ -63,12 +77,15 @@ import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.SearchPipelinePlugin;
 import org.opensearch.plugins.SearchPlugin;
+import org.opensearch.plugins.TelemetryAwarePlugin;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
 import org.opensearch.search.pipeline.SearchPhaseResultsProcessor;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
 import org.opensearch.search.pipeline.SearchResponseProcessor;
 import org.opensearch.search.query.QueryPhaseSearcher;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.watcher.ResourceWatcherService;
@@ -79,8 +96,16 @@ import lombok.extern.log4j.Log4j2;
  * Neural Search plugin class
  */
 @Log4j2
-public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin, IngestPlugin, ExtensiblePlugin, SearchPipelinePlugin {
+public class NeuralSearch extends Plugin
+    implements
+        ActionPlugin,
+        SearchPlugin,
+        IngestPlugin,
+        ExtensiblePlugin,
+        SearchPipelinePlugin,
+        TelemetryAwarePlugin {
     private MLCommonsClientAccessor clientAccessor;
+    private ThreadPool threadPool;
     private NormalizationProcessorWorkflow normalizationProcessorWorkflow;
     private final ScoreNormalizationFactory scoreNormalizationFactory = new ScoreNormalizationFactory();
     private final ScoreCombinationFactory scoreCombinationFactory = new ScoreCombinationFactory();
@@ -101,13 +126,58 @@ public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin,
         final Supplier<RepositoriesService> repositoriesServiceSupplier
     ) {
         NeuralSearchClusterUtil.instance().initialize(clusterService);
+        IndexSettingsCache.instance().initialize(clusterService);
         NeuralQueryBuilder.initialize(clientAccessor);
         NeuralSparseQueryBuilder.initialize(clientAccessor);
-        HybridQueryExecutor.initialize(threadPool);
+        HybridQueryBuilder.initialize(clusterService);
+        HybridQueryExecutor.initialize(threadPool, clusterService);
+        this.threadPool = threadPool;
+        HybridQueryResultsCache.instance().initialize(clusterService.getSettings());
+        EmbeddingCache.instance()
+            .initialize(clusterService.getSettings(), nodeEnvironment.nodeDataPaths()[0].resolve(EmbeddingCache.DIRECTORY_NAME));
+        TextChunkingExecutor.initialize(threadPool);
         normalizationProcessorWorkflow = new NormalizationProcessorWorkflow(new ScoreNormalizer(), new ScoreCombiner());
         return List.of(clientAccessor);
     }
 
+    @Override
+    public Collection<Object> createComponents(
+        final Client client,
+        final ClusterService clusterService,
+        final ThreadPool threadPool,
+        final ResourceWatcherService resourceWatcherService,
+        final ScriptService scriptService,
+        final NamedXContentRegistry xContentRegistry,
+        final Environment environment,
+        final NodeEnvironment nodeEnvironment,
+        final NamedWriteableRegistry namedWriteableRegistry,
+        final IndexNameExpressionResolver indexNameExpressionResolver,
+        final Supplier<RepositoriesService> repositoriesServiceSupplier,
+        final Tracer tracer,
+        final MetricsRegistry metricsRegistry
+    ) {
+        // components are created by the method without telemetry, here only the metrics are registered
+        HybridQueryExecutor.initializeMetrics(metricsRegistry);
+        return List.of();
+    }
+
+    @Override
+    public void close() {
+        EmbeddingCache.instance().close();
+    }
+
+    @Override
+    public void loadExtensions(final ExtensionLoader loader) {
+        for (ScoreCombinationTechniqueProvider provider : loader.loadExtensions(ScoreCombinationTechniqueProvider.class)) {
+            provider.getScoreCombinationTechniques().forEach(scoreCombinationFactory::registerCombinationTechnique);
+        }
+    }
+
+    @Override
+    public List<ActionFilter> getActionFilters() {
+        return List.of(new InferenceBudgetActionFilter(threadPool));
+    }
+
     @Override
     public List<QuerySpec<?>> getQueries() {
         return Arrays.asList(
@@ -119,12 +189,12 @@ public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin,
 
     @Override
     public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
-        return List.of(HybridQueryExecutor.getExecutorBuilder(settings));
+        return List.of(HybridQueryExecutor.getExecutorBuilder(settings), TextChunkingExecutor.getExecutorBuilder(settings));
     }
 
     @Override
     public Map<String, Processor.Factory> getProcessors(Processor.Parameters parameters) {
-        clientAccessor = new MLCommonsClientAccessor(new MachineLearningNodeClient(parameters.client));
+        clientAccessor = new MLCommonsClientAccessor(new MachineLearningNodeClient(parameters.client), parameters.threadContext);
         return Map.of(
             TextEmbeddingProcessor.TYPE,
             new TextEmbeddingProcessorFactory(clientAccessor, parameters.env, parameters.ingestService.getClusterService()),
@@ -167,7 +237,17 @@ public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin,
 
     @Override
     public List<Setting<?>> getSettings() {
-        return List.of(NEURAL_SEARCH_HYBRID_SEARCH_DISABLED, RERANKER_MAX_DOC_FIELDS);
+        return List.of(
+            NEURAL_SEARCH_HYBRID_SEARCH_DISABLED,
+            RERANKER_MAX_DOC_FIELDS,
+            HYBRID_QUERY_MAX_SUB_QUERIES,
+            HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT,
+            HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED,
+            HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_MAX_CONCURRENCY,
+            HYBRID_QUERY_RESULTS_CACHE_SIZE,
+            EMBEDDING_CACHE_DISK_SIZE,
+            EMBEDDING_CACHE_INDEX_SIZE
+        );
     }
 
     @Override
@@ -13,8 +13,11 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -36,11 +39,14 @@ import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.cache.EmbeddingCache;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 
 import lombok.extern.log4j.Log4j2;
+import org.opensearch.neuralsearch.util.IndexSettingsCache;
+import org.opensearch.neuralsearch.util.IndexSettingsCache.SourceFilter;
 import org.opensearch.neuralsearch.util.ProcessorDocumentUtils;
 
 /**
@@ -53,6 +59,8 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
 
     public static final String MODEL_ID_FIELD = "model_id";
     public static final String FIELD_MAP_FIELD = "field_map";
+    // processor doesn't exclude generated fields itself, _source.excludes of the index mapping must exclude them
+    public static final String REQUIRE_SOURCE_EXCLUDES_FIELD = "require_source_excludes";
     private static final BiFunction<Object, Object, Object> REMAPPING_FUNCTION = (v1, v2) -> {
         if (v1 instanceof Collection && v2 instanceof Collection) {
             ((Collection) v1).addAll((Collection) v2);
@@ -73,7 +81,21 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
 
     protected final String modelId;
 
-    private final Map<String, Object> fieldMap;
+    // field map compiled once per processor, documents are traversed by the plan without parsing the field map
+    private final List<FieldMapNode> fieldMapPlan;
+
+    // field map with keys split by dots, used to validate field values of every document
+    private final Map<String, Object> unflattenedFieldMap;
+
+    // if true, documents fail unless fields generated by the processor are excluded by _source.excludes of the index mapping
+    private final boolean requireSourceExcludes;
+
+    // generated fields stored in _source by the source filter, mapping is checked once per distinct source filter of the
+    // target indices rather than for every document
+    private final Map<SourceFilter, List<String>> storedFieldPathsBySourceFilter = new ConcurrentHashMap<>();
+
+    // dotted paths of fields generated by the processor, list outputs of the processor are objects under these paths
+    private final List<String> generatedFieldPaths;
 
     protected final MLCommonsClientAccessor mlCommonsClientAccessor;
 
@@ -88,6 +110,7 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         String listTypeNestedMapKey,
         String modelId,
         Map<String, Object> fieldMap,
+        boolean requireSourceExcludes,
         MLCommonsClientAccessor clientAccessor,
         Environment environment,
         ClusterService clusterService
@@ -98,7 +121,10 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         validateEmbeddingConfiguration(fieldMap);
         this.listTypeNestedMapKey = listTypeNestedMapKey;
         this.modelId = modelId;
-        this.fieldMap = fieldMap;
+        this.fieldMapPlan = compileFieldMap(fieldMap);
+        this.unflattenedFieldMap = ProcessorDocumentUtils.unflattenJson(fieldMap);
+        this.requireSourceExcludes = requireSourceExcludes;
+        this.generatedFieldPaths = collectGeneratedFieldPaths(fieldMapPlan, "", new ArrayList<>());
         this.mlCommonsClientAccessor = clientAccessor;
         this.environment = environment;
         this.clusterService = clusterService;
@@ -139,10 +165,16 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         try {
             preprocessIngestDocument(ingestDocument);
             validateEmbeddingFieldsValue(ingestDocument);
+            validateSourceExcludes(ingestDocument);
             Map<String, Object> processMap = buildMapWithTargetKeys(ingestDocument);
             List<String> inferenceList = createInferenceList(processMap);
             if (inferenceList.size() == 0) {
                 handler.accept(ingestDocument, null);
+            } else if (EmbeddingCache.instance().isEnabled()) {
+                inferenceWithEmbeddingCache(inferenceList, results -> {
+                    setVectorFieldsToDocument(ingestDocument, processMap, results);
+                    handler.accept(ingestDocument, null);
+                }, e -> handler.accept(null, e));
             } else {
                 doExecute(ingestDocument, processMap, inferenceList, handler);
             }
@@ -151,13 +183,33 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         }
     }
 
+    /**
+     * Unflatten fields of the document that can be read by the field map. Only top level fields which names start with
+     * a top level key of the field map are unflattened, and only if any of them has a field name with dot at some level,
+     * other fields of the document are not copied and stay as they are.
+     * @param ingestDocument document to preprocess
+     */
     @VisibleForTesting
     void preprocessIngestDocument(IngestDocument ingestDocument) {
         if (ingestDocument == null || ingestDocument.getSourceAndMetadata() == null) return;
         Map<String, Object> sourceAndMetadataMap = ingestDocument.getSourceAndMetadata();
-        Map<String, Object> unflattened = ProcessorDocumentUtils.unflattenJson(sourceAndMetadataMap);
+        Map<String, Object> fieldsToUnflatten = new HashMap<>();
+        boolean hasDottedKey = false;
+        for (Map.Entry<String, Object> entry : sourceAndMetadataMap.entrySet()) {
+            String key = entry.getKey();
+            int dotIndex = key.indexOf('.');
+            if (!unflattenedFieldMap.containsKey(dotIndex == -1 ? key : key.substring(0, dotIndex))) {
+                continue;
+            }
+            fieldsToUnflatten.put(key, entry.getValue());
+            hasDottedKey = hasDottedKey || dotIndex != -1 || ProcessorDocumentUtils.hasDottedKey(entry.getValue());
+        }
+        if (!hasDottedKey) {
+            return;
+        }
+        Map<String, Object> unflattened = ProcessorDocumentUtils.unflattenJson(fieldsToUnflatten);
         unflattened.forEach(ingestDocument::setFieldValue);
-        sourceAndMetadataMap.keySet().removeIf(key -> key.contains("."));
+        fieldsToUnflatten.keySet().stream().filter(key -> key.contains(".")).forEach(sourceAndMetadataMap::remove);
     }
 
     /**
@@ -181,12 +233,8 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
             handler.accept(ingestDocumentWrappers);
             return;
         }
-        Tuple<List<String>, Map<Integer, Integer>> sortedResult = sortByLengthAndReturnOriginalOrder(inferenceList);
-        inferenceList = sortedResult.v1();
-        Map<Integer, Integer> originalOrder = sortedResult.v2();
-        doBatchExecute(inferenceList, results -> {
+        inferenceWithEmbeddingCache(inferenceList, results -> {
             int startIndex = 0;
-            results = restoreToOriginalOrder(results, originalOrder);
             for (DataForInference dataForInference : dataForInferences) {
                 if (dataForInference.getIngestDocumentWrapper().getException() != null
                     || CollectionUtils.isEmpty(dataForInference.getInferenceList())) {
@@ -213,6 +261,45 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         });
     }
 
+    /**
+     * Run inference of texts that are not in the embedding cache and put their results into the cache. Texts are sorted by
+     * length before inference, results are passed to the handler in the order of texts.
+     */
+    private void inferenceWithEmbeddingCache(List<String> inferenceList, Consumer<List<?>> handler, Consumer<Exception> onException) {
+        EmbeddingCache embeddingCache = EmbeddingCache.instance();
+        String cacheNamespace = getEmbeddingCacheNamespace();
+        List<Object> results = embeddingCache.get(cacheNamespace, inferenceList);
+        List<Integer> missedIndexes = IntStream.range(0, results.size()).filter(i -> Objects.isNull(results.get(i))).boxed().toList();
+        if (missedIndexes.isEmpty()) {
+            handler.accept(results);
+            return;
+        }
+        List<String> missedTexts = missedIndexes.stream().map(inferenceList::get).toList();
+        Tuple<List<String>, Map<Integer, Integer>> sortedResult = sortByLengthAndReturnOriginalOrder(missedTexts);
+        doBatchExecute(sortedResult.v1(), inferenceResults -> {
+            List<?> missedResults = restoreToOriginalOrder(inferenceResults, sortedResult.v2());
+            embeddingCache.put(cacheNamespace, missedTexts, missedResults);
+            if (missedIndexes.size() == results.size()) {
+                handler.accept(missedResults);
+                return;
+            }
+            for (int i = 0; i < missedIndexes.size(); i++) {
+                results.set(missedIndexes.get(i), missedResults.get(i));
+            }
+            handler.accept(results);
+        }, onException);
+    }
+
+    /**
+     * Namespace of inference results of the processor in the embedding cache, cached results are reused only by processors
+     * with the same namespace. Model id identifies the version of the model, processors that change inference results with
+     * other options must add them to the namespace.
+     * @return namespace of inference results
+     */
+    protected String getEmbeddingCacheNamespace() {
+        return String.join("/", type, modelId);
+    }
+
     private Tuple<List<String>, Map<Integer, Integer>> sortByLengthAndReturnOriginalOrder(List<String> inferenceList) {
         List<Tuple<Integer, String>> docsWithIndex = new ArrayList<>();
         for (int i = 0; i < inferenceList.size(); ++i) {
@@ -258,6 +345,7 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
             try {
                 preprocessIngestDocument(ingestDocument);
                 validateEmbeddingFieldsValue(ingestDocument);
+                validateSourceExcludes(ingestDocument);
                 processMap = buildMapWithTargetKeys(ingestDocument);
                 inferenceList = createInferenceList(processMap);
             } catch (Exception e) {
@@ -309,57 +397,72 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
     Map<String, Object> buildMapWithTargetKeys(IngestDocument ingestDocument) {
         Map<String, Object> sourceAndMetadataMap = ingestDocument.getSourceAndMetadata();
         Map<String, Object> mapWithProcessorKeys = new LinkedHashMap<>();
-        for (Map.Entry<String, Object> fieldMapEntry : fieldMap.entrySet()) {
-            Pair<String, Object> processedNestedKey = processNestedKey(fieldMapEntry);
-            String originalKey = processedNestedKey.getKey();
-            Object targetKey = processedNestedKey.getValue();
-
-            if (targetKey instanceof Map) {
-                Map<String, Object> treeRes = new LinkedHashMap<>();
-                buildNestedMap(originalKey, targetKey, sourceAndMetadataMap, treeRes);
-                mapWithProcessorKeys.put(originalKey, treeRes.get(originalKey));
+        for (FieldMapNode fieldMapNode : fieldMapPlan) {
+            if (fieldMapNode.isLeaf()) {
+                mapWithProcessorKeys.put(fieldMapNode.getTargetKey(), sourceAndMetadataMap.get(fieldMapNode.getKey()));
             } else {
-                mapWithProcessorKeys.put(String.valueOf(targetKey), sourceAndMetadataMap.get(originalKey));
+                Map<String, Object> treeRes = new LinkedHashMap<>();
+                buildNestedMap(fieldMapNode, sourceAndMetadataMap, treeRes);
+                mapWithProcessorKeys.put(fieldMapNode.getKey(), treeRes.get(fieldMapNode.getKey()));
             }
         }
         return mapWithProcessorKeys;
     }
 
+    @SuppressWarnings("unchecked")
     @VisibleForTesting
-    void buildNestedMap(String parentKey, Object processorKey, Map<String, Object> sourceAndMetadataMap, Map<String, Object> treeRes) {
-        if (Objects.isNull(processorKey) || Objects.isNull(sourceAndMetadataMap)) {
+    void buildNestedMap(FieldMapNode fieldMapNode, Map<String, Object> sourceAndMetadataMap, Map<String, Object> treeRes) {
+        if (Objects.isNull(sourceAndMetadataMap)) {
             return;
         }
-        if (processorKey instanceof Map) {
-            Map<String, Object> next = new LinkedHashMap<>();
-            if (sourceAndMetadataMap.get(parentKey) instanceof Map) {
-                for (Map.Entry<String, Object> nestedFieldMapEntry : ((Map<String, Object>) processorKey).entrySet()) {
-                    Pair<String, Object> processedNestedKey = processNestedKey(nestedFieldMapEntry);
-                    buildNestedMap(
-                        processedNestedKey.getKey(),
-                        processedNestedKey.getValue(),
-                        (Map<String, Object>) sourceAndMetadataMap.get(parentKey),
-                        next
-                    );
-                }
-            } else if (sourceAndMetadataMap.get(parentKey) instanceof List) {
-                for (Map.Entry<String, Object> nestedFieldMapEntry : ((Map<String, Object>) processorKey).entrySet()) {
-                    List<Map<String, Object>> list = (List<Map<String, Object>>) sourceAndMetadataMap.get(parentKey);
-                    Pair<String, Object> processedNestedKey = processNestedKey(nestedFieldMapEntry);
-                    List<Object> listOfStrings = list.stream().map(x -> {
-                        Object nestedSourceValue = x.get(processedNestedKey.getKey());
-                        return normalizeSourceValue(nestedSourceValue);
-                    }).collect(Collectors.toList());
-                    Map<String, Object> map = new LinkedHashMap<>();
-                    map.put(processedNestedKey.getKey(), listOfStrings);
-                    buildNestedMap(processedNestedKey.getKey(), processedNestedKey.getValue(), map, next);
+        Object sourceValue = sourceAndMetadataMap.get(fieldMapNode.getKey());
+        if (fieldMapNode.isLeaf()) {
+            treeRes.put(fieldMapNode.getTargetKey(), sourceValue);
+            return;
+        }
+        Map<String, Object> next = new LinkedHashMap<>();
+        if (sourceValue instanceof Map) {
+            for (FieldMapNode childNode : fieldMapNode.getChildren()) {
+                buildNestedMap(childNode, (Map<String, Object>) sourceValue, next);
+            }
+        } else if (sourceValue instanceof List) {
+            List<Map<String, Object>> list = (List<Map<String, Object>>) sourceValue;
+            for (FieldMapNode childNode : fieldMapNode.getChildren()) {
+                List<Object> listOfStrings = new ArrayList<>(list.size());
+                for (Map<String, Object> element : list) {
+                    listOfStrings.add(normalizeSourceValue(element.get(childNode.getKey())));
                 }
+                Map<String, Object> map = new LinkedHashMap<>();
+                map.put(childNode.getKey(), listOfStrings);
+                buildNestedMap(childNode, map, next);
             }
-            treeRes.merge(parentKey, next, REMAPPING_FUNCTION);
-        } else {
-            String key = String.valueOf(processorKey);
-            treeRes.put(key, sourceAndMetadataMap.get(parentKey));
         }
+        treeRes.merge(fieldMapNode.getKey(), next, REMAPPING_FUNCTION);
+    }
+
+    /**
+     * Compile the field map into a tree of nodes, keys with dots are split into nested nodes in the same way as
+     * {@link #processNestedKey} does it. Entries with null values at nested levels have no effect and are skipped.
+     * @param fieldMap field map from the processor configuration
+     * @return list of top level nodes in the order of field map entries
+     */
+    @SuppressWarnings("unchecked")
+    @VisibleForTesting
+    List<FieldMapNode> compileFieldMap(final Map<String, Object> fieldMap) {
+        List<FieldMapNode> fieldMapNodes = new ArrayList<>(fieldMap.size());
+        for (Map.Entry<String, Object> fieldMapEntry : fieldMap.entrySet()) {
+            Pair<String, Object> processedNestedKey = processNestedKey(fieldMapEntry);
+            Object targetKey = processedNestedKey.getValue();
+            if (Objects.isNull(targetKey)) {
+                continue;
+            }
+            if (targetKey instanceof Map) {
+                fieldMapNodes.add(new FieldMapNode(processedNestedKey.getKey(), null, compileFieldMap((Map<String, Object>) targetKey)));
+            } else {
+                fieldMapNodes.add(new FieldMapNode(processedNestedKey.getKey(), String.valueOf(targetKey), List.of()));
+            }
+        }
+        return List.copyOf(fieldMapNodes);
     }
 
     private boolean isBlankString(Object object) {
@@ -399,7 +502,7 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         ProcessorDocumentUtils.validateMapTypeValue(
             FIELD_MAP_FIELD,
             sourceAndMetadataMap,
-            ProcessorDocumentUtils.unflattenJson(fieldMap),
+            unflattenedFieldMap,
             indexName,
             clusterService,
             environment,
@@ -407,6 +510,54 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         );
     }
 
+    /**
+     * Validate that fields generated by the processor are excluded from _source by the mapping of the target index, or of the
+     * write index of the target alias or data stream. Processor doesn't remove generated fields from _source, the index has
+     * to be created with _source.excludes covering them. A field is excluded if a pattern of _source.excludes matches its path
+     * or the path of one of its parent objects, or if _source.includes doesn't select it, so outputs for list and nested source
+     * values are covered by the path of the target field. Documents of an index that doesn't exist yet are not validated, as
+     * mapping of the index is not known until it's created.
+     * @param ingestDocument document to validate
+     */
+    private void validateSourceExcludes(IngestDocument ingestDocument) {
+        if (!requireSourceExcludes) {
+            return;
+        }
+        String indexName = ingestDocument.getSourceAndMetadata().get(IndexFieldMapper.NAME).toString();
+        Optional<SourceFilter> sourceFilter = IndexSettingsCache.instance().getSourceFilter(indexName, clusterService, environment);
+        if (sourceFilter.isEmpty()) {
+            return;
+        }
+        List<String> storedFieldPaths = storedFieldPathsBySourceFilter.computeIfAbsent(
+            sourceFilter.get(),
+            filter -> generatedFieldPaths.stream().filter(path -> !filter.isExcluded(path)).collect(Collectors.toUnmodifiableList())
+        );
+        if (!storedFieldPaths.isEmpty()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "[%s] is set but fields %s generated by [%s] processor are stored in _source of index [%s],"
+                        + " add them to _source.excludes of the index mapping",
+                    REQUIRE_SOURCE_EXCLUDES_FIELD,
+                    storedFieldPaths,
+                    type,
+                    indexName
+                )
+            );
+        }
+    }
+
+    private static List<String> collectGeneratedFieldPaths(List<FieldMapNode> fieldMapNodes, String parentPath, List<String> paths) {
+        for (FieldMapNode fieldMapNode : fieldMapNodes) {
+            if (fieldMapNode.isLeaf()) {
+                paths.add(parentPath + fieldMapNode.getTargetKey());
+            } else {
+                collectGeneratedFieldPaths(fieldMapNode.getChildren(), parentPath + fieldMapNode.getKey() + ".", paths);
+            }
+        }
+        return List.copyOf(paths);
+    }
+
     protected void setVectorFieldsToDocument(IngestDocument ingestDocument, Map<String, Object> processorMap, List<?> results) {
         Objects.requireNonNull(results, "embedding failed, inference returns null result!");
         log.debug("Model inference result fetched, starting build vector output!");
@@ -568,11 +719,10 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
 
     @SuppressWarnings("unchecked")
     private Map<String, Object> getSourceMapBySourceAndMetadataMap(String processorKey, Map<String, Object> sourceAndMetadataMap) {
-        Map<String, Object> sourceMap = new HashMap<>();
-        if (sourceAndMetadataMap.get(processorKey) == null) {
+        Map<String, Object> sourceMap = (Map<String, Object>) sourceAndMetadataMap.get(processorKey);
+        if (sourceMap == null) {
+            sourceMap = new HashMap<>();
             sourceAndMetadataMap.put(processorKey, sourceMap);
-        } else {
-            sourceMap = (Map<String, Object>) sourceAndMetadataMap.get(processorKey);
         }
         return sourceMap;
     }
@@ -604,4 +754,20 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
             this.index = index;
         }
     }
+
+    /**
+     * Node of the compiled field map. Leaf node maps source key to the target key, inner node has no target key and has nodes
+     * for the next level of the source document.
+     */
+    @Getter
+    @AllArgsConstructor
+    static final class FieldMapNode {
+        private final String key;
+        private final String targetKey;
+        private final List<FieldMapNode> children;
+
+        boolean isLeaf() {
+            return Objects.nonNull(targetKey);
+        }
+    }
 }
@@ -29,6 +29,7 @@ import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 import org.opensearch.neuralsearch.processor.explain.ExplanationPayload;
 import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizer;
+import org.opensearch.neuralsearch.processor.normalization.SubQueryScoreStats;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.fetch.FetchSearchResult;
@@ -66,14 +67,17 @@ public class NormalizationProcessorWorkflow {
 
         // pre-process data
         log.debug("Pre-process query results");
-        List<CompoundTopDocs> queryTopDocs = getQueryTopDocs(querySearchResults);
+        SubQueryScoreStats scoreStats = new SubQueryScoreStats(0);
+        List<CompoundTopDocs> queryTopDocs = getQueryTopDocs(querySearchResults, scoreStats);
 
         explain(request, queryTopDocs);
 
-        // Data transfer object for score normalization used to pass nullable rankConstant which is only used in RRF
+        // Data transfer object for score normalization used to pass nullable rankConstant which is only used in RRF.
+        // Explain updates scores in place, in such case statistics collected from original scores cannot be reused
         NormalizeScoresDTO normalizeScoresDTO = NormalizeScoresDTO.builder()
             .queryTopDocs(queryTopDocs)
             .normalizationTechnique(request.getNormalizationTechnique())
+            .scoreStats(request.isExplain() ? null : scoreStats)
             .build();
 
         // normalize
@@ -169,15 +173,23 @@ public class NormalizationProcessorWorkflow {
     }
 
     /**
-     * Getting list of CompoundTopDocs from list of QuerySearchResult. Each CompoundTopDocs is for individual shard
+     * Getting list of CompoundTopDocs from list of QuerySearchResult. Each CompoundTopDocs is for individual shard. Score
+     * statistics for each sub-query are collected while results of each shard are consumed, so normalization does not need
+     * another pass over results of all shards
      * @param querySearchResults collection of QuerySearchResult for all shards
+     * @param scoreStats per sub-query score statistics, updated with scores from every shard
      * @return collection of CompoundTopDocs, one object for each shard
      */
-    private List<CompoundTopDocs> getQueryTopDocs(final List<QuerySearchResult> querySearchResults) {
-        List<CompoundTopDocs> queryTopDocs = querySearchResults.stream()
-            .filter(searchResult -> Objects.nonNull(searchResult.topDocs()))
-            .map(CompoundTopDocs::new)
-            .collect(Collectors.toList());
+    private List<CompoundTopDocs> getQueryTopDocs(final List<QuerySearchResult> querySearchResults, final SubQueryScoreStats scoreStats) {
+        List<CompoundTopDocs> queryTopDocs = new ArrayList<>(querySearchResults.size());
+        for (QuerySearchResult querySearchResult : querySearchResults) {
+            if (Objects.isNull(querySearchResult.topDocs())) {
+                continue;
+            }
+            CompoundTopDocs compoundTopDocs = new CompoundTopDocs(querySearchResult);
+            scoreStats.collect(compoundTopDocs);
+            queryTopDocs.add(compoundTopDocs);
+        }
         if (queryTopDocs.size() != querySearchResults.size()) {
             throw new IllegalStateException(
                 String.format(
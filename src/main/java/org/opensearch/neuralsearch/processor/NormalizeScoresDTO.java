@@ -8,7 +8,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
+import org.opensearch.common.Nullable;
 import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationTechnique;
+import org.opensearch.neuralsearch.processor.normalization.SubQueryScoreStats;
 
 import java.util.List;
 
@@ -23,4 +25,7 @@ public class NormalizeScoresDTO {
     private List<CompoundTopDocs> queryTopDocs;
     @NonNull
     private ScoreNormalizationTechnique normalizationTechnique;
+    // statistics collected while shard results were consumed, techniques collect them from queryTopDocs if not present
+    @Nullable
+    private SubQueryScoreStats scoreStats;
 }
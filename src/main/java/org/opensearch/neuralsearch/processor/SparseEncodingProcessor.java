@@ -41,13 +41,26 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
         int batchSize,
         String modelId,
         Map<String, Object> fieldMap,
+        boolean requireSourceExcludes,
         PruneType pruneType,
         float pruneRatio,
         MLCommonsClientAccessor clientAccessor,
         Environment environment,
         ClusterService clusterService
     ) {
-        super(tag, description, batchSize, TYPE, LIST_TYPE_NESTED_MAP_KEY, modelId, fieldMap, clientAccessor, environment, clusterService);
+        super(
+            tag,
+            description,
+            batchSize,
+            TYPE,
+            LIST_TYPE_NESTED_MAP_KEY,
+            modelId,
+            fieldMap,
+            requireSourceExcludes,
+            clientAccessor,
+            environment,
+            clusterService
+        );
         this.pruneType = pruneType;
         this.pruneRatio = pruneRatio;
     }
@@ -85,4 +98,10 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
             }, onException)
         );
     }
+
+    @Override
+    protected String getEmbeddingCacheNamespace() {
+        // vectors are cached after pruning
+        return String.join("/", super.getEmbeddingCacheNamespace(), pruneType.getValue(), Float.toString(pruneRatio));
+    }
 }
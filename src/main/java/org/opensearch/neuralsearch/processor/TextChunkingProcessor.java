@@ -4,6 +4,7 @@
  */
 package org.opensearch.neuralsearch.processor;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -11,19 +12,28 @@ import java.util.Locale;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
-import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.env.Environment;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.index.analysis.AnalysisRegistry;
-import org.opensearch.index.IndexSettings;
-import org.opensearch.ingest.AbstractProcessor;
+import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.neuralsearch.executors.TextChunkingExecutor;
 import org.opensearch.neuralsearch.processor.chunker.Chunker;
 import org.opensearch.index.mapper.IndexFieldMapper;
 import org.opensearch.neuralsearch.processor.chunker.ChunkerFactory;
 import org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker;
+import org.opensearch.neuralsearch.util.IndexSettingsCache;
 import org.opensearch.neuralsearch.util.ProcessorDocumentUtils;
 
 import static org.opensearch.neuralsearch.processor.chunker.Chunker.MAX_CHUNK_LIMIT_FIELD;
@@ -39,8 +49,11 @@ import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterPars
  * The processor needs two fields: algorithm and field_map,
  * where algorithm defines chunking algorithm and parameters,
  * and field_map specifies which fields needs chunking and the corresponding keys for the chunking results.
+ * For a batch of documents, strings from all documents and fields are chunked in parallel using {@link TextChunkingExecutor},
+ * every string with the max_chunk_limit of its document as the upper bound, then the runtime max_chunk_limit is applied and
+ * results are written back to every document in the order of field_map.
  */
-public final class TextChunkingProcessor extends AbstractProcessor {
+public final class TextChunkingProcessor extends AbstractBatchingProcessor {
 
     public static final String TYPE = "text_chunking";
     public static final String FIELD_MAP_FIELD = "field_map";
@@ -60,6 +73,7 @@ public final class TextChunkingProcessor extends AbstractProcessor {
     public TextChunkingProcessor(
         final String tag,
         final String description,
+        final int batchSize,
         final Map<String, Object> fieldMap,
         final Map<String, Object> algorithmMap,
         final boolean ignoreMissing,
@@ -67,7 +81,7 @@ public final class TextChunkingProcessor extends AbstractProcessor {
         final ClusterService clusterService,
         final AnalysisRegistry analysisRegistry
     ) {
-        super(tag, description);
+        super(tag, description, batchSize);
         this.fieldMap = fieldMap;
         this.ignoreMissing = ignoreMissing;
         this.environment = environment;
@@ -157,14 +171,9 @@ public final class TextChunkingProcessor extends AbstractProcessor {
     }
 
     private int getMaxTokenCount(final Map<String, Object> sourceAndMetadataMap) {
-        int defaultMaxTokenCount = IndexSettings.MAX_TOKEN_COUNT_SETTING.get(environment.settings());
         String indexName = sourceAndMetadataMap.get(IndexFieldMapper.NAME).toString();
-        IndexMetadata indexMetadata = clusterService.state().metadata().index(indexName);
-        if (Objects.isNull(indexMetadata)) {
-            return defaultMaxTokenCount;
-        }
-        // if the index is specified in the metadata, read maxTokenCount from the index setting
-        return IndexSettings.MAX_TOKEN_COUNT_SETTING.get(indexMetadata.getSettings());
+        // max token count of the index, or of the node settings if the index doesn't exist yet
+        return IndexSettingsCache.instance().getMaxTokenCount(indexName, clusterService, environment);
     }
 
     /**
@@ -173,6 +182,84 @@ public final class TextChunkingProcessor extends AbstractProcessor {
      */
     @Override
     public IngestDocument execute(final IngestDocument ingestDocument) {
+        DocumentChunkingTask chunkingTask = createChunkingTask(ingestDocument);
+        chunkingTask.applyChunkingResults();
+        return ingestDocument;
+    }
+
+    /**
+     * This method will be invoked by PipelineService to perform chunking for a batch of documents. Every string to be chunked
+     * is submitted as a separate task to the bounded chunking executor, task is executed by the caller thread if executor
+     * rejects it. Once all strings are chunked, max_chunk_limit is applied for each document sequentially, so results are
+     * the same as if documents were processed one by one. Results are written back and the handler is called on the
+     * continuation executor, so the rest of the pipeline doesn't run on the chunking thread pool.
+     * @param ingestDocumentWrappers a list of documents to be chunked
+     * @param handler a callback handler to handle documents with chunking results or exceptions
+     */
+    @Override
+    public void subBatchExecute(
+        final List<IngestDocumentWrapper> ingestDocumentWrappers,
+        final Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        if (CollectionUtils.isEmpty(ingestDocumentWrappers)) {
+            handler.accept(Collections.emptyList());
+            return;
+        }
+        List<Tuple<IngestDocumentWrapper, DocumentChunkingTask>> chunkingTasks = new ArrayList<>();
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            try {
+                chunkingTasks.add(Tuple.tuple(ingestDocumentWrapper, createChunkingTask(ingestDocumentWrapper.getIngestDocument())));
+            } catch (Exception e) {
+                ingestDocumentWrapper.update(ingestDocumentWrapper.getIngestDocument(), e);
+            }
+        }
+        int numOfContents = chunkingTasks.stream().mapToInt(chunkingTask -> chunkingTask.v2().getContents().size()).sum();
+        if (numOfContents == 0) {
+            applyChunkingResults(chunkingTasks);
+            handler.accept(ingestDocumentWrappers);
+            return;
+        }
+        AtomicInteger pendingContents = new AtomicInteger(numOfContents);
+        Executor executor = TextChunkingExecutor.getExecutor();
+        Runnable continuation = () -> {
+            applyChunkingResults(chunkingTasks);
+            handler.accept(ingestDocumentWrappers);
+        };
+        for (Tuple<IngestDocumentWrapper, DocumentChunkingTask> chunkingTask : chunkingTasks) {
+            for (int contentIndex = 0; contentIndex < chunkingTask.v2().getContents().size(); contentIndex++) {
+                final int index = contentIndex;
+                Runnable chunkContentRunnable = () -> {
+                    chunkingTask.v2().chunkContent(index);
+                    // the last finished task hands off writing back results of all documents
+                    if (pendingContents.decrementAndGet() == 0) {
+                        executeOrRun(TextChunkingExecutor.getContinuationExecutor(), continuation);
+                    }
+                };
+                executeOrRun(executor, chunkContentRunnable);
+            }
+        }
+    }
+
+    private static void executeOrRun(final Executor executor, final Runnable runnable) {
+        try {
+            executor.execute(runnable);
+        } catch (RejectedExecutionException e) {
+            runnable.run();
+        }
+    }
+
+    private void applyChunkingResults(final List<Tuple<IngestDocumentWrapper, DocumentChunkingTask>> chunkingTasks) {
+        for (Tuple<IngestDocumentWrapper, DocumentChunkingTask> chunkingTask : chunkingTasks) {
+            IngestDocumentWrapper ingestDocumentWrapper = chunkingTask.v1();
+            try {
+                chunkingTask.v2().applyChunkingResults();
+            } catch (Exception e) {
+                ingestDocumentWrapper.update(ingestDocumentWrapper.getIngestDocument(), e);
+            }
+        }
+    }
+
+    private DocumentChunkingTask createChunkingTask(final IngestDocument ingestDocument) {
         Map<String, Object> sourceAndMetadataMap = ingestDocument.getSourceAndMetadata();
         String indexName = sourceAndMetadataMap.get(IndexFieldMapper.NAME).toString();
         ProcessorDocumentUtils.validateMapTypeValue(
@@ -191,8 +278,9 @@ public final class TextChunkingProcessor extends AbstractProcessor {
         runtimeParameters.put(FixedTokenLengthChunker.MAX_TOKEN_COUNT_FIELD, maxTokenCount);
         runtimeParameters.put(MAX_CHUNK_LIMIT_FIELD, maxChunkLimit);
         runtimeParameters.put(CHUNK_STRING_COUNT_FIELD, chunkStringCount);
-        chunkMapType(sourceAndMetadataMap, fieldMap, runtimeParameters);
-        return ingestDocument;
+        DocumentChunkingTask chunkingTask = new DocumentChunkingTask(runtimeParameters);
+        collectLeafFields(sourceAndMetadataMap, fieldMap, chunkingTask);
+        return chunkingTask;
     }
 
     @SuppressWarnings("unchecked")
@@ -236,10 +324,10 @@ public final class TextChunkingProcessor extends AbstractProcessor {
     }
 
     @SuppressWarnings("unchecked")
-    private void chunkMapType(
+    private void collectLeafFields(
         Map<String, Object> sourceAndMetadataMap,
         final Map<String, Object> fieldMap,
-        final Map<String, Object> runtimeParameters
+        final DocumentChunkingTask chunkingTask
     ) {
         for (Map.Entry<String, Object> fieldMapEntry : fieldMap.entrySet()) {
             String originalKey = fieldMapEntry.getKey();
@@ -251,69 +339,178 @@ public final class TextChunkingProcessor extends AbstractProcessor {
                     List<Object> sourceObjectList = (List<Object>) sourceObject;
                     for (Object source : sourceObjectList) {
                         if (source instanceof Map) {
-                            chunkMapType((Map<String, Object>) source, (Map<String, Object>) targetKey, runtimeParameters);
+                            collectLeafFields((Map<String, Object>) source, (Map<String, Object>) targetKey, chunkingTask);
                         }
                     }
                 } else if (sourceObject instanceof Map) {
-                    chunkMapType((Map<String, Object>) sourceObject, (Map<String, Object>) targetKey, runtimeParameters);
+                    collectLeafFields((Map<String, Object>) sourceObject, (Map<String, Object>) targetKey, chunkingTask);
                 }
             } else {
                 // chunk the object when target key is of leaf type (null, string and list of string)
                 Object chunkObject = sourceAndMetadataMap.get(originalKey);
 
                 if (shouldProcessChunk(chunkObject)) {
-                    List<String> chunkedResult = chunkLeafType(chunkObject, runtimeParameters);
-                    sourceAndMetadataMap.put(String.valueOf(targetKey), chunkedResult);
+                    chunkingTask.addLeafField(sourceAndMetadataMap, String.valueOf(targetKey), getLeafTypeContents(chunkObject));
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> getLeafTypeContents(final Object value) {
+        // leaf type means null, String or List<String>
+        // the result should be an empty list when the input is null, blank string or empty strings in the list
+        if (value instanceof String) {
+            return StringUtils.isBlank((String) value) ? List.of() : List.of((String) value);
+        } else if (isListOfString(value)) {
+            List<String> contents = new ArrayList<>();
+            for (String content : (List<String>) value) {
+                if (!StringUtils.isEmpty(content)) {
+                    contents.add(content);
                 }
             }
+            return contents;
         }
+        return List.of();
     }
 
     /**
-     * Chunk the content, update the runtime max_chunk_limit and return the result
+     * Chunk the content, update the runtime max_chunk_limit and return the result. Chunks computed in advance with the
+     * max_chunk_limit of the document are reused if the runtime limit is not reached for this content, otherwise content is
+     * chunked again with the runtime max_chunk_limit. Failure of chunking in advance is rethrown if the runtime limit is the
+     * same, as chunking again would fail the same way.
      */
-    private List<String> chunkString(final String content, final Map<String, Object> runTimeParameters) {
-        // return an empty list for empty string
-        if (StringUtils.isEmpty(content)) {
-            return List.of();
+    private List<String> chunkString(
+        final String content,
+        final List<String> precomputedChunks,
+        final RuntimeException precomputeFailure,
+        final int documentMaxChunkLimit,
+        final Map<String, Object> runTimeParameters
+    ) {
+        int chunkStringCount = parseInteger(runTimeParameters, CHUNK_STRING_COUNT_FIELD);
+        int runtimeMaxChunkLimit = parseInteger(runTimeParameters, MAX_CHUNK_LIMIT_FIELD);
+        if (Objects.nonNull(precomputeFailure) && runtimeMaxChunkLimit == documentMaxChunkLimit) {
+            throw precomputeFailure;
         }
-        List<String> contentResult = chunker.chunk(content, runTimeParameters);
+        List<String> contentResult = canReusePrecomputedChunks(precomputedChunks, runtimeMaxChunkLimit, chunkStringCount)
+            ? precomputedChunks
+            : chunker.chunk(content, runTimeParameters);
         // update chunk_string_count for each string
-        int chunkStringCount = parseInteger(runTimeParameters, CHUNK_STRING_COUNT_FIELD);
         runTimeParameters.put(CHUNK_STRING_COUNT_FIELD, chunkStringCount - 1);
         // update runtime max_chunk_limit if not disabled
-        int runtimeMaxChunkLimit = parseInteger(runTimeParameters, MAX_CHUNK_LIMIT_FIELD);
         if (runtimeMaxChunkLimit != DISABLED_MAX_CHUNK_LIMIT) {
             runTimeParameters.put(MAX_CHUNK_LIMIT_FIELD, runtimeMaxChunkLimit - contentResult.size());
         }
         return contentResult;
     }
 
-    private List<String> chunkList(final List<String> contentList, final Map<String, Object> runTimeParameters) {
-        // flatten original output format from List<List<String>> to List<String>
-        List<String> result = new ArrayList<>();
-        for (String content : contentList) {
-            result.addAll(chunkString(content, runTimeParameters));
+    /**
+     * Chunkers check the limit before adding every passage, so if the runtime limit is not reached before adding the last
+     * precomputed passage, chunking with the runtime max_chunk_limit produces exactly the same passages. Runtime limit is
+     * never greater than the limit the passages were computed with, so this is never the case if chunking in advance
+     * stopped at its limit.
+     */
+    private boolean canReusePrecomputedChunks(
+        final List<String> precomputedChunks,
+        final int runtimeMaxChunkLimit,
+        final int chunkStringCount
+    ) {
+        if (Objects.isNull(precomputedChunks)) {
+            return false;
         }
-        return result;
+        return precomputedChunks.isEmpty()
+            || !Chunker.checkRunTimeMaxChunkLimit(precomputedChunks.size() - 1, runtimeMaxChunkLimit, chunkStringCount);
     }
 
-    @SuppressWarnings("unchecked")
-    private List<String> chunkLeafType(final Object value, final Map<String, Object> runTimeParameters) {
-        // leaf type means null, String or List<String>
-        // the result should be an empty list when the input is null
-        List<String> result = new ArrayList<>();
-        if (value == null) {
-            return result;
+    /**
+     * Strings of a single document to be chunked, in the order they are visited in field map. Every string can be chunked
+     * independently, while runtime max_chunk_limit is applied and results are written back to the document in that order.
+     * Runtime limit of a string is never greater than max_chunk_limit of the document, and chunk_string_count of a string
+     * only depends on its position, so chunking in advance with the document limit can stop as early as chunkers allow.
+     */
+    private final class DocumentChunkingTask {
+        private final Map<String, Object> runtimeParameters;
+        private final int documentMaxChunkLimit;
+        private final int documentChunkStringCount;
+        private final List<LeafField> leafFields = new ArrayList<>();
+        @Getter
+        private final List<String> contents = new ArrayList<>();
+        private List<List<String>> precomputedChunks;
+        private List<RuntimeException> precomputeFailures;
+
+        private DocumentChunkingTask(final Map<String, Object> runtimeParameters) {
+            this.runtimeParameters = runtimeParameters;
+            this.documentMaxChunkLimit = parseInteger(runtimeParameters, MAX_CHUNK_LIMIT_FIELD);
+            this.documentChunkStringCount = parseInteger(runtimeParameters, CHUNK_STRING_COUNT_FIELD);
         }
-        if (value instanceof String) {
-            if (StringUtils.isBlank(String.valueOf(value))) {
-                return result;
+
+        private void addLeafField(final Map<String, Object> sourceAndMetadataMap, final String targetKey, final List<String> leafContents) {
+            leafFields.add(new LeafField(sourceAndMetadataMap, targetKey, contents.size(), contents.size() + leafContents.size()));
+            contents.addAll(leafContents);
+        }
+
+        /**
+         * Chunk one content with max_chunk_limit of the document, can be called concurrently for different contents. Failure is
+         * kept and handled when results are applied, as a lower runtime limit may make the chunker read fewer tokens
+         * @param contentIndex index of the content
+         */
+        private void chunkContent(final int contentIndex) {
+            initChunkingResults();
+            Map<String, Object> contentRuntimeParameters = new HashMap<>(runtimeParameters);
+            contentRuntimeParameters.put(MAX_CHUNK_LIMIT_FIELD, documentMaxChunkLimit);
+            contentRuntimeParameters.put(CHUNK_STRING_COUNT_FIELD, documentChunkStringCount - contentIndex);
+            try {
+                precomputedChunks.set(contentIndex, chunker.chunk(contents.get(contentIndex), contentRuntimeParameters));
+            } catch (RuntimeException e) {
+                precomputeFailures.set(contentIndex, e);
+            }
+        }
+
+        private synchronized void initChunkingResults() {
+            if (Objects.isNull(precomputedChunks)) {
+                precomputedChunks = new ArrayList<>(Collections.nCopies(contents.size(), null));
+                precomputeFailures = new ArrayList<>(Collections.nCopies(contents.size(), null));
+            }
+        }
+
+        /**
+         * Apply max_chunk_limit to every content in order and write back results to the document. Contents without
+         * chunks computed in advance are chunked here
+         */
+        private void applyChunkingResults() {
+            List<List<String>> leafFieldResults = new ArrayList<>(leafFields.size());
+            for (LeafField leafField : leafFields) {
+                // flatten original output format from List<List<String>> to List<String>
+                List<String> result = new ArrayList<>();
+                for (int contentIndex = leafField.getFromIndex(); contentIndex < leafField.getToIndex(); contentIndex++) {
+                    boolean isPrecomputed = Objects.nonNull(precomputedChunks);
+                    result.addAll(
+                        chunkString(
+                            contents.get(contentIndex),
+                            isPrecomputed ? precomputedChunks.get(contentIndex) : null,
+                            isPrecomputed ? precomputeFailures.get(contentIndex) : null,
+                            documentMaxChunkLimit,
+                            runtimeParameters
+                        )
+                    );
+                }
+                leafFieldResults.add(result);
+            }
+            for (int i = 0; i < leafFields.size(); i++) {
+                leafFields.get(i).getSourceAndMetadataMap().put(leafFields.get(i).getTargetKey(), leafFieldResults.get(i));
             }
-            result = chunkString(value.toString(), runTimeParameters);
-        } else if (isListOfString(value)) {
-            result = chunkList((List<String>) value, runTimeParameters);
         }
-        return result;
+    }
+
+    /**
+     * Leaf field of the document with the range of its contents in the list of all document contents
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class LeafField {
+        private final Map<String, Object> sourceAndMetadataMap;
+        private final String targetKey;
+        private final int fromIndex;
+        private final int toIndex;
     }
 }
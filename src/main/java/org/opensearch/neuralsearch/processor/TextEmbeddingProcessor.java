@@ -6,6 +6,7 @@ package org.opensearch.neuralsearch.processor;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -14,6 +15,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.env.Environment;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.util.quantization.EmbeddingDataType;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -27,17 +29,34 @@ public final class TextEmbeddingProcessor extends InferenceProcessor {
     public static final String TYPE = "text_embedding";
     public static final String LIST_TYPE_NESTED_MAP_KEY = "knn";
 
+    private final EmbeddingDataType embeddingDataType;
+
     public TextEmbeddingProcessor(
         String tag,
         String description,
         int batchSize,
         String modelId,
         Map<String, Object> fieldMap,
+        boolean requireSourceExcludes,
+        EmbeddingDataType embeddingDataType,
         MLCommonsClientAccessor clientAccessor,
         Environment environment,
         ClusterService clusterService
     ) {
-        super(tag, description, batchSize, TYPE, LIST_TYPE_NESTED_MAP_KEY, modelId, fieldMap, clientAccessor, environment, clusterService);
+        super(
+            tag,
+            description,
+            batchSize,
+            TYPE,
+            LIST_TYPE_NESTED_MAP_KEY,
+            modelId,
+            fieldMap,
+            requireSourceExcludes,
+            clientAccessor,
+            environment,
+            clusterService
+        );
+        this.embeddingDataType = embeddingDataType;
     }
 
     @Override
@@ -63,4 +82,14 @@ public final class TextEmbeddingProcessor extends InferenceProcessor {
             ActionListener.wrap(handler::accept, onException)
         );
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void setVectorFieldsToDocument(IngestDocument ingestDocument, Map<String, Object> processorMap, List<?> results) {
+        // vectors are quantized after inference, so the embedding cache keeps vectors as the model returns them
+        List<?> vectors = Objects.isNull(results) || embeddingDataType == EmbeddingDataType.FLOAT
+            ? results
+            : results.stream().map(vector -> embeddingDataType.quantize((List<Number>) vector)).toList();
+        super.setVectorFieldsToDocument(ingestDocument, processorMap, vectors);
+    }
 }
@@ -0,0 +1,372 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.cache;
+
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.EMBEDDING_CACHE_DISK_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.EMBEDDING_CACHE_INDEX_SIZE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.common.settings.Settings;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level, disk backed cache of inference results of ingest processors. Results are keyed by a hash of the processor
+ * namespace, which includes model id and processor options that change the result, and the input text, so documents
+ * that are reindexed or processed by the pipeline again reuse embeddings instead of calling the model. Cache is bounded by
+ * the disk budget and by the heap budget of segment indexes; when either budget is exceeded the oldest segment is deleted
+ * together with its index, and entries read from older segments are written again to the active segment, so evicted entries
+ * are those that were not used recently.
+ */
+@Log4j2
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EmbeddingCache implements Closeable {
+    public static final String DIRECTORY_NAME = "neural_search_embedding_cache";
+    private static final long MIN_SEGMENT_SIZE_IN_BYTES = 1024 * 1024;
+    private static final long MAX_SEGMENT_SIZE_IN_BYTES = 64 * 1024 * 1024;
+    // budget is split into at least this number of segments, so eviction of one segment drops a small part of the cache
+    private static final int MIN_NUMBER_OF_SEGMENTS = 8;
+    private static final byte DENSE_VECTOR = 0;
+    private static final byte SPARSE_VECTOR = 1;
+    private static EmbeddingCache instance;
+
+    // oldest segment first, guarded by this
+    private final Deque<EmbeddingCacheSegment> segments = new ArrayDeque<>();
+    // newest segment first, copy of segments that is read without locking, replaced when segments change
+    private volatile List<EmbeddingCacheSegment> segmentsForLookup = List.of();
+    private volatile EmbeddingCacheSegment activeSegment;
+    private volatile boolean enabled;
+    private Path directory;
+    private long diskBudgetInBytes;
+    private long indexBudgetInBytes;
+    private long segmentSizeInBytes;
+    private long totalSizeInBytes;
+
+    /**
+     * Return instance of the embedding cache, cache is disabled until it's initialized with non-zero disk budget
+     * @return instance of embedding cache
+     */
+    public static synchronized EmbeddingCache instance() {
+        if (instance == null) {
+            instance = new EmbeddingCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Initialize the cache with segments written before the node restart. Cache is disabled if the disk budget is zero, in
+     * that case segments written before are deleted. Failure to open the cache is logged and the cache stays disabled, as
+     * ingest doesn't depend on it.
+     * @param settings node settings
+     * @param directory directory of the cache on the node data path
+     */
+    public synchronized void initialize(final Settings settings, final Path directory) {
+        closeSegments();
+        this.directory = directory;
+        diskBudgetInBytes = EMBEDDING_CACHE_DISK_SIZE.get(settings).getBytes();
+        indexBudgetInBytes = EMBEDDING_CACHE_INDEX_SIZE.get(settings).getBytes();
+        segmentSizeInBytes = Math.min(
+            MAX_SEGMENT_SIZE_IN_BYTES,
+            Math.max(MIN_SEGMENT_SIZE_IN_BYTES, diskBudgetInBytes / MIN_NUMBER_OF_SEGMENTS)
+        );
+        try {
+            if (diskBudgetInBytes <= 0) {
+                deleteSegmentFiles(directory);
+                return;
+            }
+            Files.createDirectories(directory);
+            openSegments();
+            enabled = true;
+            log.info(
+                "embedding cache opened with [{}] entries, disk budget is [{}] bytes, index budget is [{}] bytes",
+                segments.stream().mapToLong(EmbeddingCacheSegment::getNumberOfRecords).sum(),
+                diskBudgetInBytes,
+                indexBudgetInBytes
+            );
+        } catch (IOException e) {
+            log.warn("failed to open embedding cache in [{}], cache is disabled", directory, e);
+            closeSegments();
+        }
+    }
+
+    /**
+     * Get cached inference results
+     * @param namespace namespace of results, identifies the model and processor options that change the result
+     * @param texts input texts of the inference
+     * @return list of cached results in the order of texts, results that are not cached are null
+     */
+    public List<Object> get(final String namespace, final List<String> texts) {
+        List<Object> results = new ArrayList<>(Collections.nCopies(texts.size(), null));
+        if (!enabled) {
+            return results;
+        }
+        List<EmbeddingCacheSegment> segmentsNewestFirst = segmentsForLookup;
+        for (int i = 0; i < texts.size(); i++) {
+            Key key = Key.of(namespace, texts.get(i));
+            for (EmbeddingCacheSegment segment : segmentsNewestFirst) {
+                long location = segment.find(key.getHi(), key.getLo());
+                if (location == EmbeddingCacheSegmentIndex.NOT_FOUND) {
+                    continue;
+                }
+                try {
+                    byte[] value = segment.read(
+                        EmbeddingCacheSegmentIndex.offset(location),
+                        EmbeddingCacheSegmentIndex.valueLength(location),
+                        key.getHi(),
+                        key.getLo()
+                    );
+                    // record that fails verification is treated as not cached, it's written again on the next put
+                    if (Objects.nonNull(value)) {
+                        results.set(i, decode(value));
+                        if (isDueForEviction(segment)) {
+                            append(key, value);
+                        }
+                    }
+                } catch (IOException e) {
+                    // segment was evicted while it was read, or the cache was closed
+                    log.debug("failed to read embedding cache entry", e);
+                }
+                break;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Put inference results into the cache, results that are not dense or sparse vectors are not cached
+     * @param namespace namespace of results, identifies the model and processor options that change the result
+     * @param texts input texts of the inference
+     * @param results inference results in the order of texts
+     */
+    public void put(final String namespace, final List<String> texts, final List<?> results) {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < texts.size(); i++) {
+            Key key = Key.of(namespace, texts.get(i));
+            if (contains(key)) {
+                continue;
+            }
+            byte[] value = encode(results.get(i));
+            if (Objects.isNull(value)) {
+                continue;
+            }
+            try {
+                append(key, value);
+            } catch (IOException e) {
+                log.warn("failed to write embedding cache entry", e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return true if the cache is initialized with non-zero disk budget
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public synchronized void close() {
+        closeSegments();
+    }
+
+    private synchronized void append(final Key key, final byte[] value) throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (activeSegment.getSize() + EmbeddingCacheSegment.RECORD_OVERHEAD + value.length > segmentSizeInBytes
+            && activeSegment.getSize() > 0) {
+            rollSegment();
+        }
+        long sizeBefore = activeSegment.getSize();
+        activeSegment.append(key.getHi(), key.getLo(), value);
+        totalSizeInBytes += activeSegment.getSize() - sizeBefore;
+    }
+
+    private boolean contains(final Key key) {
+        for (EmbeddingCacheSegment segment : segmentsForLookup) {
+            if (segment.find(key.getHi(), key.getLo()) != EmbeddingCacheSegmentIndex.NOT_FOUND) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rollSegment() throws IOException {
+        activeSegment.seal();
+        activeSegment = EmbeddingCacheSegment.create(directory, activeSegment.getId() + 1);
+        segments.addLast(activeSegment);
+        evictSegments();
+    }
+
+    /**
+     * Delete oldest segments while the disk budget or the index budget is exceeded. Index of the segment is dropped with the
+     * segment, lookups that still see the evicted segment fail the record check or the read, and are treated as not cached.
+     */
+    private void evictSegments() throws IOException {
+        long indexSizeInBytes = segments.stream().mapToLong(EmbeddingCacheSegment::getIndexRamBytesUsed).sum();
+        while ((totalSizeInBytes > diskBudgetInBytes || indexSizeInBytes > indexBudgetInBytes) && segments.size() > 1) {
+            EmbeddingCacheSegment evicted = segments.removeFirst();
+            totalSizeInBytes -= evicted.getSize();
+            indexSizeInBytes -= evicted.getIndexRamBytesUsed();
+            evicted.delete();
+        }
+        List<EmbeddingCacheSegment> segmentsNewestFirst = new ArrayList<>(segments);
+        Collections.reverse(segmentsNewestFirst);
+        segmentsForLookup = List.copyOf(segmentsNewestFirst);
+    }
+
+    private boolean isDueForEviction(final EmbeddingCacheSegment segment) {
+        EmbeddingCacheSegment active = activeSegment;
+        if (Objects.isNull(active) || segment == active) {
+            return false;
+        }
+        long numberOfSegmentsInBudget = Math.max(1, diskBudgetInBytes / segmentSizeInBytes);
+        return active.getId() - segment.getId() >= numberOfSegmentsInBudget / 2;
+    }
+
+    private void openSegments() throws IOException {
+        Map<Long, Path> pathsById = new TreeMap<>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory)) {
+            for (Path path : paths) {
+                OptionalLong id = EmbeddingCacheSegment.parseId(path);
+                if (id.isPresent()) {
+                    pathsById.put(id.getAsLong(), path);
+                }
+            }
+        }
+        for (Map.Entry<Long, Path> entry : pathsById.entrySet()) {
+            EmbeddingCacheSegment segment = EmbeddingCacheSegment.open(entry.getValue(), entry.getKey());
+            segments.addLast(segment);
+            segment.scan();
+            totalSizeInBytes += segment.getSize();
+        }
+        // all segments but the last one are sealed, records are appended to the last segment
+        for (EmbeddingCacheSegment segment : segments) {
+            if (segment != segments.peekLast()) {
+                segment.seal();
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.addLast(EmbeddingCacheSegment.create(directory, 0));
+        }
+        activeSegment = segments.peekLast();
+        evictSegments();
+    }
+
+    private void deleteSegmentFiles(final Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory)) {
+            for (Path path : paths) {
+                if (EmbeddingCacheSegment.parseId(path).isPresent()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private void closeSegments() {
+        enabled = false;
+        for (EmbeddingCacheSegment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("failed to close embedding cache segment", e);
+            }
+        }
+        segments.clear();
+        segmentsForLookup = List.of();
+        activeSegment = null;
+        totalSizeInBytes = 0;
+    }
+
+    private static byte[] encode(final Object result) {
+        if (result instanceof List<?> vector && vector.stream().allMatch(Number.class::isInstance)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 + Integer.BYTES + vector.size() * Float.BYTES);
+            buffer.put(DENSE_VECTOR).putInt(vector.size());
+            vector.forEach(value -> buffer.putFloat(((Number) value).floatValue()));
+            return buffer.array();
+        }
+        if (result instanceof Map<?, ?> tokenWeights
+            && tokenWeights.entrySet().stream().allMatch(e -> e.getKey() instanceof String && e.getValue() instanceof Number)) {
+            List<byte[]> tokens = new ArrayList<>(tokenWeights.size());
+            int length = 1 + Integer.BYTES;
+            for (Object token : tokenWeights.keySet()) {
+                byte[] tokenBytes = ((String) token).getBytes(StandardCharsets.UTF_8);
+                tokens.add(tokenBytes);
+                length += Integer.BYTES + tokenBytes.length + Float.BYTES;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            buffer.put(SPARSE_VECTOR).putInt(tokenWeights.size());
+            int i = 0;
+            for (Object weight : tokenWeights.values()) {
+                byte[] tokenBytes = tokens.get(i++);
+                buffer.putInt(tokenBytes.length).put(tokenBytes).putFloat(((Number) weight).floatValue());
+            }
+            return buffer.array();
+        }
+        return null;
+    }
+
+    private static Object decode(final byte[] value) {
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        byte type = buffer.get();
+        int size = buffer.getInt();
+        if (type == DENSE_VECTOR) {
+            List<Float> vector = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                vector.add(buffer.getFloat());
+            }
+            return vector;
+        }
+        Map<String, Float> tokenWeights = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            byte[] tokenBytes = new byte[buffer.getInt()];
+            buffer.get(tokenBytes);
+            tokenWeights.put(new String(tokenBytes, StandardCharsets.UTF_8), buffer.getFloat());
+        }
+        return tokenWeights;
+    }
+
+    /**
+     * 128 bit hash of the namespace and the input text
+     */
+    @Value
+    static class Key {
+        long hi;
+        long lo;
+
+        static Key of(final String namespace, final String text) {
+            byte[] bytes = (namespace + '\u0000' + text).getBytes(StandardCharsets.UTF_8);
+            MurmurHash3.Hash128 hash = MurmurHash3.hash128(bytes, 0, bytes.length, 0, new MurmurHash3.Hash128());
+            return new Key(hash.h1, hash.h2);
+        }
+    }
+}
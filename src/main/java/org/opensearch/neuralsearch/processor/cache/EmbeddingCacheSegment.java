@@ -0,0 +1,222 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.cache;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.zip.CRC32;
+
+import lombok.Getter;
+
+/**
+ * Append-only file of the embedding cache. Every record has the value length, the key hash, the value and a checksum of
+ * the key hash and the value. Records are appended to the active segment only, once the segment is full it's sealed and
+ * memory mapped, so reads of cached embeddings don't need a system call. Every segment owns the index of its records.
+ */
+final class EmbeddingCacheSegment implements Closeable {
+    private static final String FILE_NAME_PREFIX = "segment_";
+    private static final String FILE_NAME_SUFFIX = ".bin";
+    private static final int KEY_LENGTH = 2 * Long.BYTES;
+    static final int RECORD_OVERHEAD = Integer.BYTES + KEY_LENGTH + Integer.BYTES;
+
+    @Getter
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+    private final EmbeddingCacheSegmentIndex index = new EmbeddingCacheSegmentIndex();
+    @Getter
+    private volatile long size;
+    // null until the segment is sealed
+    private volatile MappedByteBuffer mappedBuffer;
+
+    private EmbeddingCacheSegment(final long id, final Path path, final FileChannel channel, final long size) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    /**
+     * Create new empty segment
+     * @param directory directory of the cache
+     * @param id id of the segment, ids of newer segments are greater
+     * @return new segment
+     */
+    static EmbeddingCacheSegment create(final Path directory, final long id) throws IOException {
+        Path path = directory.resolve(String.format(Locale.ROOT, "%s%d%s", FILE_NAME_PREFIX, id, FILE_NAME_SUFFIX));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new EmbeddingCacheSegment(id, path, channel, 0);
+    }
+
+    /**
+     * Open segment written before the node restart
+     * @param path path of the segment file
+     * @param id id of the segment
+     * @return segment, must be scanned before it's used
+     */
+    static EmbeddingCacheSegment open(final Path path, final long id) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new EmbeddingCacheSegment(id, path, channel, channel.size());
+    }
+
+    /**
+     * Parse id of the segment from the file name
+     * @param path path of the file in the cache directory
+     * @return id of the segment, empty if the file is not a segment
+     */
+    static OptionalLong parseId(final Path path) {
+        String fileName = path.getFileName().toString();
+        if (!fileName.startsWith(FILE_NAME_PREFIX) || !fileName.endsWith(FILE_NAME_SUFFIX)) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(
+                Long.parseLong(fileName.substring(FILE_NAME_PREFIX.length(), fileName.length() - FILE_NAME_SUFFIX.length()))
+            );
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Index all valid records of the segment. Segment is truncated at the first record that is incomplete or has a wrong checksum,
+     * which is the case if the node stopped while the record was written.
+     */
+    void scan() throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        long position = 0;
+        while (position + RECORD_OVERHEAD <= size) {
+            int offset = (int) position;
+            int valueLength = buffer.getInt(offset);
+            if (valueLength < 0 || position + RECORD_OVERHEAD + valueLength > size) {
+                break;
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.slice(offset + Integer.BYTES, KEY_LENGTH + valueLength));
+            if ((int) checksum.getValue() != buffer.getInt(offset + Integer.BYTES + KEY_LENGTH + valueLength)) {
+                break;
+            }
+            long keyHi = buffer.getLong(offset + Integer.BYTES);
+            long keyLo = buffer.getLong(offset + Integer.BYTES + Long.BYTES);
+            index.put(keyHi, keyLo, position, valueLength);
+            position += RECORD_OVERHEAD + valueLength;
+        }
+        if (position < size) {
+            channel.truncate(position);
+            size = position;
+        }
+    }
+
+    /**
+     * Append record to the segment, must not be called concurrently or after the segment is sealed
+     * @return offset of the record in the segment
+     */
+    long append(final long keyHi, final long keyLo, final byte[] value) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_OVERHEAD + value.length);
+        record.putInt(value.length).putLong(keyHi).putLong(keyLo).put(value);
+        CRC32 checksum = new CRC32();
+        checksum.update(record.array(), Integer.BYTES, KEY_LENGTH + value.length);
+        record.putInt((int) checksum.getValue());
+        record.flip();
+        long offset = size;
+        while (record.hasRemaining()) {
+            channel.write(record, offset + record.position());
+        }
+        size = offset + record.limit();
+        index.put(keyHi, keyLo, offset, value.length);
+        return offset;
+    }
+
+    /**
+     * Find location of the record in the index of the segment
+     * @param keyHi high bits of the key hash
+     * @param keyLo low bits of the key hash
+     * @return location of the record, {@link EmbeddingCacheSegmentIndex#NOT_FOUND} if the segment has no record with the key
+     */
+    long find(final long keyHi, final long keyLo) {
+        return index.get(keyHi, keyLo);
+    }
+
+    /**
+     * @return number of records in the index of the segment
+     */
+    int getNumberOfRecords() {
+        return index.size();
+    }
+
+    /**
+     * @return size of the index of the segment on heap
+     */
+    long getIndexRamBytesUsed() {
+        return index.ramBytesUsed();
+    }
+
+    /**
+     * Read value of the record
+     * @param offset offset of the record in the segment
+     * @param valueLength length of the value
+     * @param keyHi high bits of the key hash, used to verify the record
+     * @param keyLo low bits of the key hash, used to verify the record
+     * @return value of the record, null if the record is corrupted
+     */
+    byte[] read(final long offset, final int valueLength, final long keyHi, final long keyLo) throws IOException {
+        byte[] record = new byte[RECORD_OVERHEAD + valueLength];
+        MappedByteBuffer buffer = mappedBuffer;
+        if (Objects.nonNull(buffer)) {
+            buffer.get((int) offset, record);
+        } else {
+            ByteBuffer destination = ByteBuffer.wrap(record);
+            while (destination.hasRemaining()) {
+                if (channel.read(destination, offset + destination.position()) < 0) {
+                    throw new EOFException(String.format(Locale.ROOT, "unexpected end of embedding cache segment [%s]", path));
+                }
+            }
+        }
+        ByteBuffer recordBuffer = ByteBuffer.wrap(record);
+        CRC32 checksum = new CRC32();
+        checksum.update(record, Integer.BYTES, KEY_LENGTH + valueLength);
+        if (recordBuffer.getInt(0) != valueLength
+            || recordBuffer.getLong(Integer.BYTES) != keyHi
+            || recordBuffer.getLong(Integer.BYTES + Long.BYTES) != keyLo
+            || recordBuffer.getInt(Integer.BYTES + KEY_LENGTH + valueLength) != (int) checksum.getValue()) {
+            return null;
+        }
+        byte[] value = new byte[valueLength];
+        System.arraycopy(record, Integer.BYTES + KEY_LENGTH, value, 0, valueLength);
+        return value;
+    }
+
+    /**
+     * Seal the segment, no records can be appended after it's sealed and records are read from the memory mapped file
+     */
+    void seal() throws IOException {
+        mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        index.seal();
+    }
+
+    /**
+     * Close and delete the segment file. Mapping of a sealed segment stays valid until it's garbage collected, so concurrent
+     * reads of the deleted segment complete.
+     */
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
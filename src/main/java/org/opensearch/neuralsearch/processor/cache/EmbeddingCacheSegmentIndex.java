@@ -0,0 +1,137 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.cache;
+
+/**
+ * Hash index of records of one embedding cache segment, maps the 128 bit key hash to the offset and the value length of the
+ * record. Index uses open addressing over primitive arrays, so an entry takes three longs instead of a map node with key and
+ * location objects, and the index is dropped together with its segment. Records are added by a single writer that appends
+ * to the segment; once the segment is sealed the index doesn't change and is read without locking.
+ */
+final class EmbeddingCacheSegmentIndex {
+    // records always have a non-empty value, so location of a record is never zero
+    static final long NOT_FOUND = 0;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] keysHi = new long[INITIAL_CAPACITY];
+    private long[] keysLo = new long[INITIAL_CAPACITY];
+    // offset of the record in the upper and value length in the lower 32 bits, zero marks an empty slot
+    private long[] locations = new long[INITIAL_CAPACITY];
+    private int size;
+    private volatile boolean sealed;
+
+    /**
+     * Find location of the record
+     * @param keyHi high bits of the key hash
+     * @param keyLo low bits of the key hash
+     * @return location of the record, {@link #NOT_FOUND} if the segment has no record with the key
+     */
+    long get(final long keyHi, final long keyLo) {
+        if (sealed) {
+            return find(keyHi, keyLo);
+        }
+        synchronized (this) {
+            return find(keyHi, keyLo);
+        }
+    }
+
+    /**
+     * Add location of the record, location of the previous record with the same key is replaced
+     * @param keyHi high bits of the key hash
+     * @param keyLo low bits of the key hash
+     * @param offset offset of the record in the segment
+     * @param valueLength length of the value, must be positive
+     */
+    synchronized void put(final long keyHi, final long keyLo, final long offset, final int valueLength) {
+        if (2 * (size + 1) > locations.length) {
+            resize();
+        }
+        if (insert(keysHi, keysLo, locations, keyHi, keyLo, offset << 32 | valueLength)) {
+            size++;
+        }
+    }
+
+    /**
+     * Seal the index, no records can be added after it's sealed
+     */
+    synchronized void seal() {
+        sealed = true;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return size of the index on heap
+     */
+    synchronized long ramBytesUsed() {
+        return 3L * Long.BYTES * locations.length;
+    }
+
+    static long offset(final long location) {
+        return location >>> 32;
+    }
+
+    static int valueLength(final long location) {
+        return (int) location;
+    }
+
+    private long find(final long keyHi, final long keyLo) {
+        int mask = locations.length - 1;
+        for (int slot = slot(keyHi, keyLo, mask); locations[slot] != NOT_FOUND; slot = (slot + 1) & mask) {
+            if (keysHi[slot] == keyHi && keysLo[slot] == keyLo) {
+                return locations[slot];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private void resize() {
+        int capacity = 2 * locations.length;
+        long[] newKeysHi = new long[capacity];
+        long[] newKeysLo = new long[capacity];
+        long[] newLocations = new long[capacity];
+        for (int slot = 0; slot < locations.length; slot++) {
+            if (locations[slot] != NOT_FOUND) {
+                insert(newKeysHi, newKeysLo, newLocations, keysHi[slot], keysLo[slot], locations[slot]);
+            }
+        }
+        keysHi = newKeysHi;
+        keysLo = newKeysLo;
+        locations = newLocations;
+    }
+
+    /**
+     * @return true if the key is new, false if location of the existing key is replaced
+     */
+    private static boolean insert(
+        final long[] keysHi,
+        final long[] keysLo,
+        final long[] locations,
+        final long keyHi,
+        final long keyLo,
+        final long location
+    ) {
+        int mask = locations.length - 1;
+        int slot = slot(keyHi, keyLo, mask);
+        while (locations[slot] != NOT_FOUND) {
+            if (keysHi[slot] == keyHi && keysLo[slot] == keyLo) {
+                locations[slot] = location;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keysHi[slot] = keyHi;
+        keysLo[slot] = keyLo;
+        locations[slot] = location;
+        return true;
+    }
+
+    private static int slot(final long keyHi, final long keyLo, final int mask) {
+        // key is a murmur3 hash, its bits are already well distributed
+        return (int) (keyHi ^ keyLo) & mask;
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.neuralsearch.processor.chunker;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -56,6 +57,57 @@ public final class ChunkerParameterParser {
         return parseString(parameters, fieldName);
     }
 
+    /**
+     * Parses and validates a list of strings parameter from the parameters map.
+     *
+     * @param parameters The map containing chunking parameters
+     * @param fieldName The name of the field to extract from the parameters map
+     * @return The validated list of strings from the parameters map
+     * @throws IllegalArgumentException if the parameter is not a non-empty list of non-empty strings
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> parseStringList(final Map<String, Object> parameters, final String fieldName) {
+        Object fieldValue = parameters.get(fieldName);
+        if (!(fieldValue instanceof List)) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Parameter [%s] must be of %s type", fieldName, List.class.getName())
+            );
+        }
+        List<?> fieldValueList = (List<?>) fieldValue;
+        if (fieldValueList.isEmpty()) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Parameter [%s] should not be empty.", fieldName));
+        }
+        for (Object element : fieldValueList) {
+            if (!(element instanceof String) || StringUtils.isEmpty((String) element)) {
+                throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "Parameter [%s] must only contain non-empty %s values", fieldName, String.class.getName())
+                );
+            }
+        }
+        return List.copyOf((List<String>) fieldValueList);
+    }
+
+    /**
+     * Parses and validates a list of strings parameter from the parameters map with fallback to a default value.
+     *
+     * @param parameters The map containing chunking parameters
+     * @param fieldName The name of the field to extract from the parameters map
+     * @param defaultValue The default value to return if the parameter is not present
+     * @return The validated list of strings from the parameters map if present, otherwise the default value
+     * @throws IllegalArgumentException if the parameter is present but is not a non-empty list of non-empty strings
+     */
+    public static List<String> parseStringListWithDefault(
+        final Map<String, Object> parameters,
+        final String fieldName,
+        final List<String> defaultValue
+    ) {
+        if (!parameters.containsKey(fieldName)) {
+            // all list parameters are optional
+            return defaultValue;
+        }
+        return parseStringList(parameters, fieldName);
+    }
+
     /**
      * Parses and validates an integer value from the parameters map.
      *
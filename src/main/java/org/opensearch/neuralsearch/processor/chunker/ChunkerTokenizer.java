@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.chunker;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.index.analysis.NameOrDefinition;
+
+/**
+ * Word tokenizer used by token based chunking algorithms. The analyzer is built from analysis registry on first use
+ * and reused, token stream components are reused per thread by the analyzer.
+ */
+final class ChunkerTokenizer {
+
+    private static final Set<String> WORD_TOKENIZERS = Set.of(
+        "standard",
+        "letter",
+        "lowercase",
+        "whitespace",
+        "uax_url_email",
+        "classic",
+        "thai"
+    );
+
+    private final AnalysisRegistry analysisRegistry;
+    private final String tokenizer;
+    private volatile Analyzer analyzer;
+
+    ChunkerTokenizer(final AnalysisRegistry analysisRegistry, final String tokenizer) {
+        this.analysisRegistry = analysisRegistry;
+        this.tokenizer = tokenizer;
+    }
+
+    /**
+     * Throw IllegalArgumentException if tokenizer is not a word tokenizer
+     *
+     * @param tokenizer name of the tokenizer
+     * @param algorithmName name of the chunking algorithm using the tokenizer
+     */
+    static void validateWordTokenizer(final String tokenizer, final String algorithmName) {
+        if (!WORD_TOKENIZERS.contains(tokenizer)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Tokenizer [%s] is not supported for [%s] algorithm. Supported tokenizers are %s",
+                    tokenizer,
+                    algorithmName,
+                    WORD_TOKENIZERS
+                )
+            );
+        }
+    }
+
+    /**
+     * Create token stream for the content, caller is responsible for closing the stream
+     *
+     * @param content input string
+     * @return token stream of the content
+     */
+    TokenStream tokenStream(final String content) throws IOException {
+        return getAnalyzer().tokenStream(null, content);
+    }
+
+    /**
+     * Return start offsets of all tokens in the content
+     * Throw IllegalStateException if tokenization fails or number of tokens exceeds max_token_count
+     *
+     * @param content input string
+     * @param maxTokenCount the max token limit for the tokenizer
+     * @return start offsets of tokens in the order they appear in the content
+     */
+    int[] getTokenStartOffsets(final String content, final int maxTokenCount) {
+        int[] tokenStartOffsets = new int[16];
+        int tokenCount = 0;
+        try (TokenStream tokenStream = tokenStream(content)) {
+            OffsetAttribute offsetAttribute = tokenStream.addAttribute(OffsetAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                validateTokenCount(tokenCount + 1, maxTokenCount);
+                if (tokenCount == tokenStartOffsets.length) {
+                    tokenStartOffsets = Arrays.copyOf(tokenStartOffsets, tokenCount * 2);
+                }
+                tokenStartOffsets[tokenCount++] = offsetAttribute.startOffset();
+            }
+            tokenStream.end();
+        } catch (Exception e) {
+            throw createTokenizationException(e);
+        }
+        return Arrays.copyOf(tokenStartOffsets, tokenCount);
+    }
+
+    /**
+     * Throw IllegalStateException if number of tokens exceeds max_token_count
+     *
+     * @param tokenCount number of tokens read so far
+     * @param maxTokenCount the max token limit for the tokenizer
+     */
+    static void validateTokenCount(final int tokenCount, final int maxTokenCount) {
+        if (tokenCount > maxTokenCount) {
+            throw new IllegalStateException(
+                "The number of tokens produced by calling _analyze has exceeded the allowed maximum of ["
+                    + maxTokenCount
+                    + "]."
+                    + " This limit can be set by changing the [index.analyze.max_token_count] index level setting."
+            );
+        }
+    }
+
+    IllegalStateException createTokenizationException(final Exception e) {
+        return new IllegalStateException(String.format(Locale.ROOT, "analyzer %s throws exception: %s", tokenizer, e.getMessage()), e);
+    }
+
+    private Analyzer getAnalyzer() throws IOException {
+        if (analyzer == null) {
+            synchronized (this) {
+                if (analyzer == null) {
+                    analyzer = analysisRegistry.buildCustomAnalyzer(null, false, new NameOrDefinition(tokenizer), List.of(), List.of());
+                }
+            }
+        }
+        return analyzer;
+    }
+}
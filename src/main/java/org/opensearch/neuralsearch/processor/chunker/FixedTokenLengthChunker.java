@@ -7,13 +7,11 @@ package org.opensearch.neuralsearch.processor.chunker;
 import java.util.Locale;
 import java.util.Map;
 import java.util.List;
-import java.util.Set;
 import java.util.ArrayList;
 
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
 import org.opensearch.index.analysis.AnalysisRegistry;
-import org.opensearch.action.admin.indices.analyze.AnalyzeAction;
-import org.opensearch.action.admin.indices.analyze.AnalyzeAction.AnalyzeToken;
-import static org.opensearch.action.admin.indices.analyze.TransportAnalyzeAction.analyze;
 import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseInteger;
 import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseStringWithDefault;
 import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseDoubleWithDefault;
@@ -50,29 +48,21 @@ public final class FixedTokenLengthChunker implements Chunker {
     // parameter restrictions
     private static final double OVERLAP_RATE_LOWER_BOUND = 0.0;
     private static final double OVERLAP_RATE_UPPER_BOUND = 0.5;
-    private static final Set<String> WORD_TOKENIZERS = Set.of(
-        "standard",
-        "letter",
-        "lowercase",
-        "whitespace",
-        "uax_url_email",
-        "classic",
-        "thai"
-    );
 
     // parameter value
     private int tokenLimit;
     private String tokenizer;
     private double overlapRate;
     private final AnalysisRegistry analysisRegistry;
+    private ChunkerTokenizer chunkerTokenizer;
 
     /**
      * Constructor that initializes the fixed token length chunker with the specified parameters.
      * @param parameters a map with non-runtime parameters to be parsed
      */
     public FixedTokenLengthChunker(final Map<String, Object> parameters) {
-        parseParameters(parameters);
         this.analysisRegistry = (AnalysisRegistry) parameters.get(ANALYSIS_REGISTRY_FIELD);
+        parseParameters(parameters);
     }
 
     /**
@@ -106,22 +96,15 @@ public final class FixedTokenLengthChunker implements Chunker {
                 )
             );
         }
-        if (!WORD_TOKENIZERS.contains(tokenizer)) {
-            throw new IllegalArgumentException(
-                String.format(
-                    Locale.ROOT,
-                    "Tokenizer [%s] is not supported for [%s] algorithm. Supported tokenizers are %s",
-                    tokenizer,
-                    ALGORITHM_NAME,
-                    WORD_TOKENIZERS
-                )
-            );
-        }
+        ChunkerTokenizer.validateWordTokenizer(tokenizer, ALGORITHM_NAME);
+        this.chunkerTokenizer = new ChunkerTokenizer(analysisRegistry, tokenizer);
     }
 
     /**
      * Return the chunked passages for fixed token length algorithm.
      * Throw IllegalArgumentException when runtime parameters are invalid.
+     * Token offsets are read directly from the token stream and passages are emitted while tokens are consumed, so token
+     * lists are never materialized. Reading stops once max_chunk_limit is reached, the rest of the content becomes the last passage.
      *
      * @param content input string
      * @param runtimeParameters a map for runtime parameters, containing the following runtime parameters:
@@ -135,49 +118,46 @@ public final class FixedTokenLengthChunker implements Chunker {
         int runtimeMaxChunkLimit = parseInteger(runtimeParameters, MAX_CHUNK_LIMIT_FIELD);
         int chunkStringCount = parseInteger(runtimeParameters, CHUNK_STRING_COUNT_FIELD);
 
-        List<AnalyzeToken> tokens = tokenize(content, tokenizer, maxTokenCount);
         List<String> chunkResult = new ArrayList<>();
-
-        int startTokenIndex = 0;
-        int startContentPosition, endContentPosition;
         int overlapTokenNumber = (int) Math.floor(tokenLimit * overlapRate);
-
-        while (startTokenIndex < tokens.size()) {
-            if (startTokenIndex == 0) {
-                // include all characters till the start if no previous passage
-                startContentPosition = 0;
-            } else {
-                startContentPosition = tokens.get(startTokenIndex).getStartOffset();
-            }
-            if (Chunker.checkRunTimeMaxChunkLimit(chunkResult.size(), runtimeMaxChunkLimit, chunkStringCount)) {
-                // include all characters till the end if exceeds max chunk limit
-                chunkResult.add(content.substring(startContentPosition));
-                break;
-            }
-            if (startTokenIndex + tokenLimit >= tokens.size()) {
-                // include all characters till the end if no next passage
-                endContentPosition = content.length();
-                chunkResult.add(content.substring(startContentPosition, endContentPosition));
-                break;
-            } else {
-                // include gap characters between two passages
-                endContentPosition = tokens.get(startTokenIndex + tokenLimit).getStartOffset();
-                chunkResult.add(content.substring(startContentPosition, endContentPosition));
+        int tokenStep = tokenLimit - overlapTokenNumber;
+        int tokenCount = 0;
+        int startTokenIndex = 0;
+        // include all characters till the start if no previous passage
+        int startContentPosition = 0;
+        int nextStartContentPosition = 0;
+        try (TokenStream tokenStream = chunkerTokenizer.tokenStream(content)) {
+            OffsetAttribute offsetAttribute = tokenStream.addAttribute(OffsetAttribute.class);
+            tokenStream.reset();
+            boolean isMaxChunkLimitReached = false;
+            while (!isMaxChunkLimitReached && tokenStream.incrementToken()) {
+                int tokenIndex = tokenCount++;
+                ChunkerTokenizer.validateTokenCount(tokenCount, maxTokenCount);
+                boolean isNewPassageStarted = tokenIndex == 0;
+                if (tokenIndex == startTokenIndex + tokenLimit) {
+                    // include gap characters between two passages
+                    chunkResult.add(content.substring(startContentPosition, offsetAttribute.startOffset()));
+                    startTokenIndex += tokenStep;
+                    // without overlap the next passage starts from the current token, otherwise its start token was read before
+                    startContentPosition = tokenIndex == startTokenIndex ? offsetAttribute.startOffset() : nextStartContentPosition;
+                    isNewPassageStarted = true;
+                }
+                if (tokenIndex == startTokenIndex + tokenStep) {
+                    // remember where the next passage starts, with overlap it's read before the end token of current passage
+                    nextStartContentPosition = offsetAttribute.startOffset();
+                }
+                if (isNewPassageStarted) {
+                    isMaxChunkLimitReached = Chunker.checkRunTimeMaxChunkLimit(chunkResult.size(), runtimeMaxChunkLimit, chunkStringCount);
+                }
             }
-            startTokenIndex += tokenLimit - overlapTokenNumber;
-        }
-        return chunkResult;
-    }
-
-    private List<AnalyzeToken> tokenize(final String content, final String tokenizer, final int maxTokenCount) {
-        AnalyzeAction.Request analyzeRequest = new AnalyzeAction.Request();
-        analyzeRequest.text(content);
-        analyzeRequest.tokenizer(tokenizer);
-        try {
-            AnalyzeAction.Response analyzeResponse = analyze(analyzeRequest, analysisRegistry, null, maxTokenCount);
-            return analyzeResponse.getTokens();
+            tokenStream.end();
         } catch (Exception e) {
-            throw new IllegalStateException(String.format(Locale.ROOT, "analyzer %s throws exception: %s", tokenizer, e.getMessage()), e);
+            throw chunkerTokenizer.createTokenizationException(e);
         }
+        if (tokenCount > 0) {
+            // include all characters till the end if no next passage or if exceeds max chunk limit
+            chunkResult.add(content.substring(startContentPosition));
+        }
+        return chunkResult;
     }
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.chunker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.index.analysis.AnalysisRegistry;
+
+import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseInteger;
+import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parsePositiveIntegerWithDefault;
+import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseStringListWithDefault;
+import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseStringWithDefault;
+import static org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker.ANALYSIS_REGISTRY_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker.MAX_TOKEN_COUNT_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker.TOKENIZER_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker.TOKEN_LIMIT_FIELD;
+
+/**
+ * The implementation {@link Chunker} for recursive algorithm. Content is split on a hierarchy of delimiters, from paragraphs
+ * to sentences to words, until every piece fits into the token limit. Adjacent pieces are then greedily merged into passages
+ * of near-uniform size, close to the average size needed to fit the content into the token limit.
+ */
+public final class RecursiveChunker implements Chunker {
+
+    /** The identifier for the recursive chunking algorithm. */
+    public static final String ALGORITHM_NAME = "recursive";
+
+    /** The parameter field name for specifying the hierarchy of delimiters, from the coarsest to the finest. */
+    public static final String DELIMITERS_FIELD = "delimiters";
+
+    /** The default delimiters, split on paragraphs, then lines, then sentences, then words. */
+    public static final List<String> DEFAULT_DELIMITERS = List.of("\n\n", "\n", ". ", " ");
+
+    // default values for each non-runtime parameter
+    private static final int DEFAULT_TOKEN_LIMIT = 384;
+    private static final String DEFAULT_TOKENIZER = "standard";
+
+    // parameter value
+    private int tokenLimit;
+    private String tokenizer;
+    private List<String> delimiters;
+    private final AnalysisRegistry analysisRegistry;
+    private ChunkerTokenizer chunkerTokenizer;
+
+    /**
+     * Constructor that initializes the recursive chunker with the specified parameters.
+     * @param parameters a map with non-runtime parameters to be parsed
+     */
+    public RecursiveChunker(final Map<String, Object> parameters) {
+        this.analysisRegistry = (AnalysisRegistry) parameters.get(ANALYSIS_REGISTRY_FIELD);
+        parseParameters(parameters);
+    }
+
+    /**
+     * Parse the parameters for recursive algorithm.
+     * Throw IllegalArgumentException when parameters are invalid.
+     *
+     * @param parameters a map with non-runtime parameters as the following:
+     * 1. tokenizer: the <a href="https://opensearch.org/docs/latest/analyzers/tokenizers/index/">word tokenizer</a> in opensearch
+     * 2. token_limit: the token limit for each chunked passage
+     * 3. delimiters: list of delimiters, from the coarsest to the finest
+     * 4. max_chunk_limit processor level max chunk limit
+     * Here are requirements for non-runtime parameters:
+     * 1. token_limit must be a positive integer
+     * 2. delimiters must be a non-empty list of non-empty strings
+     * 3. tokenizer must be a word tokenizer
+     */
+    @Override
+    public void parseParameters(Map<String, Object> parameters) {
+        this.tokenLimit = parsePositiveIntegerWithDefault(parameters, TOKEN_LIMIT_FIELD, DEFAULT_TOKEN_LIMIT);
+        this.tokenizer = parseStringWithDefault(parameters, TOKENIZER_FIELD, DEFAULT_TOKENIZER);
+        this.delimiters = parseStringListWithDefault(parameters, DELIMITERS_FIELD, DEFAULT_DELIMITERS);
+        ChunkerTokenizer.validateWordTokenizer(tokenizer, ALGORITHM_NAME);
+        this.chunkerTokenizer = new ChunkerTokenizer(analysisRegistry, tokenizer);
+    }
+
+    /**
+     * Return the chunked passages for recursive algorithm.
+     * Throw IllegalArgumentException when runtime parameters are invalid.
+     *
+     * @param content input string
+     * @param runtimeParameters a map for runtime parameters, containing the following runtime parameters:
+     * 1. max_token_count the max token limit for the tokenizer
+     * 2. max_chunk_limit field level max chunk limit
+     * 3. chunk_string_count number of non-empty strings (including itself) which need to be chunked later
+     */
+    @Override
+    public List<String> chunk(final String content, final Map<String, Object> runtimeParameters) {
+        int maxTokenCount = parseInteger(runtimeParameters, MAX_TOKEN_COUNT_FIELD);
+        int runtimeMaxChunkLimit = parseInteger(runtimeParameters, MAX_CHUNK_LIMIT_FIELD);
+        int chunkStringCount = parseInteger(runtimeParameters, CHUNK_STRING_COUNT_FIELD);
+
+        // content is tokenized once, token count of any part of the content is then computed from token start offsets
+        int[] tokenStartOffsets = chunkerTokenizer.getTokenStartOffsets(content, maxTokenCount);
+        // pieces are adjacent, so every piece is represented by its end position in the content
+        List<Integer> pieceEndPositions = new ArrayList<>();
+        splitRecursively(content, 0, content.length(), 0, tokenStartOffsets, pieceEndPositions);
+
+        // greedy merge up to the token limit gives the minimal number of passages, then passage sizes are balanced
+        // around the average size for this number of passages if that doesn't produce more passages
+        List<Integer> passageEndPositions = mergePieces(pieceEndPositions, tokenStartOffsets, tokenLimit);
+        if (passageEndPositions.size() > 1) {
+            int targetTokenCount = (tokenStartOffsets.length + passageEndPositions.size() - 1) / passageEndPositions.size();
+            List<Integer> balancedPassageEndPositions = mergePieces(pieceEndPositions, tokenStartOffsets, targetTokenCount);
+            if (balancedPassageEndPositions.size() == passageEndPositions.size()) {
+                passageEndPositions = balancedPassageEndPositions;
+            }
+        }
+
+        List<String> chunkResult = new ArrayList<>();
+        int passageStartPosition = 0;
+        for (int i = 0; i < passageEndPositions.size() - 1; i++) {
+            if (Chunker.checkRunTimeMaxChunkLimit(chunkResult.size(), runtimeMaxChunkLimit, chunkStringCount)) {
+                break;
+            }
+            chunkResult.add(content.substring(passageStartPosition, passageEndPositions.get(i)));
+            passageStartPosition = passageEndPositions.get(i);
+        }
+        if (passageStartPosition < content.length()) {
+            // include all characters till the end for the last passage or if exceeds max chunk limit
+            chunkResult.add(content.substring(passageStartPosition));
+        }
+        return chunkResult;
+    }
+
+    /**
+     * Greedily merge adjacent pieces into passages within token limit, aiming for the target passage size
+     * @return end positions of passages in the content
+     */
+    private List<Integer> mergePieces(final List<Integer> pieceEndPositions, final int[] tokenStartOffsets, final int targetTokenCount) {
+        List<Integer> passageEndPositions = new ArrayList<>();
+        int passageStartPosition = 0;
+        int passageEndPosition = 0;
+        for (int pieceEndPosition : pieceEndPositions) {
+            if (passageEndPosition > passageStartPosition) {
+                int passageTokenCount = countTokens(tokenStartOffsets, passageStartPosition, passageEndPosition);
+                int mergedTokenCount = countTokens(tokenStartOffsets, passageStartPosition, pieceEndPosition);
+                if (!shouldMerge(passageTokenCount, mergedTokenCount, targetTokenCount)) {
+                    passageEndPositions.add(passageEndPosition);
+                    passageStartPosition = passageEndPosition;
+                }
+            }
+            passageEndPosition = pieceEndPosition;
+        }
+        if (passageEndPosition > passageStartPosition) {
+            passageEndPositions.add(passageEndPosition);
+        }
+        return passageEndPositions;
+    }
+
+    private boolean shouldMerge(final int passageTokenCount, final int mergedTokenCount, final int targetTokenCount) {
+        if (mergedTokenCount > tokenLimit) {
+            return false;
+        }
+        // merge if it keeps passage within the target size or brings passage size at least as close to the target
+        return mergedTokenCount <= targetTokenCount || mergedTokenCount - targetTokenCount <= targetTokenCount - passageTokenCount;
+    }
+
+    /**
+     * Split part of the content into pieces within token limit. Part is split on delimiter of the current level and each
+     * piece exceeding the limit is split on the next level delimiter. Pieces exceeding the limit after all delimiters are
+     * split by token count. Delimiters are kept at the end of pieces, so pieces cover the content without gaps. Delimiters
+     * are only searched within the part, so a delimiter missing from the rest of the content doesn't make every piece scan
+     * till the end of the content.
+     */
+    private void splitRecursively(
+        final String content,
+        final int startPosition,
+        final int endPosition,
+        final int delimiterLevel,
+        final int[] tokenStartOffsets,
+        final List<Integer> pieceEndPositions
+    ) {
+        if (countTokens(tokenStartOffsets, startPosition, endPosition) <= tokenLimit) {
+            pieceEndPositions.add(endPosition);
+            return;
+        }
+        if (delimiterLevel == delimiters.size()) {
+            splitByTokenLimit(startPosition, endPosition, tokenStartOffsets, pieceEndPositions);
+            return;
+        }
+        String delimiter = delimiters.get(delimiterLevel);
+        int pieceStartPosition = startPosition;
+        int delimiterPosition = content.indexOf(delimiter, pieceStartPosition, endPosition);
+        while (delimiterPosition != -1) {
+            int pieceEndPosition = delimiterPosition + delimiter.length();
+            splitRecursively(content, pieceStartPosition, pieceEndPosition, delimiterLevel + 1, tokenStartOffsets, pieceEndPositions);
+            pieceStartPosition = pieceEndPosition;
+            delimiterPosition = content.indexOf(delimiter, pieceStartPosition, endPosition);
+        }
+        if (pieceStartPosition < endPosition) {
+            splitRecursively(content, pieceStartPosition, endPosition, delimiterLevel + 1, tokenStartOffsets, pieceEndPositions);
+        }
+    }
+
+    private void splitByTokenLimit(
+        final int startPosition,
+        final int endPosition,
+        final int[] tokenStartOffsets,
+        final List<Integer> pieceEndPositions
+    ) {
+        int startTokenIndex = lowerBound(tokenStartOffsets, startPosition);
+        int endTokenIndex = lowerBound(tokenStartOffsets, endPosition);
+        for (int tokenIndex = startTokenIndex + tokenLimit; tokenIndex < endTokenIndex; tokenIndex += tokenLimit) {
+            pieceEndPositions.add(tokenStartOffsets[tokenIndex]);
+        }
+        pieceEndPositions.add(endPosition);
+    }
+
+    /**
+     * Count tokens starting within [startPosition, endPosition) of the content
+     */
+    private int countTokens(final int[] tokenStartOffsets, final int startPosition, final int endPosition) {
+        return lowerBound(tokenStartOffsets, endPosition) - lowerBound(tokenStartOffsets, startPosition);
+    }
+
+    /**
+     * Return index of the first token starting at or after the position
+     */
+    private int lowerBound(final int[] tokenStartOffsets, final int position) {
+        int low = 0, high = tokenStartOffsets.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tokenStartOffsets[mid] < position) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -4,6 +4,7 @@
  */
 package org.opensearch.neuralsearch.processor.combination;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -58,6 +59,32 @@ public class ArithmeticMeanScoreCombinationTechnique implements ScoreCombination
         return combinedScore / sumOfWeights;
     }
 
+    /**
+     * Arithmetic mean for scores of multiple documents, sums are accumulated per document one sub-query at a time
+     */
+    @Override
+    public void combine(final float[][] scoresPerSubQuery, final float[] combinedScores) {
+        scoreCombinationUtil.validateIfWeightsMatchScores(scoresPerSubQuery, weights);
+        int numberOfDocs = combinedScores.length;
+        float[] sumsOfWeights = new float[numberOfDocs];
+        Arrays.fill(combinedScores, 0, numberOfDocs, 0.0f);
+        for (int indexOfSubQuery = 0; indexOfSubQuery < scoresPerSubQuery.length; indexOfSubQuery++) {
+            float[] scores = scoresPerSubQuery[indexOfSubQuery];
+            float weight = scoreCombinationUtil.getWeightForSubQuery(weights, indexOfSubQuery);
+            for (int indexOfDoc = 0; indexOfDoc < numberOfDocs; indexOfDoc++) {
+                float score = scores[indexOfDoc];
+                if (score >= 0.0) {
+                    combinedScores[indexOfDoc] += score * weight;
+                    sumsOfWeights[indexOfDoc] += weight;
+                }
+            }
+        }
+        for (int indexOfDoc = 0; indexOfDoc < numberOfDocs; indexOfDoc++) {
+            float sumOfWeights = sumsOfWeights[indexOfDoc];
+            combinedScores[indexOfDoc] = sumOfWeights == 0.0f ? ZERO_SCORE : combinedScores[indexOfDoc] / sumOfWeights;
+        }
+    }
+
     @Override
     public String describe() {
         return describeCombinationTechnique(TECHNIQUE_NAME, weights);
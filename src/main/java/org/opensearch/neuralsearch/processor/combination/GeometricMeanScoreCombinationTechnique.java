@@ -58,6 +58,33 @@ public class GeometricMeanScoreCombinationTechnique implements ScoreCombinationT
         return sumOfWeights == 0 ? ZERO_SCORE : (float) Math.exp(weightedLnSum / sumOfWeights);
     }
 
+    /**
+     * Weighted geometric mean for scores of multiple documents, sums are accumulated per document one sub-query at a time
+     */
+    @Override
+    public void combine(final float[][] scoresPerSubQuery, final float[] combinedScores) {
+        scoreCombinationUtil.validateIfWeightsMatchScores(scoresPerSubQuery, weights);
+        int numberOfDocs = combinedScores.length;
+        float[] weightedLnSums = new float[numberOfDocs];
+        float[] sumsOfWeights = new float[numberOfDocs];
+        for (int indexOfSubQuery = 0; indexOfSubQuery < scoresPerSubQuery.length; indexOfSubQuery++) {
+            float[] scores = scoresPerSubQuery[indexOfSubQuery];
+            float weight = scoreCombinationUtil.getWeightForSubQuery(weights, indexOfSubQuery);
+            for (int indexOfDoc = 0; indexOfDoc < numberOfDocs; indexOfDoc++) {
+                float score = scores[indexOfDoc];
+                // scores 0.0 need to be skipped, ln() of 0 is not defined
+                if (score > 0) {
+                    sumsOfWeights[indexOfDoc] += weight;
+                    weightedLnSums[indexOfDoc] += weight * Math.log(score);
+                }
+            }
+        }
+        for (int indexOfDoc = 0; indexOfDoc < numberOfDocs; indexOfDoc++) {
+            float sumOfWeights = sumsOfWeights[indexOfDoc];
+            combinedScores[indexOfDoc] = sumOfWeights == 0 ? ZERO_SCORE : (float) Math.exp(weightedLnSums[indexOfDoc] / sumOfWeights);
+        }
+    }
+
     @Override
     public String describe() {
         return describeCombinationTechnique(TECHNIQUE_NAME, weights);
@@ -55,6 +55,32 @@ public class HarmonicMeanScoreCombinationTechnique implements ScoreCombinationTe
         return sumOfHarmonics > 0 ? sumOfWeights / sumOfHarmonics : ZERO_SCORE;
     }
 
+    /**
+     * Weighted harmonic mean for scores of multiple documents, sums are accumulated per document one sub-query at a time
+     */
+    @Override
+    public void combine(final float[][] scoresPerSubQuery, final float[] combinedScores) {
+        scoreCombinationUtil.validateIfWeightsMatchScores(scoresPerSubQuery, weights);
+        int numberOfDocs = combinedScores.length;
+        float[] sumsOfWeights = new float[numberOfDocs];
+        float[] sumsOfHarmonics = new float[numberOfDocs];
+        for (int indexOfSubQuery = 0; indexOfSubQuery < scoresPerSubQuery.length; indexOfSubQuery++) {
+            float[] scores = scoresPerSubQuery[indexOfSubQuery];
+            float weightOfSubQuery = scoreCombinationUtil.getWeightForSubQuery(weights, indexOfSubQuery);
+            for (int indexOfDoc = 0; indexOfDoc < numberOfDocs; indexOfDoc++) {
+                float score = scores[indexOfDoc];
+                if (score > 0) {
+                    sumsOfWeights[indexOfDoc] += weightOfSubQuery;
+                    sumsOfHarmonics[indexOfDoc] += weightOfSubQuery / score;
+                }
+            }
+        }
+        for (int indexOfDoc = 0; indexOfDoc < numberOfDocs; indexOfDoc++) {
+            float sumOfHarmonics = sumsOfHarmonics[indexOfDoc];
+            combinedScores[indexOfDoc] = sumOfHarmonics > 0 ? sumsOfWeights[indexOfDoc] / sumOfHarmonics : ZERO_SCORE;
+        }
+    }
+
     @Override
     public String describe() {
         return describeCombinationTechnique(TECHNIQUE_NAME, weights);
@@ -8,9 +8,13 @@ import lombok.ToString;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
+import static org.opensearch.neuralsearch.processor.combination.ScoreCombinationUtil.PARAM_NAME_WEIGHTS;
 import static org.opensearch.neuralsearch.processor.explain.ExplanationUtils.describeCombinationTechnique;
 
 /**
@@ -21,24 +25,57 @@ import static org.opensearch.neuralsearch.processor.explain.ExplanationUtils.des
 public class RRFScoreCombinationTechnique implements ScoreCombinationTechnique, ExplainableTechnique {
     @ToString.Include
     public static final String TECHNIQUE_NAME = "rrf";
+    private static final Set<String> SUPPORTED_PARAMS = Set.of(PARAM_NAME_WEIGHTS);
+    private final List<Float> weights;
+    private final ScoreCombinationUtil scoreCombinationUtil;
 
-    // Not currently using weights for RRF, no need to modify or verify these params
-    public RRFScoreCombinationTechnique() {}
+    public RRFScoreCombinationTechnique(final Map<String, Object> params, final ScoreCombinationUtil combinationUtil) {
+        scoreCombinationUtil = combinationUtil;
+        scoreCombinationUtil.validateParams(params, SUPPORTED_PARAMS);
+        weights = scoreCombinationUtil.getWeights(params);
+    }
 
+    /**
+     * Weighted reciprocal rank fusion, rank scores of sub-queries are summed up.
+     * score = weight1*rankScore1 + weight2*rankScore2 +...+ weightN*rankScoreN
+     *
+     * Weight of every sub-query is 1.0 if weights are not provided
+     */
     @Override
     public float combine(final float[] scores) {
         if (Objects.isNull(scores)) {
             throw new IllegalArgumentException("scores array cannot be null");
         }
-        float sumScores = 0.0f;
-        for (float score : scores) {
-            sumScores += score;
+        scoreCombinationUtil.validateIfWeightsMatchScores(scores, weights);
+        float combinedScore = 0.0f;
+        for (int indexOfSubQuery = 0; indexOfSubQuery < scores.length; indexOfSubQuery++) {
+            combinedScore += scores[indexOfSubQuery] * scoreCombinationUtil.getWeightForSubQuery(weights, indexOfSubQuery);
+        }
+        return combinedScore;
+    }
+
+    /**
+     * Weighted reciprocal rank fusion for scores of multiple documents, rank scores are summed up one sub-query at a time
+     */
+    @Override
+    public void combine(final float[][] scoresPerSubQuery, final float[] combinedScores) {
+        if (Objects.isNull(scoresPerSubQuery)) {
+            throw new IllegalArgumentException("scores array cannot be null");
+        }
+        scoreCombinationUtil.validateIfWeightsMatchScores(scoresPerSubQuery, weights);
+        int numberOfDocs = combinedScores.length;
+        Arrays.fill(combinedScores, 0, numberOfDocs, 0.0f);
+        for (int indexOfSubQuery = 0; indexOfSubQuery < scoresPerSubQuery.length; indexOfSubQuery++) {
+            float[] scores = scoresPerSubQuery[indexOfSubQuery];
+            float weight = scoreCombinationUtil.getWeightForSubQuery(weights, indexOfSubQuery);
+            for (int indexOfDoc = 0; indexOfDoc < numberOfDocs; indexOfDoc++) {
+                combinedScores[indexOfDoc] += scores[indexOfDoc] * weight;
+            }
         }
-        return sumScores;
     }
 
     @Override
     public String describe() {
-        return describeCombinationTechnique(TECHNIQUE_NAME, List.of());
+        return describeCombinationTechnique(TECHNIQUE_NAME, weights);
     }
 }
@@ -4,8 +4,11 @@
  */
 package org.opensearch.neuralsearch.processor.combination;
 
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -19,16 +22,23 @@ public class ScoreCombinationFactory {
         scoreCombinationUtil
     );
 
-    private final Map<String, Function<Map<String, Object>, ScoreCombinationTechnique>> scoreCombinationMethodsMap = Map.of(
-        ArithmeticMeanScoreCombinationTechnique.TECHNIQUE_NAME,
-        params -> new ArithmeticMeanScoreCombinationTechnique(params, scoreCombinationUtil),
-        HarmonicMeanScoreCombinationTechnique.TECHNIQUE_NAME,
-        params -> new HarmonicMeanScoreCombinationTechnique(params, scoreCombinationUtil),
-        GeometricMeanScoreCombinationTechnique.TECHNIQUE_NAME,
-        params -> new GeometricMeanScoreCombinationTechnique(params, scoreCombinationUtil),
-        RRFScoreCombinationTechnique.TECHNIQUE_NAME,
-        params -> new RRFScoreCombinationTechnique()
-    );
+    private final Map<String, Function<Map<String, Object>, ScoreCombinationTechnique>> scoreCombinationMethodsMap;
+
+    public ScoreCombinationFactory() {
+        // custom techniques are registered after creation, so built-in techniques are kept in a concurrent map
+        scoreCombinationMethodsMap = new ConcurrentHashMap<>(
+            Map.of(
+                ArithmeticMeanScoreCombinationTechnique.TECHNIQUE_NAME,
+                params -> new ArithmeticMeanScoreCombinationTechnique(params, scoreCombinationUtil),
+                HarmonicMeanScoreCombinationTechnique.TECHNIQUE_NAME,
+                params -> new HarmonicMeanScoreCombinationTechnique(params, scoreCombinationUtil),
+                GeometricMeanScoreCombinationTechnique.TECHNIQUE_NAME,
+                params -> new GeometricMeanScoreCombinationTechnique(params, scoreCombinationUtil),
+                RRFScoreCombinationTechnique.TECHNIQUE_NAME,
+                params -> new RRFScoreCombinationTechnique(params, scoreCombinationUtil)
+            )
+        );
+    }
 
     /**
      * Get score combination method by technique name
@@ -50,4 +60,21 @@ public class ScoreCombinationFactory {
             .orElseThrow(() -> new IllegalArgumentException("provided combination technique is not supported"))
             .apply(params);
     }
+
+    /**
+     * Register custom score combination technique, built-in techniques cannot be overridden
+     * @param technique name of technique
+     * @param techniqueFunction function that creates instance of ScoreCombinationTechnique from parameters
+     */
+    public void registerCombinationTechnique(
+        final String technique,
+        final Function<Map<String, Object>, ScoreCombinationTechnique> techniqueFunction
+    ) {
+        if (Objects.isNull(technique) || Objects.isNull(techniqueFunction)) {
+            throw new IllegalArgumentException("combination technique name and function cannot be null");
+        }
+        if (scoreCombinationMethodsMap.putIfAbsent(technique, techniqueFunction) != null) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "combination technique [%s] is already registered", technique));
+        }
+    }
 }
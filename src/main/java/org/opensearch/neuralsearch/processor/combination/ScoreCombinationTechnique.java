@@ -12,4 +12,20 @@ public interface ScoreCombinationTechnique {
      * @return combined score
      */
     float combine(final float[] scores);
+
+    /**
+     * Combines scores of multiple documents in one call. Scores are laid out per sub-query, so implementations can process
+     * each sub-query in a tight loop over documents. Default implementation combines every document separately.
+     * @param scoresPerSubQuery matrix of scores, scoresPerSubQuery[j][i] is the score of document i for sub-query j
+     * @param combinedScores array for combined scores, one element per document
+     */
+    default void combine(final float[][] scoresPerSubQuery, final float[] combinedScores) {
+        float[] scores = new float[scoresPerSubQuery.length];
+        for (int indexOfDoc = 0; indexOfDoc < combinedScores.length; indexOfDoc++) {
+            for (int indexOfSubQuery = 0; indexOfSubQuery < scoresPerSubQuery.length; indexOfSubQuery++) {
+                scores[indexOfSubQuery] = scoresPerSubQuery[indexOfSubQuery][indexOfDoc];
+            }
+            combinedScores[indexOfDoc] = combine(scores);
+        }
+    }
 }
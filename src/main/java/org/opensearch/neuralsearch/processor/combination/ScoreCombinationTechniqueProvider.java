@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Extension point for plugins that add custom score combination techniques. Plugin that extends neural search plugin
+ * implements this interface and lists the implementation in META-INF/services, techniques are registered in
+ * {@link ScoreCombinationFactory} when the plugin is loaded and can be used by name in search pipeline processors.
+ * Techniques should also implement {@link org.opensearch.neuralsearch.processor.explain.ExplainableTechnique} to support
+ * explain in hybrid query.
+ */
+public interface ScoreCombinationTechniqueProvider {
+
+    /**
+     * Get custom score combination techniques
+     * @return map of technique name to function that creates technique instance from processor parameters
+     */
+    Map<String, Function<Map<String, Object>, ScoreCombinationTechnique>> getScoreCombinationTechniques();
+}
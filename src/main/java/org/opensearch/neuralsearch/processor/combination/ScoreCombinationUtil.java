@@ -96,16 +96,30 @@ public class ScoreCombinationUtil {
      * @param weights score combination weights that are defined as part of search result processor
      */
     protected void validateIfWeightsMatchScores(final float[] scores, final List<Float> weights) {
+        validateIfWeightsMatchNumberOfSubQueries(scores.length, weights);
+    }
+
+    /**
+     * Check if number of weights matches number of queries for scores of multiple documents. This does not apply for case when
+     * weights were not provided, as this is valid default value
+     * @param scoresPerSubQuery matrix of scores with one row per sub-query of a single hybrid search query
+     * @param weights score combination weights that are defined as part of search result processor
+     */
+    protected void validateIfWeightsMatchScores(final float[][] scoresPerSubQuery, final List<Float> weights) {
+        validateIfWeightsMatchNumberOfSubQueries(scoresPerSubQuery.length, weights);
+    }
+
+    private void validateIfWeightsMatchNumberOfSubQueries(final int numberOfSubQueries, final List<Float> weights) {
         if (weights.isEmpty()) {
             return;
         }
-        if (scores.length != weights.size()) {
+        if (numberOfSubQueries != weights.size()) {
             throw new IllegalArgumentException(
                 String.format(
                     Locale.ROOT,
                     "number of weights [%d] must match number of sub-queries [%d] in hybrid query",
                     weights.size(),
-                    scores.length
+                    numberOfSubQueries
                 )
             );
         }
@@ -15,8 +15,6 @@ import java.util.Objects;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 
-import java.util.stream.Collectors;
-
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopFieldDocs;
@@ -86,12 +84,9 @@ public class ScoreCombiner {
         }
         List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
 
-        // - create map of normalized scores results returned from the single shard
-        Map<Integer, float[]> normalizedScoresPerDoc = getNormalizedScoresPerDocument(topDocsPerSubQuery);
-
-        // - create map of combined scores per doc id
-        Map<Integer, Float> combinedNormalizedScoresByDocId = combineScoresAndGetCombinedNormalizedScoresPerDocument(
-            normalizedScoresPerDoc,
+        // - create map of combined scores per doc id from normalized scores returned from the single shard
+        Map<Integer, Float> combinedNormalizedScoresByDocId = getCombinedNormalizedScoresPerDocument(
+            topDocsPerSubQuery,
             scoreCombinationTechnique
         );
 
@@ -258,29 +253,35 @@ public class ScoreCombiner {
         return new ScoreDoc(docId, combinedNormalizedScoresByDocId.get(docId), shardId);
     }
 
-    public Map<Integer, float[]> getNormalizedScoresPerDocument(final List<TopDocs> topDocsPerSubQuery) {
-        Map<Integer, float[]> normalizedScoresPerDoc = new HashMap<>();
-        for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-            TopDocs topDocs = topDocsPerSubQuery.get(j);
+    /**
+     * Combine normalized scores of all documents returned from the single shard. Scores are collected into a matrix with one
+     * row per sub-query and one column per document, and the whole matrix is combined in one call. Documents that are not
+     * returned by a sub-query have 0.0 score for that sub-query.
+     */
+    private Map<Integer, Float> getCombinedNormalizedScoresPerDocument(
+        final List<TopDocs> topDocsPerSubQuery,
+        final ScoreCombinationTechnique scoreCombinationTechnique
+    ) {
+        // assign column of the score matrix to every unique doc id
+        Map<Integer, Integer> indexOfDocByDocId = new HashMap<>();
+        for (TopDocs topDocs : topDocsPerSubQuery) {
             for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                normalizedScoresPerDoc.computeIfAbsent(scoreDoc.doc, key -> {
-                    float[] scores = new float[topDocsPerSubQuery.size()];
-                    // we initialize with -1.0, as after normalization it's possible that score is 0.0
-                    return scores;
-                });
-                normalizedScoresPerDoc.get(scoreDoc.doc)[j] = scoreDoc.score;
+                indexOfDocByDocId.putIfAbsent(scoreDoc.doc, indexOfDocByDocId.size());
             }
         }
-        return normalizedScoresPerDoc;
-    }
+        int numberOfDocs = indexOfDocByDocId.size();
+        float[][] scoresPerSubQuery = new float[topDocsPerSubQuery.size()][numberOfDocs];
+        for (int indexOfSubQuery = 0; indexOfSubQuery < topDocsPerSubQuery.size(); indexOfSubQuery++) {
+            for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(indexOfSubQuery).scoreDocs) {
+                scoresPerSubQuery[indexOfSubQuery][indexOfDocByDocId.get(scoreDoc.doc)] = scoreDoc.score;
+            }
+        }
+        float[] combinedScores = new float[numberOfDocs];
+        scoreCombinationTechnique.combine(scoresPerSubQuery, combinedScores);
 
-    private Map<Integer, Float> combineScoresAndGetCombinedNormalizedScoresPerDocument(
-        final Map<Integer, float[]> normalizedScoresPerDocument,
-        final ScoreCombinationTechnique scoreCombinationTechnique
-    ) {
-        return normalizedScoresPerDocument.entrySet()
-            .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, entry -> scoreCombinationTechnique.combine(entry.getValue())));
+        Map<Integer, Float> combinedNormalizedScoresByDocId = new HashMap<>(indexOfDocByDocId.size() * 2);
+        indexOfDocByDocId.forEach((docId, indexOfDoc) -> combinedNormalizedScoresByDocId.put(docId, combinedScores[indexOfDoc]));
+        return combinedNormalizedScoresByDocId;
     }
 
     private void updateQueryTopDocsWithCombinedScores(
@@ -346,12 +347,11 @@ public class ScoreCombiner {
         if (Objects.isNull(compoundQueryTopDocs) || compoundQueryTopDocs.getTotalHits().value() == 0) {
             return List.of();
         }
-        // create map of normalized scores results returned from the single shard
-        Map<Integer, float[]> normalizedScoresPerDoc = getNormalizedScoresPerDocument(compoundQueryTopDocs.getTopDocs());
-        // combine scores
-        Map<Integer, Float> combinedNormalizedScoresByDocId = normalizedScoresPerDoc.entrySet()
-            .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, entry -> scoreCombinationTechnique.combine(entry.getValue())));
+        // combine normalized scores results returned from the single shard
+        Map<Integer, Float> combinedNormalizedScoresByDocId = getCombinedNormalizedScoresPerDocument(
+            compoundQueryTopDocs.getTopDocs(),
+            scoreCombinationTechnique
+        );
         // sort combined scores as per sorting criteria - either score desc or field sorting
         Collection<Integer> sortedDocsIds = getSortedDocsIds(compoundQueryTopDocs, sort, combinedNormalizedScoresByDocId);
 
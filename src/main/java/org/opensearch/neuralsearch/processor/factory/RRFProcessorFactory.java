@@ -4,6 +4,7 @@
  */
 package org.opensearch.neuralsearch.processor.factory;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -22,6 +23,7 @@ import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 import static org.opensearch.ingest.ConfigurationUtils.readOptionalMap;
+import static org.opensearch.neuralsearch.processor.combination.ScoreCombinationUtil.PARAM_NAME_WEIGHTS;
 import static org.opensearch.ingest.ConfigurationUtils.readStringProperty;
 
 /**
@@ -63,10 +65,24 @@ public class RRFProcessorFactory implements Processor.Factory<SearchPhaseResults
                 TECHNIQUE,
                 RRFScoreCombinationTechnique.TECHNIQUE_NAME
             );
-            // check for optional combination params
+            // check for optional combination params, rank constant is used for rank scores and weights for combination of rank scores
             Map<String, Object> params = readOptionalMap(RRFProcessor.TYPE, tag, combinationClause, PARAMETERS);
-            normalizationTechnique = scoreNormalizationFactory.createNormalization(RRFNormalizationTechnique.TECHNIQUE_NAME, params);
-            scoreCombinationTechnique = scoreCombinationFactory.createCombination(combinationTechnique);
+            Map<String, Object> normalizationParams = new HashMap<>();
+            Map<String, Object> combinationParams = new HashMap<>();
+            if (Objects.nonNull(params)) {
+                params.forEach((name, value) -> {
+                    if (PARAM_NAME_WEIGHTS.equals(name)) {
+                        combinationParams.put(name, value);
+                    } else {
+                        normalizationParams.put(name, value);
+                    }
+                });
+            }
+            normalizationTechnique = scoreNormalizationFactory.createNormalization(
+                RRFNormalizationTechnique.TECHNIQUE_NAME,
+                normalizationParams
+            );
+            scoreCombinationTechnique = scoreCombinationFactory.createCombination(combinationTechnique, combinationParams);
         }
         log.info(
             "Creating search phase results processor of type [{}] with normalization [{}] and combination [{}]",
@@ -4,12 +4,14 @@
  */
 package org.opensearch.neuralsearch.processor.factory;
 
+import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
 import static org.opensearch.ingest.ConfigurationUtils.readMap;
 import static org.opensearch.ingest.ConfigurationUtils.readStringProperty;
 import static org.opensearch.ingest.ConfigurationUtils.readOptionalStringProperty;
 import static org.opensearch.ingest.ConfigurationUtils.readDoubleProperty;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.MODEL_ID_FIELD;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.FIELD_MAP_FIELD;
+import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.REQUIRE_SOURCE_EXCLUDES_FIELD;
 import static org.opensearch.neuralsearch.processor.SparseEncodingProcessor.TYPE;
 
 import java.util.Locale;
@@ -45,6 +47,7 @@ public class SparseEncodingProcessorFactory extends AbstractBatchingProcessor.Fa
     protected AbstractBatchingProcessor newProcessor(String tag, String description, int batchSize, Map<String, Object> config) {
         String modelId = readStringProperty(TYPE, tag, config, MODEL_ID_FIELD);
         Map<String, Object> fieldMap = readMap(TYPE, tag, config, FIELD_MAP_FIELD);
+        boolean requireSourceExcludes = readBooleanProperty(TYPE, tag, config, REQUIRE_SOURCE_EXCLUDES_FIELD, false);
         // if the field is miss, will return PruneType.None
         PruneType pruneType = PruneType.fromString(readOptionalStringProperty(TYPE, tag, config, PruneUtils.PRUNE_TYPE_FIELD));
         float pruneRatio = 0;
@@ -74,6 +77,7 @@ public class SparseEncodingProcessorFactory extends AbstractBatchingProcessor.Fa
             batchSize,
             modelId,
             fieldMap,
+            requireSourceExcludes,
             pruneType,
             pruneRatio,
             clientAccessor,
@@ -9,7 +9,7 @@ import java.util.Map;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.env.Environment;
 import org.opensearch.index.analysis.AnalysisRegistry;
-import org.opensearch.ingest.Processor;
+import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.neuralsearch.processor.TextChunkingProcessor;
 import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.TYPE;
 import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.FIELD_MAP_FIELD;
@@ -24,8 +24,9 @@ import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
  * Instantiates processor based on user provided input, which includes:
  * 1. field_map: the input and output fields specified by the user
  * 2. algorithm: chunking algorithm and its parameters
+ * 3. batch_size: number of documents chunked together when documents are ingested in batches
  */
-public class TextChunkingProcessorFactory implements Processor.Factory {
+public class TextChunkingProcessorFactory extends AbstractBatchingProcessor.Factory {
 
     private final Environment environment;
 
@@ -34,24 +35,21 @@ public class TextChunkingProcessorFactory implements Processor.Factory {
     private final AnalysisRegistry analysisRegistry;
 
     public TextChunkingProcessorFactory(Environment environment, ClusterService clusterService, AnalysisRegistry analysisRegistry) {
+        super(TYPE);
         this.environment = environment;
         this.clusterService = clusterService;
         this.analysisRegistry = analysisRegistry;
     }
 
     @Override
-    public TextChunkingProcessor create(
-        Map<String, Processor.Factory> registry,
-        String processorTag,
-        String description,
-        Map<String, Object> config
-    ) throws Exception {
+    protected AbstractBatchingProcessor newProcessor(String processorTag, String description, int batchSize, Map<String, Object> config) {
         Map<String, Object> fieldMap = readMap(TYPE, processorTag, config, FIELD_MAP_FIELD);
         Map<String, Object> algorithmMap = readMap(TYPE, processorTag, config, ALGORITHM_FIELD);
         boolean ignoreMissing = readBooleanProperty(TYPE, processorTag, config, IGNORE_MISSING, DEFAULT_IGNORE_MISSING);
         return new TextChunkingProcessor(
             processorTag,
             description,
+            batchSize,
             fieldMap,
             algorithmMap,
             ignoreMissing,
@@ -4,11 +4,15 @@
  */
 package org.opensearch.neuralsearch.processor.factory;
 
+import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
 import static org.opensearch.ingest.ConfigurationUtils.readMap;
+import static org.opensearch.ingest.ConfigurationUtils.readOptionalStringProperty;
 import static org.opensearch.ingest.ConfigurationUtils.readStringProperty;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.TYPE;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.MODEL_ID_FIELD;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.FIELD_MAP_FIELD;
+import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.REQUIRE_SOURCE_EXCLUDES_FIELD;
+import static org.opensearch.neuralsearch.util.quantization.EmbeddingDataType.EMBEDDING_DATA_TYPE_FIELD;
 
 import java.util.Map;
 
@@ -17,6 +21,7 @@ import org.opensearch.env.Environment;
 import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.TextEmbeddingProcessor;
+import org.opensearch.neuralsearch.util.quantization.EmbeddingDataType;
 
 /**
  * Factory for text embedding ingest processor for ingestion pipeline. Instantiates processor based on user provided input.
@@ -44,6 +49,21 @@ public final class TextEmbeddingProcessorFactory extends AbstractBatchingProcess
     protected AbstractBatchingProcessor newProcessor(String tag, String description, int batchSize, Map<String, Object> config) {
         String modelId = readStringProperty(TYPE, tag, config, MODEL_ID_FIELD);
         Map<String, Object> filedMap = readMap(TYPE, tag, config, FIELD_MAP_FIELD);
-        return new TextEmbeddingProcessor(tag, description, batchSize, modelId, filedMap, clientAccessor, environment, clusterService);
+        boolean requireSourceExcludes = readBooleanProperty(TYPE, tag, config, REQUIRE_SOURCE_EXCLUDES_FIELD, false);
+        EmbeddingDataType embeddingDataType = EmbeddingDataType.fromString(
+            readOptionalStringProperty(TYPE, tag, config, EMBEDDING_DATA_TYPE_FIELD.getPreferredName())
+        );
+        return new TextEmbeddingProcessor(
+            tag,
+            description,
+            batchSize,
+            modelId,
+            filedMap,
+            requireSourceExcludes,
+            embeddingDataType,
+            clientAccessor,
+            environment,
+            clusterService
+        );
     }
 }
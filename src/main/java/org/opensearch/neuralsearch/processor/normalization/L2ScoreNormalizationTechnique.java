@@ -22,6 +22,7 @@ import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 
 import static org.opensearch.neuralsearch.processor.explain.ExplanationUtils.getDocIdAtQueryForNormalization;
+import static org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationUtil.getScoreStats;
 
 /**
  * Abstracts normalization of scores based on L2 method
@@ -43,7 +44,7 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
     public void normalize(final NormalizeScoresDTO normalizeScoresDTO) {
         List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
         // get l2 norms for each sub-query
-        List<Float> normsPerSubquery = getL2Norm(queryTopDocs);
+        List<Float> normsPerSubquery = getL2Norm(getScoreStats(normalizeScoresDTO));
 
         // do normalization using actual score and l2 norm
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
@@ -68,7 +69,7 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
     @Override
     public Map<DocIdAtSearchShard, ExplanationDetails> explain(List<CompoundTopDocs> queryTopDocs) {
         Map<DocIdAtSearchShard, List<Float>> normalizedScores = new HashMap<>();
-        List<Float> normsPerSubquery = getL2Norm(queryTopDocs);
+        List<Float> normsPerSubquery = getL2Norm(SubQueryScoreStats.fromQueryResults(queryTopDocs));
 
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
             if (Objects.isNull(compoundQueryTopDocs)) {
@@ -95,36 +96,11 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
         return getDocIdAtQueryForNormalization(normalizedScores, this);
     }
 
-    private List<Float> getL2Norm(final List<CompoundTopDocs> queryTopDocs) {
-        // find any non-empty compound top docs, it's either empty if shard does not have any results for all of sub-queries,
-        // or it has results for all the sub-queries. In edge case of shard having results only for one sub-query, there will be TopDocs for
-        // rest of sub-queries with zero total hits
-        int numOfSubqueries = queryTopDocs.stream()
-            .filter(Objects::nonNull)
-            .filter(topDocs -> topDocs.getTopDocs().size() > 0)
-            .findAny()
-            .get()
-            .getTopDocs()
-            .size();
-        float[] l2Norms = new float[numOfSubqueries];
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            int bound = topDocsPerSubQuery.size();
-            for (int index = 0; index < bound; index++) {
-                for (ScoreDoc scoreDocs : topDocsPerSubQuery.get(index).scoreDocs) {
-                    l2Norms[index] += scoreDocs.score * scoreDocs.score;
-                }
-            }
-        }
-        for (int index = 0; index < l2Norms.length; index++) {
-            l2Norms[index] = (float) Math.sqrt(l2Norms[index]);
-        }
+    private List<Float> getL2Norm(final SubQueryScoreStats scoreStats) {
+        // sum of squares for each sub-query is collected from results of all shards in a single pass
         List<Float> l2NormList = new ArrayList<>();
-        for (int index = 0; index < numOfSubqueries; index++) {
-            l2NormList.add(l2Norms[index]);
+        for (int index = 0; index < scoreStats.getNumOfSubQueries(); index++) {
+            l2NormList.add(scoreStats.getL2Norm(index));
         }
         return l2NormList;
     }
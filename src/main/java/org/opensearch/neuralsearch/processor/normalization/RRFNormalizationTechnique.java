@@ -4,20 +4,20 @@
  */
 package org.opensearch.neuralsearch.processor.normalization;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Locale;
+import java.util.PriorityQueue;
 import java.util.Set;
 
 import org.apache.commons.lang3.Range;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
 import org.opensearch.common.TriConsumer;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 
@@ -40,16 +40,28 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
     public static final String TECHNIQUE_NAME = "rrf";
     public static final int DEFAULT_RANK_CONSTANT = 60;
     public static final String PARAM_NAME_RANK_CONSTANT = "rank_constant";
-    private static final Set<String> SUPPORTED_PARAMS = Set.of(PARAM_NAME_RANK_CONSTANT);
+    public static final String PARAM_NAME_RANK_SCOPE = "rank_scope";
+    public static final String RANK_SCOPE_SHARD = "shard";
+    public static final String RANK_SCOPE_GLOBAL = "global";
+    private static final Set<String> SUPPORTED_PARAMS = Set.of(PARAM_NAME_RANK_CONSTANT, PARAM_NAME_RANK_SCOPE);
+    private static final Set<String> SUPPORTED_RANK_SCOPES = Set.of(RANK_SCOPE_SHARD, RANK_SCOPE_GLOBAL);
     private static final int MIN_RANK_CONSTANT = 1;
     private static final int MAX_RANK_CONSTANT = 10_000;
     private static final Range<Integer> RANK_CONSTANT_RANGE = Range.of(MIN_RANK_CONSTANT, MAX_RANK_CONSTANT);
+    // covers default page sizes and typical pagination depths, table grows if sub-query returns more results
+    private static final int INITIAL_RECIPROCAL_RANKS_SIZE = 1024;
     @ToString.Include
     private final int rankConstant;
+    @ToString.Include
+    private final String rankScope;
+    // reciprocal rank score for every position in sub-query results, replaced with a larger copy when needed
+    private volatile float[] reciprocalRanks;
 
     public RRFNormalizationTechnique(final Map<String, Object> params, final ScoreNormalizationUtil scoreNormalizationUtil) {
         scoreNormalizationUtil.validateParams(params, SUPPORTED_PARAMS);
         rankConstant = getRankConstant(params);
+        rankScope = getRankScope(params);
+        reciprocalRanks = computeReciprocalRanks(INITIAL_RECIPROCAL_RANKS_SIZE);
     }
 
     /**
@@ -62,43 +74,141 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
      * (j + 1 is used to adjust for 0 indexing)
      * document_n_score = 1 / (rankConstant + subquery_result_rank)
      * document scores are summed in combination step
+     * With global rank scope subquery_result_rank is the rank of the document among results of the subquery from all shards,
+     * only documents in the global top of the subquery's results get a rank score, where the size of the global top is the
+     * number of results returned by a single shard. Results are ranked per shard if they are sorted by a field.
      */
     @Override
     public void normalize(final NormalizeScoresDTO normalizeScoresDTO) {
         final List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            processTopDocs(compoundQueryTopDocs, (docId, score, subQueryIndex) -> {});
-        }
+        processQueryTopDocs(queryTopDocs, (docId, score, subQueryIndex) -> {});
     }
 
     @Override
     public String describe() {
+        if (RANK_SCOPE_GLOBAL.equals(rankScope)) {
+            return String.format(Locale.ROOT, "%s, rank_constant [%s], rank_scope [%s]", TECHNIQUE_NAME, rankConstant, rankScope);
+        }
         return String.format(Locale.ROOT, "%s, rank_constant [%s]", TECHNIQUE_NAME, rankConstant);
     }
 
     @Override
     public Map<DocIdAtSearchShard, ExplanationDetails> explain(List<CompoundTopDocs> queryTopDocs) {
         Map<DocIdAtSearchShard, List<Float>> normalizedScores = new HashMap<>();
+        int numberOfSubQueries = getNumberOfSubQueries(queryTopDocs);
+        processQueryTopDocs(
+            queryTopDocs,
+            (docId, score, subQueryIndex) -> ScoreNormalizationUtil.setNormalizedScore(
+                normalizedScores,
+                docId,
+                subQueryIndex,
+                numberOfSubQueries,
+                score
+            )
+        );
+
+        return getDocIdAtQueryForNormalization(normalizedScores, this);
+    }
+
+    private void processQueryTopDocs(List<CompoundTopDocs> queryTopDocs, TriConsumer<DocIdAtSearchShard, Float, Integer> scoreProcessor) {
+        // results sorted by a field are not ordered by score, so they cannot be merged across shards by score
+        if (RANK_SCOPE_GLOBAL.equals(rankScope) && !isSortEnabled(queryTopDocs)) {
+            int numberOfSubQueries = getNumberOfSubQueries(queryTopDocs);
+            for (int subQueryIndex = 0; subQueryIndex < numberOfSubQueries; subQueryIndex++) {
+                processSubQueryAcrossShards(queryTopDocs, subQueryIndex, scoreProcessor);
+            }
+            return;
+        }
+        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
+            processTopDocs(compoundQueryTopDocs, scoreProcessor);
+        }
+    }
 
+    /**
+     * Assign global ranks to results of one sub-query. Results of every shard are sorted by score, so they are merged
+     * with a k-way merge that stops once the global top is ranked. Documents after the global top get zero score,
+     * same as documents that do not match the sub-query.
+     */
+    private void processSubQueryAcrossShards(
+        List<CompoundTopDocs> queryTopDocs,
+        int subQueryIndex,
+        TriConsumer<DocIdAtSearchShard, Float, Integer> scoreProcessor
+    ) {
+        List<ScoreDoc[]> scoreDocsPerShard = new ArrayList<>();
+        List<SearchShard> searchShards = new ArrayList<>();
+        int numberOfRanks = 0;
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
+            if (Objects.isNull(compoundQueryTopDocs) || compoundQueryTopDocs.getTopDocs().size() <= subQueryIndex) {
                 continue;
             }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            int numberOfSubQueries = topDocsPerSubQuery.size();
-            processTopDocs(
-                compoundQueryTopDocs,
-                (docId, score, subQueryIndex) -> ScoreNormalizationUtil.setNormalizedScore(
-                    normalizedScores,
-                    docId,
-                    subQueryIndex,
-                    numberOfSubQueries,
-                    score
-                )
+            ScoreDoc[] scoreDocs = compoundQueryTopDocs.getTopDocs().get(subQueryIndex).scoreDocs;
+            if (scoreDocs.length == 0) {
+                continue;
+            }
+            scoreDocsPerShard.add(scoreDocs);
+            searchShards.add(compoundQueryTopDocs.getSearchShard());
+            // every shard returns up to the same number of results for the sub-query, that is the size of the global top
+            numberOfRanks = Math.max(numberOfRanks, scoreDocs.length);
+        }
+        if (scoreDocsPerShard.isEmpty()) {
+            return;
+        }
+        float[] reciprocalRankScores = getReciprocalRanks(numberOfRanks);
+        // position of the next not ranked document for every shard
+        int[] positions = new int[scoreDocsPerShard.size()];
+        // queue of shards ordered by score of their next document, ties are broken by shard order
+        PriorityQueue<Integer> shardQueue = new PriorityQueue<>(scoreDocsPerShard.size(), (shard1, shard2) -> {
+            int scoreComparison = Float.compare(
+                scoreDocsPerShard.get(shard2)[positions[shard2]].score,
+                scoreDocsPerShard.get(shard1)[positions[shard1]].score
             );
+            return scoreComparison != 0 ? scoreComparison : Integer.compare(shard1, shard2);
+        });
+        for (int shard = 0; shard < scoreDocsPerShard.size(); shard++) {
+            shardQueue.add(shard);
+        }
+        for (int rank = 0; rank < numberOfRanks && !shardQueue.isEmpty(); rank++) {
+            int shard = shardQueue.poll();
+            ScoreDoc scoreDoc = scoreDocsPerShard.get(shard)[positions[shard]];
+            updateScore(scoreDoc, searchShards.get(shard), subQueryIndex, reciprocalRankScores[rank], scoreProcessor);
+            positions[shard]++;
+            if (positions[shard] < scoreDocsPerShard.get(shard).length) {
+                shardQueue.add(shard);
+            }
         }
+        for (int shard = 0; shard < scoreDocsPerShard.size(); shard++) {
+            ScoreDoc[] scoreDocs = scoreDocsPerShard.get(shard);
+            for (int position = positions[shard]; position < scoreDocs.length; position++) {
+                updateScore(scoreDocs[position], searchShards.get(shard), subQueryIndex, 0.0f, scoreProcessor);
+            }
+        }
+    }
 
-        return getDocIdAtQueryForNormalization(normalizedScores, this);
+    private void updateScore(
+        ScoreDoc scoreDoc,
+        SearchShard searchShard,
+        int subQueryIndex,
+        float normalizedScore,
+        TriConsumer<DocIdAtSearchShard, Float, Integer> scoreProcessor
+    ) {
+        DocIdAtSearchShard docIdAtSearchShard = new DocIdAtSearchShard(scoreDoc.doc, searchShard);
+        scoreProcessor.apply(docIdAtSearchShard, normalizedScore, subQueryIndex);
+        scoreDoc.score = normalizedScore;
+    }
+
+    private boolean isSortEnabled(List<CompoundTopDocs> queryTopDocs) {
+        return queryTopDocs.stream()
+            .filter(Objects::nonNull)
+            .flatMap(compoundQueryTopDocs -> compoundQueryTopDocs.getTopDocs().stream())
+            .anyMatch(topDocs -> topDocs instanceof TopFieldDocs);
+    }
+
+    private int getNumberOfSubQueries(List<CompoundTopDocs> queryTopDocs) {
+        return queryTopDocs.stream()
+            .filter(Objects::nonNull)
+            .mapToInt(compoundQueryTopDocs -> compoundQueryTopDocs.getTopDocs().size())
+            .max()
+            .orElse(0);
     }
 
     private void processTopDocs(CompoundTopDocs compoundQueryTopDocs, TriConsumer<DocIdAtSearchShard, Float, Integer> scoreProcessor) {
@@ -120,16 +230,34 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
         int topDocsIndex,
         TriConsumer<DocIdAtSearchShard, Float, Integer> scoreProcessor
     ) {
-        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-            float normalizedScore = calculateNormalizedScore(Arrays.asList(topDocs.scoreDocs).indexOf(scoreDoc));
-            DocIdAtSearchShard docIdAtSearchShard = new DocIdAtSearchShard(scoreDoc.doc, searchShard);
-            scoreProcessor.apply(docIdAtSearchShard, normalizedScore, topDocsIndex);
-            scoreDoc.score = normalizedScore;
+        ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+        float[] reciprocalRankScores = getReciprocalRanks(scoreDocs.length);
+        // results of sub-query are sorted by score, so position in the array is the rank of the document
+        for (int position = 0; position < scoreDocs.length; position++) {
+            updateScore(scoreDocs[position], searchShard, topDocsIndex, reciprocalRankScores[position], scoreProcessor);
+        }
+    }
+
+    /**
+     * Get table of reciprocal rank scores that has score for each of the first numberOfRanks positions
+     */
+    private float[] getReciprocalRanks(final int numberOfRanks) {
+        float[] currentReciprocalRanks = reciprocalRanks;
+        if (numberOfRanks <= currentReciprocalRanks.length) {
+            return currentReciprocalRanks;
         }
+        // concurrent searches may compute the same table, both results are identical so the last write wins
+        float[] extendedReciprocalRanks = computeReciprocalRanks(Math.max(numberOfRanks, currentReciprocalRanks.length * 2));
+        reciprocalRanks = extendedReciprocalRanks;
+        return extendedReciprocalRanks;
     }
 
-    private float calculateNormalizedScore(int position) {
-        return BigDecimal.ONE.divide(BigDecimal.valueOf(rankConstant + position + 1), 10, RoundingMode.HALF_UP).floatValue();
+    private float[] computeReciprocalRanks(final int numberOfRanks) {
+        float[] scores = new float[numberOfRanks];
+        for (int position = 0; position < numberOfRanks; position++) {
+            scores[position] = (float) (1.0d / (rankConstant + position + 1));
+        }
+        return scores;
     }
 
     private int getRankConstant(final Map<String, Object> params) {
@@ -141,6 +269,25 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
         return rankConstant;
     }
 
+    private String getRankScope(final Map<String, Object> params) {
+        if (Objects.isNull(params) || !params.containsKey(PARAM_NAME_RANK_SCOPE)) {
+            return RANK_SCOPE_SHARD;
+        }
+        String rankScope = String.valueOf(params.get(PARAM_NAME_RANK_SCOPE));
+        if (!SUPPORTED_RANK_SCOPES.contains(rankScope)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "rank scope must be one of [%s, %s], submitted rank scope: %s",
+                    RANK_SCOPE_SHARD,
+                    RANK_SCOPE_GLOBAL,
+                    rankScope
+                )
+            );
+        }
+        return rankScope;
+    }
+
     private void validateRankConstant(final int rankConstant) {
         if (!RANK_CONSTANT_RANGE.contains(rankConstant)) {
             throw new IllegalArgumentException(
@@ -5,6 +5,7 @@
 package org.opensearch.neuralsearch.processor.normalization;
 
 import lombok.extern.log4j.Log4j2;
+import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
 import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
 
 import java.util.ArrayList;
@@ -57,6 +58,19 @@ class ScoreNormalizationUtil {
         }
     }
 
+    /**
+     * Get per sub-query score statistics for normalization. Statistics that were collected while shard results were
+     * consumed are reused, otherwise statistics are collected from query results
+     * @param normalizeScoresDTO data transfer object with query results and optional statistics
+     * @return per sub-query score statistics
+     */
+    public static SubQueryScoreStats getScoreStats(final NormalizeScoresDTO normalizeScoresDTO) {
+        if (Objects.nonNull(normalizeScoresDTO.getScoreStats())) {
+            return normalizeScoresDTO.getScoreStats();
+        }
+        return SubQueryScoreStats.fromQueryResults(normalizeScoresDTO.getQueryTopDocs());
+    }
+
     /**
      * Sets a normalized score for a specific document at a specific subquery index
      *
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+
+import lombok.Getter;
+
+/**
+ * Per sub-query statistics of hybrid query scores: min score, max score and sum of squared scores. Statistics are collected
+ * on the coordinator incrementally, shard by shard, in the same pass that consumes shard results, so normalization techniques
+ * don't need separate passes over results of all shards to find min, max or l2 norm of scores.
+ */
+@Getter
+public class SubQueryScoreStats {
+    private float[] minScores;
+    private float[] maxScores;
+    private float[] sumOfSquares;
+
+    public SubQueryScoreStats(final int numOfSubQueries) {
+        minScores = new float[0];
+        maxScores = new float[0];
+        sumOfSquares = new float[0];
+        ensureNumOfSubQueries(numOfSubQueries);
+    }
+
+    /**
+     * Collect global statistics for results from all shards. Scores of each shard are added to global statistics shard by shard
+     * @param queryTopDocs results of all sub-queries from all shards
+     * @return global statistics for each sub-query
+     */
+    public static SubQueryScoreStats fromQueryResults(final List<CompoundTopDocs> queryTopDocs) {
+        SubQueryScoreStats globalStats = new SubQueryScoreStats(0);
+        for (CompoundTopDocs compoundTopDocs : queryTopDocs) {
+            globalStats.collect(compoundTopDocs);
+        }
+        return globalStats;
+    }
+
+    /**
+     * Add scores from results of one more shard to these statistics. Allows to build global statistics incrementally while
+     * results of shards are being consumed, without another pass over all results
+     * @param compoundTopDocs results of all sub-queries from one shard, can be null
+     */
+    public void collect(final CompoundTopDocs compoundTopDocs) {
+        // shard either has no results for all sub-queries, or has TopDocs for each sub-query, possibly with zero hits
+        if (Objects.isNull(compoundTopDocs) || compoundTopDocs.getTopDocs().isEmpty()) {
+            return;
+        }
+        List<TopDocs> topDocsPerSubQuery = compoundTopDocs.getTopDocs();
+        ensureNumOfSubQueries(topDocsPerSubQuery.size());
+        for (int subQueryIndex = 0; subQueryIndex < topDocsPerSubQuery.size(); subQueryIndex++) {
+            for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(subQueryIndex).scoreDocs) {
+                addScore(subQueryIndex, scoreDoc.score);
+            }
+        }
+    }
+
+    public int getNumOfSubQueries() {
+        return minScores.length;
+    }
+
+    /**
+     * Get l2 norm of scores for sub-query
+     * @param subQueryIndex index of sub-query
+     * @return square root of sum of squared scores
+     */
+    public float getL2Norm(final int subQueryIndex) {
+        return (float) Math.sqrt(sumOfSquares[subQueryIndex]);
+    }
+
+    private void ensureNumOfSubQueries(final int numOfSubQueries) {
+        int currentNumOfSubQueries = minScores.length;
+        if (numOfSubQueries <= currentNumOfSubQueries) {
+            return;
+        }
+        minScores = Arrays.copyOf(minScores, numOfSubQueries);
+        Arrays.fill(minScores, currentNumOfSubQueries, numOfSubQueries, Float.MAX_VALUE);
+        maxScores = Arrays.copyOf(maxScores, numOfSubQueries);
+        Arrays.fill(maxScores, currentNumOfSubQueries, numOfSubQueries, Float.MIN_VALUE);
+        sumOfSquares = Arrays.copyOf(sumOfSquares, numOfSubQueries);
+    }
+
+    private void addScore(final int subQueryIndex, final float score) {
+        minScores[subQueryIndex] = Math.min(minScores[subQueryIndex], score);
+        maxScores[subQueryIndex] = Math.max(maxScores[subQueryIndex], score);
+        sumOfSquares[subQueryIndex] += score * score;
+    }
+}
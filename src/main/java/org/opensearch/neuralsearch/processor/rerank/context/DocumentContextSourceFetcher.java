@@ -4,36 +4,58 @@
  */
 package org.opensearch.neuralsearch.processor.rerank.context;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ObjectPath;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.search.SearchHit;
 
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.RERANKER_MAX_DOC_FIELDS;
 
-import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 /**
- * Context Source Fetcher that gets context from the search results (documents)
+ * Context Source Fetcher that gets context from the search results (documents).
+ * Context fields are read from the fields of the hit first, so fields requested with "fields" or "docvalue_fields" don't
+ * require reading of the source. Otherwise, source is streamed and only the context fields are parsed, the rest of the
+ * source is skipped without being materialized.
  */
 @Log4j2
-@AllArgsConstructor
 public class DocumentContextSourceFetcher implements ContextSourceFetcher {
 
     public static final String NAME = "document_fields";
     public static final String DOCUMENT_CONTEXT_LIST_FIELD = "document_context_list";
 
     private final List<String> contextFields;
+    // top level source fields that are needed to evaluate context fields, including the first element of every field path
+    private final Set<String> sourceFieldNames;
+
+    public DocumentContextSourceFetcher(final List<String> contextFields) {
+        this.contextFields = contextFields;
+        this.sourceFieldNames = new HashSet<>();
+        for (String contextField : contextFields) {
+            sourceFieldNames.add(contextField);
+            sourceFieldNames.add(contextField.split("\\.", 2)[0]);
+        }
+    }
 
     /**
      * Fetch the information needed in order to rerank.
@@ -50,34 +72,85 @@ public class DocumentContextSourceFetcher implements ContextSourceFetcher {
         final ActionListener<Map<String, Object>> listener
     ) {
         List<String> contexts = new ArrayList<>();
-        for (SearchHit hit : searchResponse.getHits()) {
-            StringBuilder ctx = new StringBuilder();
-            for (String field : this.contextFields) {
-                ctx.append(contextFromSearchHit(hit, field));
+        try {
+            for (SearchHit hit : searchResponse.getHits()) {
+                StringBuilder ctx = new StringBuilder();
+                // source is read lazily once per hit, only if some of the context fields are not in the fields of the hit
+                Map<String, Object> sourceFields = null;
+                for (String field : this.contextFields) {
+                    if (hit.getFields().containsKey(field)) {
+                        ctx.append(String.valueOf(hit.field(field).getValue()));
+                        continue;
+                    }
+                    if (Objects.isNull(sourceFields)) {
+                        sourceFields = readSourceFields(hit);
+                    }
+                    ctx.append(contextFromSourceFields(hit, sourceFields, field));
+                }
+                contexts.add(ctx.toString());
             }
-            contexts.add(ctx.toString());
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
         }
         listener.onResponse(new HashMap<>(Map.of(DOCUMENT_CONTEXT_LIST_FIELD, contexts)));
     }
 
-    private String contextFromSearchHit(final SearchHit hit, final String field) {
-        if (hit.getFields().containsKey(field)) {
-            Object fieldValue = hit.field(field).getValue();
-            return String.valueOf(fieldValue);
-        } else if (hit.hasSource() && hit.getSourceAsMap().containsKey(field)) {
-            Object sourceValue = ObjectPath.eval(field, hit.getSourceAsMap());
+    private String contextFromSourceFields(final SearchHit hit, final Map<String, Object> sourceFields, final String field) {
+        if (sourceFields.containsKey(field)) {
+            Object sourceValue = ObjectPath.eval(field, sourceFields);
             return String.valueOf(sourceValue);
-        } else {
-            log.warn(
-                String.format(
-                    Locale.ROOT,
-                    "Could not find field %s in document %s for reranking! Using the empty string instead.",
-                    field,
-                    hit.getId()
-                )
-            );
-            return "";
         }
+        log.warn(
+            String.format(
+                Locale.ROOT,
+                "Could not find field %s in document %s for reranking! Using the empty string instead.",
+                field,
+                hit.getId()
+            )
+        );
+        return "";
+    }
+
+    /**
+     * Read top level fields of the source that are needed for the context. Other fields are skipped by the parser, so
+     * large sources are not converted to maps.
+     * @param hit search hit to read the source of
+     * @return map of source fields needed for the context, empty if the hit doesn't have source
+     * @throws IOException if source can't be parsed
+     */
+    private Map<String, Object> readSourceFields(final SearchHit hit) throws IOException {
+        Map<String, Object> sourceFields = new HashMap<>();
+        if (!hit.hasSource()) {
+            return sourceFields;
+        }
+        BytesReference source = hit.getSourceRef();
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.IGNORE_DEPRECATIONS,
+                source,
+                MediaTypeRegistry.xContentType(source)
+            )
+        ) {
+            if (parser.nextToken() != XContentParser.Token.START_OBJECT) {
+                return sourceFields;
+            }
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                XContentParser.Token token = parser.nextToken();
+                if (!sourceFieldNames.contains(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                switch (token) {
+                    case START_OBJECT -> sourceFields.put(fieldName, parser.map());
+                    case START_ARRAY -> sourceFields.put(fieldName, parser.list());
+                    default -> sourceFields.put(fieldName, parser.objectText());
+                }
+            }
+        }
+        return sourceFields;
     }
 
     @Override
@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
@@ -74,12 +75,14 @@ public class QueryContextSourceFetcher implements ContextSourceFetcher {
                 }
                 rerankContext.put(QUERY_TEXT_FIELD, (String) ctxMap.get(QUERY_TEXT_FIELD));
             } else if (ctxMap.containsKey(QUERY_TEXT_PATH_FIELD)) {
-                // Case "query_text_path": ser/de the query into a map and then find the text at the path specified
+                // Case "query_text_path": find the text at the path specified in the query builders, if the path can't be
+                // resolved against query builders ser/de the query into a map and find the text in the map
                 String path = (String) ctxMap.get(QUERY_TEXT_PATH_FIELD);
                 validatePath(path);
-                Map<String, Object> map = requestToMap(searchRequest);
-                // Get the text at the path
-                Object queryText = ObjectPath.eval(path, map);
+                Optional<String> resolvedQueryText = QueryTextPathResolver.resolve(path, searchRequest.source());
+                Object queryText = resolvedQueryText.isPresent()
+                    ? resolvedQueryText.get()
+                    : ObjectPath.eval(path, requestToMap(searchRequest));
                 if (!(queryText instanceof String)) {
                     throw new IllegalArgumentException(
                         String.format(Locale.ROOT, "%s must point to a string field", QUERY_TEXT_PATH_FIELD)
@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.rerank.context;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.MatchPhraseQueryBuilder;
+import org.opensearch.index.query.MatchQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.neuralsearch.query.HybridQueryBuilder;
+import org.opensearch.neuralsearch.query.NeuralQueryBuilder;
+import org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resolves query text path directly against query builders of the search request, without serializing the request.
+ * Path is resolved in the same way as against the request serialized to a map, for example
+ * "query.neural.embedding.query_text" or "query.hybrid.queries.0.match.title.query". Only paths that go through bool and
+ * hybrid queries to the query text of neural, neural_sparse, match, match_phrase or term query are resolved. For any other
+ * path resolver returns empty result, and the path needs to be evaluated against the serialized request.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class QueryTextPathResolver {
+    private static final String QUERY_FIELD = "query";
+    private static final String QUERY_TEXT_FIELD = "query_text";
+    private static final String VALUE_FIELD = "value";
+    private static final String HYBRID_QUERIES_FIELD = "queries";
+    private static final String MUST_FIELD = "must";
+    private static final String SHOULD_FIELD = "should";
+    private static final String FILTER_FIELD = "filter";
+    private static final String MUST_NOT_FIELD = "must_not";
+
+    /**
+     * Resolve query text at the path
+     * @param path path to the query text, like "query.neural.embedding.query_text"
+     * @param searchSourceBuilder source of the search request
+     * @return query text, or empty if the path can't be resolved against query builders
+     */
+    static Optional<String> resolve(final String path, final SearchSourceBuilder searchSourceBuilder) {
+        if (Objects.isNull(path) || Objects.isNull(searchSourceBuilder) || Objects.isNull(searchSourceBuilder.query())) {
+            return Optional.empty();
+        }
+        String[] segments = path.split("\\.");
+        if (!QUERY_FIELD.equals(segments[0])) {
+            return Optional.empty();
+        }
+        return resolveQuery(searchSourceBuilder.query(), segments, 1);
+    }
+
+    private static Optional<String> resolveQuery(final QueryBuilder queryBuilder, final String[] segments, final int position) {
+        if (position >= segments.length || !queryBuilder.getName().equals(segments[position])) {
+            return Optional.empty();
+        }
+        int nextPosition = position + 1;
+        if (queryBuilder instanceof BoolQueryBuilder) {
+            return resolveBoolQuery((BoolQueryBuilder) queryBuilder, segments, nextPosition);
+        }
+        if (queryBuilder instanceof HybridQueryBuilder) {
+            if (nextPosition >= segments.length || !HYBRID_QUERIES_FIELD.equals(segments[nextPosition])) {
+                return Optional.empty();
+            }
+            return resolveClause(((HybridQueryBuilder) queryBuilder).queries(), segments, nextPosition + 1);
+        }
+        if (queryBuilder instanceof NeuralQueryBuilder) {
+            NeuralQueryBuilder neuralQueryBuilder = (NeuralQueryBuilder) queryBuilder;
+            return resolveField(neuralQueryBuilder.fieldName(), QUERY_TEXT_FIELD, neuralQueryBuilder.queryText(), segments, nextPosition);
+        }
+        if (queryBuilder instanceof NeuralSparseQueryBuilder) {
+            NeuralSparseQueryBuilder neuralSparseQueryBuilder = (NeuralSparseQueryBuilder) queryBuilder;
+            return resolveField(
+                neuralSparseQueryBuilder.fieldName(),
+                QUERY_TEXT_FIELD,
+                neuralSparseQueryBuilder.queryText(),
+                segments,
+                nextPosition
+            );
+        }
+        if (queryBuilder instanceof MatchQueryBuilder) {
+            MatchQueryBuilder matchQueryBuilder = (MatchQueryBuilder) queryBuilder;
+            return resolveField(matchQueryBuilder.fieldName(), QUERY_FIELD, matchQueryBuilder.value(), segments, nextPosition);
+        }
+        if (queryBuilder instanceof MatchPhraseQueryBuilder) {
+            MatchPhraseQueryBuilder matchPhraseQueryBuilder = (MatchPhraseQueryBuilder) queryBuilder;
+            return resolveField(matchPhraseQueryBuilder.fieldName(), QUERY_FIELD, matchPhraseQueryBuilder.value(), segments, nextPosition);
+        }
+        if (queryBuilder instanceof TermQueryBuilder) {
+            TermQueryBuilder termQueryBuilder = (TermQueryBuilder) queryBuilder;
+            return resolveField(termQueryBuilder.fieldName(), VALUE_FIELD, termQueryBuilder.value(), segments, nextPosition);
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> resolveBoolQuery(final BoolQueryBuilder boolQueryBuilder, final String[] segments, final int position) {
+        if (position >= segments.length) {
+            return Optional.empty();
+        }
+        List<QueryBuilder> clauses = switch (segments[position]) {
+            case MUST_FIELD -> boolQueryBuilder.must();
+            case SHOULD_FIELD -> boolQueryBuilder.should();
+            case FILTER_FIELD -> boolQueryBuilder.filter();
+            case MUST_NOT_FIELD -> boolQueryBuilder.mustNot();
+            default -> null;
+        };
+        if (Objects.isNull(clauses)) {
+            return Optional.empty();
+        }
+        return resolveClause(clauses, segments, position + 1);
+    }
+
+    private static Optional<String> resolveClause(final List<QueryBuilder> clauses, final String[] segments, final int position) {
+        if (position >= segments.length) {
+            return Optional.empty();
+        }
+        int index;
+        try {
+            index = Integer.parseInt(segments[position]);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        if (index < 0 || index >= clauses.size()) {
+            return Optional.empty();
+        }
+        return resolveQuery(clauses.get(index), segments, position + 1);
+    }
+
+    // path must end with the field name followed by the name of the query text field, like "embedding.query_text"
+    private static Optional<String> resolveField(
+        final String fieldName,
+        final String queryTextFieldName,
+        final Object queryText,
+        final String[] segments,
+        final int position
+    ) {
+        if (segments.length != position + 2
+            || !segments[position].equals(fieldName)
+            || !queryTextFieldName.equals(segments[position + 1])
+            || !(queryText instanceof String)) {
+            return Optional.empty();
+        }
+        return Optional.of((String) queryText);
+    }
+}
@@ -15,7 +15,9 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang.builder.EqualsBuilder;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.Query;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.lucene.search.Queries;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.ParsingException;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -37,6 +39,7 @@ import lombok.experimental.Accessors;
 import lombok.extern.log4j.Log4j2;
 
 import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isClusterOnOrAfterMinReqVersionForPaginationInHybridQuery;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_MAX_SUB_QUERIES;
 
 /**
  * Class abstract creation of a Query type "hybrid". Hybrid query will allow execution of multiple sub-queries and
@@ -57,8 +60,25 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
 
     private Integer paginationDepth;
 
-    static final int MAX_NUMBER_OF_SUB_QUERIES = 5;
     private static final int LOWER_BOUND_OF_PAGINATION_DEPTH = 0;
+    private static volatile int maxNumberOfSubQueries = HYBRID_QUERY_MAX_SUB_QUERIES.get(Settings.EMPTY);
+
+    /**
+     * Initialize max number of sub-queries from node settings and keep it in sync with dynamic cluster setting
+     * @param clusterService cluster service of the node
+     */
+    public static void initialize(final ClusterService clusterService) {
+        maxNumberOfSubQueries = HYBRID_QUERY_MAX_SUB_QUERIES.get(clusterService.getSettings());
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(HYBRID_QUERY_MAX_SUB_QUERIES, value -> maxNumberOfSubQueries = value);
+    }
+
+    /**
+     * Get max number of sub-queries allowed in hybrid query
+     * @return value of the max sub-queries setting
+     */
+    static int getMaxNumberOfSubQueries() {
+        return maxNumberOfSubQueries;
+    }
 
     public HybridQueryBuilder(StreamInput in) throws IOException {
         super(in);
@@ -188,7 +208,7 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
             } else if (token == XContentParser.Token.START_ARRAY) {
                 if (QUERIES_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
                     while (token != XContentParser.Token.END_ARRAY) {
-                        if (queries.size() == MAX_NUMBER_OF_SUB_QUERIES) {
+                        if (queries.size() == maxNumberOfSubQueries) {
                             throw new ParsingException(
                                 parser.getTokenLocation(),
                                 String.format(Locale.ROOT, "Number of sub-queries exceeds maximum supported by [%s] query", NAME)
@@ -246,6 +266,11 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
     }
 
     protected QueryBuilder doRewrite(QueryRewriteContext queryShardContext) throws IOException {
+        // sub-queries with the same model inference share a single inference call
+        return ModelInferenceDeduplicator.deduplicateWithin(() -> rewriteSubQueries(queryShardContext));
+    }
+
+    private QueryBuilder rewriteSubQueries(QueryRewriteContext queryShardContext) throws IOException {
         HybridQueryBuilder newBuilder = new HybridQueryBuilder();
         boolean changed = false;
         for (QueryBuilder query : queries) {
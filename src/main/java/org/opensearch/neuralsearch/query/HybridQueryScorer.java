@@ -207,6 +207,38 @@ public class HybridQueryScorer extends Scorer {
         return scores;
     }
 
+    /**
+     * Collect scores of sub-queries that match doc id defined by current iterator position. Unlike {@link #hybridScores()}
+     * only matching sub-queries are visited and no array is allocated per doc, so cost of the call depends on the number
+     * of matching sub-queries rather than on the total number of sub-queries
+     * @param subQueryIndexes array to fill with indexes of matching sub-queries, must fit all sub-queries
+     * @param scores array to fill with scores of matching sub-queries, in the same order as sub-query indexes
+     * @return number of matching sub-queries, only that many first elements of both arrays are set
+     * @throws IOException
+     */
+    public int matchedSubQueryScores(final int[] subQueryIndexes, final float[] scores) throws IOException {
+        int numOfMatches = 0;
+        for (HybridDisiWrapper disiWrapper = (HybridDisiWrapper) getSubMatches(); disiWrapper != null; disiWrapper =
+            (HybridDisiWrapper) disiWrapper.next) {
+            Scorer scorer = disiWrapper.scorer;
+            if (scorer.docID() == DocIdSetIterator.NO_MORE_DOCS) {
+                continue;
+            }
+            subQueryIndexes[numOfMatches] = disiWrapper.getSubQueryIndex();
+            scores[numOfMatches] = scorer.score();
+            numOfMatches++;
+        }
+        return numOfMatches;
+    }
+
+    /**
+     * Return number of sub-queries in this hybrid query, including sub-queries without scorer for the segment
+     * @return number of sub-queries
+     */
+    public int getNumOfSubQueries() {
+        return numSubqueries;
+    }
+
     private DisiPriorityQueue initializeSubScorersPQ() {
         Objects.requireNonNull(subScorers, "should not be null");
         // we need to count this way in order to include all identical sub-queries
@@ -27,8 +27,6 @@ import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
 import org.opensearch.neuralsearch.executors.HybridQueryExecutorCollector;
 import org.opensearch.neuralsearch.executors.HybridQueryScoreSupplierCollectorManager;
 
-import static org.opensearch.neuralsearch.query.HybridQueryBuilder.MAX_NUMBER_OF_SUB_QUERIES;
-
 /**
  * Calculates query weights and build query scorers for hybrid query.
  */
@@ -117,7 +115,7 @@ public final class HybridQueryWeight extends Weight {
      */
     @Override
     public boolean isCacheable(LeafReaderContext ctx) {
-        if (weights.size() > MAX_NUMBER_OF_SUB_QUERIES) {
+        if (weights.size() > HybridQueryBuilder.getMaxNumberOfSubQueries()) {
             // this situation should never happen, but in case it do such query will not be cached
             return false;
         }
@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.query.QueryRewriteContext;
+
+/**
+ * Deduplicates model inference of query builders rewritten within one rewrite of a hybrid query. Sub-queries asking for
+ * the same inference type, model id and input, like sibling neural sub-queries that share query text and model, register
+ * a single async inference action. Every query builder receives the inference result through its own consumer, so it can
+ * post-process the shared result independently. Query builders rewritten outside of a hybrid query run their own inference.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ModelInferenceDeduplicator {
+    // set only for the duration of the hybrid query rewrite, sub-queries are rewritten synchronously on the same thread
+    private static final ThreadLocal<ModelInferenceDeduplicator> CURRENT = new ThreadLocal<>();
+
+    private final Map<InferenceKey, SharedInference<?>> sharedInferences = new HashMap<>();
+
+    /**
+     * Run the rewrite with inference deduplicated among all query builders rewritten by it. Nested calls join the
+     * deduplication scope of the outermost call.
+     *
+     * @param rewrite rewrite of the query builder and its sub-queries
+     * @param <T> type of rewrite result
+     * @return result of the rewrite
+     */
+    static <T> T deduplicateWithin(final CheckedSupplier<T, IOException> rewrite) throws IOException {
+        if (Objects.nonNull(CURRENT.get())) {
+            return rewrite.get();
+        }
+        CURRENT.set(new ModelInferenceDeduplicator());
+        try {
+            return rewrite.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Register model inference for the query builder. Inference is registered as async action of the rewrite context only
+     * if no inference with the same type, model id and input has been registered within the current deduplication scope.
+     *
+     * @param queryRewriteContext rewrite context of the search request
+     * @param inferenceType type of inference, results of different inference types are never shared
+     * @param modelId id of the model used for inference
+     * @param input inference input, must implement equals and hashCode
+     * @param inference function that calls the model and notifies the listener with inference result
+     * @param resultConsumer consumer of the inference result for the query builder
+     * @param failureHandler handler of the inference failure for the query builder, returns true if the query builder can
+     *                       proceed without inference result. Search request fails if any query builder doesn't handle the failure
+     * @param <T> type of inference result
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void registerInference(
+        final QueryRewriteContext queryRewriteContext,
+        final String inferenceType,
+        final String modelId,
+        final Object input,
+        final Consumer<ActionListener<T>> inference,
+        final Consumer<T> resultConsumer,
+        final Predicate<Exception> failureHandler
+    ) {
+        ModelInferenceDeduplicator deduplicator = CURRENT.get();
+        InferenceKey inferenceKey = new InferenceKey(inferenceType, modelId, input);
+        SharedInference<T> sharedInference = Objects.isNull(deduplicator)
+            ? null
+            : (SharedInference<T>) deduplicator.sharedInferences.get(inferenceKey);
+        boolean isNewInference = Objects.isNull(sharedInference);
+        if (isNewInference) {
+            sharedInference = new SharedInference<>();
+            if (Objects.nonNull(deduplicator)) {
+                deduplicator.sharedInferences.put(inferenceKey, sharedInference);
+            }
+        }
+        // consumer is added before async action is registered, as the action may be executed during registration
+        Exception unhandledFailure = sharedInference.addConsumer(resultConsumer, failureHandler);
+        if (isNewInference) {
+            final SharedInference<T> registeredInference = sharedInference;
+            queryRewriteContext.registerAsyncAction((client, actionListener) -> inference.accept(ActionListener.wrap(result -> {
+                registeredInference.complete(result);
+                actionListener.onResponse(null);
+            }, e -> {
+                if (registeredInference.fail(e)) {
+                    actionListener.onResponse(null);
+                } else {
+                    actionListener.onFailure(e);
+                }
+            })));
+        } else if (Objects.nonNull(unhandledFailure)) {
+            // shared inference has already failed and this query builder can't proceed without the result
+            queryRewriteContext.registerAsyncAction((client, actionListener) -> actionListener.onFailure(unhandledFailure));
+        }
+    }
+
+    @Value
+    private static class InferenceKey {
+        String inferenceType;
+        String modelId;
+        Object input;
+    }
+
+    /**
+     * Inference result shared by query builders, consumers added after inference completes are notified immediately
+     */
+    private static final class SharedInference<T> {
+        private final List<Consumer<T>> consumers = new ArrayList<>();
+        private final List<Predicate<Exception>> failureHandlers = new ArrayList<>();
+        private boolean completed;
+        private T result;
+        private Exception failure;
+
+        /**
+         * @return failure of the inference if it has already failed and the failure is not handled, null otherwise
+         */
+        Exception addConsumer(final Consumer<T> consumer, final Predicate<Exception> failureHandler) {
+            synchronized (this) {
+                if (!completed) {
+                    consumers.add(consumer);
+                    failureHandlers.add(failureHandler);
+                    return null;
+                }
+            }
+            if (Objects.isNull(failure)) {
+                consumer.accept(result);
+                return null;
+            }
+            return failureHandler.test(failure) ? null : failure;
+        }
+
+        void complete(final T result) {
+            List<Consumer<T>> consumersToNotify;
+            synchronized (this) {
+                this.result = result;
+                this.completed = true;
+                consumersToNotify = new ArrayList<>(consumers);
+                consumers.clear();
+                failureHandlers.clear();
+            }
+            consumersToNotify.forEach(consumer -> consumer.accept(result));
+        }
+
+        /**
+         * @return true if failure is handled by all consumers
+         */
+        boolean fail(final Exception failure) {
+            List<Predicate<Exception>> handlersToNotify;
+            synchronized (this) {
+                this.failure = failure;
+                this.completed = true;
+                handlersToNotify = new ArrayList<>(failureHandlers);
+                consumers.clear();
+                failureHandlers.clear();
+            }
+            boolean isHandled = true;
+            // every handler is notified, so query builders that skip the failed inference are rewritten consistently
+            for (Predicate<Exception> failureHandler : handlersToNotify) {
+                isHandled &= failureHandler.test(failure);
+            }
+            return isHandled;
+        }
+    }
+}
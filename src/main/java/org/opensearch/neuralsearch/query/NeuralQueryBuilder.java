@@ -16,6 +16,8 @@ import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isCluster
 import static org.opensearch.neuralsearch.common.VectorUtil.vectorAsListToArray;
 import static org.opensearch.neuralsearch.processor.TextImageEmbeddingProcessor.INPUT_IMAGE;
 import static org.opensearch.neuralsearch.processor.TextImageEmbeddingProcessor.INPUT_TEXT;
+import static org.opensearch.neuralsearch.query.OnInferenceFailure.ON_INFERENCE_FAILURE_FIELD;
+import static org.opensearch.neuralsearch.util.quantization.EmbeddingDataType.EMBEDDING_DATA_TYPE_FIELD;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -37,6 +39,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.index.query.AbstractQueryBuilder;
+import org.opensearch.index.query.MatchNoneQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
@@ -56,6 +59,7 @@ import lombok.Setter;
 import lombok.experimental.Accessors;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.neuralsearch.processor.MapInferenceRequest;
+import org.opensearch.neuralsearch.util.quantization.EmbeddingDataType;
 
 /**
  * NeuralQueryBuilder is responsible for producing "neural" query types. A "neural" query type is a wrapper around a
@@ -84,6 +88,8 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
     static final ParseField K_FIELD = new ParseField("k");
 
     private static final int DEFAULT_K = 10;
+    // set as query vector when inference failure is skipped, compared by identity
+    private static final float[] SKIPPED_INFERENCE_VECTOR = new float[0];
 
     private static MLCommonsClientAccessor ML_CLIENT;
 
@@ -106,6 +112,8 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
     private QueryBuilder filter;
     private Map<String, ?> methodParameters;
     private RescoreContext rescoreContext;
+    private OnInferenceFailure onInferenceFailure;
+    private EmbeddingDataType embeddingDataType;
 
     /**
      * A custom builder class to enforce valid Neural Query Builder instantiation
@@ -123,6 +131,8 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         private QueryBuilder filter;
         private Map<String, ?> methodParameters;
         private RescoreContext rescoreContext;
+        private OnInferenceFailure onInferenceFailure;
+        private EmbeddingDataType embeddingDataType;
         private String queryName;
         private float boost = DEFAULT_BOOST;
 
@@ -198,6 +208,16 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
             return this;
         }
 
+        public Builder onInferenceFailure(OnInferenceFailure onInferenceFailure) {
+            this.onInferenceFailure = onInferenceFailure;
+            return this;
+        }
+
+        public Builder embeddingDataType(EmbeddingDataType embeddingDataType) {
+            this.embeddingDataType = embeddingDataType;
+            return this;
+        }
+
         public NeuralQueryBuilder build() {
             validateQueryParameters(fieldName, queryText, queryImage);
             boolean queryTypeIsProvided = validateKNNQueryType(k, maxDistance, minScore);
@@ -216,7 +236,9 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
                 vectorSupplier,
                 filter,
                 methodParameters,
-                rescoreContext
+                rescoreContext,
+                onInferenceFailure,
+                embeddingDataType
             ).boost(boost).queryName(queryName);
         }
 
@@ -268,6 +290,12 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
             this.methodParameters = MethodParametersParser.streamInput(in, MinClusterVersionUtil::isClusterOnOrAfterMinReqVersion);
         }
         this.rescoreContext = RescoreParser.streamInput(in);
+        if (isClusterOnOrAfterMinReqVersion(ON_INFERENCE_FAILURE_FIELD.getPreferredName())) {
+            this.onInferenceFailure = in.readOptionalEnum(OnInferenceFailure.class);
+        }
+        if (isClusterOnOrAfterMinReqVersion(EMBEDDING_DATA_TYPE_FIELD.getPreferredName())) {
+            this.embeddingDataType = in.readOptionalEnum(EmbeddingDataType.class);
+        }
     }
 
     @Override
@@ -307,6 +335,12 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
             MethodParametersParser.streamOutput(out, methodParameters, MinClusterVersionUtil::isClusterOnOrAfterMinReqVersion);
         }
         RescoreParser.streamOutput(out, rescoreContext);
+        if (isClusterOnOrAfterMinReqVersion(ON_INFERENCE_FAILURE_FIELD.getPreferredName())) {
+            out.writeOptionalEnum(onInferenceFailure);
+        }
+        if (isClusterOnOrAfterMinReqVersion(EMBEDDING_DATA_TYPE_FIELD.getPreferredName())) {
+            out.writeOptionalEnum(embeddingDataType);
+        }
     }
 
     @Override
@@ -343,6 +377,12 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         if (Objects.nonNull(rescoreContext)) {
             RescoreParser.doXContent(xContentBuilder, rescoreContext);
         }
+        if (Objects.nonNull(onInferenceFailure)) {
+            xContentBuilder.field(ON_INFERENCE_FAILURE_FIELD.getPreferredName(), onInferenceFailure.value());
+        }
+        if (Objects.nonNull(embeddingDataType)) {
+            xContentBuilder.field(EMBEDDING_DATA_TYPE_FIELD.getPreferredName(), embeddingDataType.getValue());
+        }
         printBoostAndQueryName(xContentBuilder);
         xContentBuilder.endObject();
         xContentBuilder.endObject();
@@ -359,7 +399,9 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
      *    "k": int,
      *    "name": "string", (optional)
      *    "boost": float (optional),
-     *    "filter": map (optional)
+     *    "filter": map (optional),
+     *    "on_inference_failure": "fail" or "skip" (optional),
+     *    "embedding_data_type": "float", "byte" or "binary" (optional)
      *  }
      * }
      *
@@ -430,6 +472,10 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
                     neuralQueryBuilder.minScore(parser.floatValue());
                 } else if (EXPAND_NESTED_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
                     neuralQueryBuilder.expandNested(parser.booleanValue());
+                } else if (ON_INFERENCE_FAILURE_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    neuralQueryBuilder.onInferenceFailure(OnInferenceFailure.from(parser.text()));
+                } else if (EMBEDDING_DATA_TYPE_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    neuralQueryBuilder.embeddingDataType(EmbeddingDataType.fromString(parser.text()));
                 } else {
                     throw new ParsingException(
                         parser.getTokenLocation(),
@@ -468,6 +514,9 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
             if (vectorSupplier().get() == null) {
                 return this;
             }
+            if (vectorSupplier().get() == SKIPPED_INFERENCE_VECTOR) {
+                return new MatchNoneQueryBuilder().queryName(queryName());
+            }
 
             return NeuralKNNQueryBuilder.builder()
                 .fieldName(fieldName())
@@ -490,14 +539,20 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         if (StringUtils.isNotBlank(queryImage())) {
             inferenceInput.put(INPUT_IMAGE, queryImage());
         }
-        queryRewriteContext.registerAsyncAction(
-            ((client, actionListener) -> ML_CLIENT.inferenceSentencesMap(
+        // neural queries of the same search request with the same model and input share one inference call
+        ModelInferenceDeduplicator.<float[]>registerInference(
+            queryRewriteContext,
+            NAME,
+            modelId(),
+            inferenceInput,
+            listener -> ML_CLIENT.inferenceSentencesMap(
                 MapInferenceRequest.builder().modelId(modelId()).inputObjects(inferenceInput).build(),
-                ActionListener.wrap(floatList -> {
-                    vectorSetOnce.set(vectorAsListToArray(floatList));
-                    actionListener.onResponse(null);
-                }, actionListener::onFailure)
-            ))
+                ActionListener.wrap(floatList -> listener.onResponse(vectorAsListToArray(floatList)), listener::onFailure)
+            ),
+            // vector is quantized the same way as vectors ingested by the text_embedding processor
+            vector -> vectorSetOnce.set(Objects.requireNonNullElse(embeddingDataType(), EmbeddingDataType.FLOAT).quantize(vector)),
+            failure -> Objects.requireNonNullElse(onInferenceFailure(), OnInferenceFailure.FAIL)
+                .handle(NAME, fieldName(), failure, () -> vectorSetOnce.set(SKIPPED_INFERENCE_VECTOR))
         );
         return new NeuralQueryBuilder(
             fieldName(),
@@ -511,7 +566,9 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
             vectorSetOnce::get,
             filter(),
             methodParameters(),
-            rescoreContext()
+            rescoreContext(),
+            onInferenceFailure(),
+            embeddingDataType()
         );
     }
 
@@ -538,6 +595,8 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         equalsBuilder.append(filter, obj.filter);
         equalsBuilder.append(methodParameters, obj.methodParameters);
         equalsBuilder.append(rescoreContext, obj.rescoreContext);
+        equalsBuilder.append(onInferenceFailure, obj.onInferenceFailure);
+        equalsBuilder.append(embeddingDataType, obj.embeddingDataType);
         return equalsBuilder.isEquals();
     }
 
@@ -555,7 +614,9 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
             Arrays.hashCode(getVector(vectorSupplier)),
             filter,
             methodParameters,
-            rescoreContext
+            rescoreContext,
+            onInferenceFailure,
+            embeddingDataType
         );
     }
 
@@ -4,13 +4,16 @@
  */
 package org.opensearch.neuralsearch.query;
 
+import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isClusterOnOrAfterMinReqVersion;
+import static org.opensearch.neuralsearch.query.OnInferenceFailure.ON_INFERENCE_FAILURE_FIELD;
+
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang.StringUtils;
@@ -21,7 +24,6 @@ import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
 import org.opensearch.Version;
-import org.opensearch.transport.client.Client;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.core.ParseField;
@@ -33,6 +35,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.query.AbstractQueryBuilder;
+import org.opensearch.index.query.MatchNoneQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
@@ -92,8 +95,11 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
     // Then in the DoToQuery, we can use this to determine which type are this queryBuilder.
     private float twoPhasePruneRatio = 0F;
     private PruneType twoPhasePruneType = PruneType.NONE;
+    private OnInferenceFailure onInferenceFailure;
 
     private static final Version MINIMAL_SUPPORTED_VERSION_DEFAULT_MODEL_ID = Version.V_2_13_0;
+    // set as query tokens when inference failure is skipped, compared by identity
+    private static final Map<String, Float> SKIPPED_INFERENCE_QUERY_TOKENS = Collections.unmodifiableMap(new HashMap<>());
 
     public static void initialize(MLCommonsClientAccessor mlClient) {
         NeuralSparseQueryBuilder.ML_CLIENT = mlClient;
@@ -127,6 +133,9 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         if (StringUtils.EMPTY.equals(this.modelId)) {
             this.modelId = null;
         }
+        if (isClusterOnOrAfterMinReqVersion(ON_INFERENCE_FAILURE_FIELD.getPreferredName())) {
+            this.onInferenceFailure = in.readOptionalEnum(OnInferenceFailure.class);
+        }
     }
 
     /**
@@ -175,6 +184,9 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         } else {
             out.writeBoolean(false);
         }
+        if (isClusterOnOrAfterMinReqVersion(ON_INFERENCE_FAILURE_FIELD.getPreferredName())) {
+            out.writeOptionalEnum(onInferenceFailure);
+        }
     }
 
     @Override
@@ -193,6 +205,9 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         if (Objects.nonNull(queryTokensSupplier) && Objects.nonNull(queryTokensSupplier.get())) {
             xContentBuilder.field(QUERY_TOKENS_FIELD.getPreferredName(), queryTokensSupplier.get());
         }
+        if (Objects.nonNull(onInferenceFailure)) {
+            xContentBuilder.field(ON_INFERENCE_FAILURE_FIELD.getPreferredName(), onInferenceFailure.value());
+        }
         printBoostAndQueryName(xContentBuilder);
         xContentBuilder.endObject();
         xContentBuilder.endObject();
@@ -203,7 +218,8 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
      *  "SAMPLE_FIELD": {
      *    "query_text": "string",
      *    "model_id": "string",
-     *    "max_token_score": float (optional)
+     *    "max_token_score": float (optional),
+     *    "on_inference_failure": "fail" or "skip" (optional)
      *  }
      *
      *  or
@@ -297,6 +313,8 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
                     sparseEncodingQueryBuilder.modelId(parser.text());
                 } else if (MAX_TOKEN_SCORE_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
                     sparseEncodingQueryBuilder.maxTokenScore(parser.floatValue());
+                } else if (ON_INFERENCE_FAILURE_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    sparseEncodingQueryBuilder.onInferenceFailure(OnInferenceFailure.from(parser.text()));
                 } else {
                     throw new ParsingException(
                         parser.getTokenLocation(),
@@ -323,44 +341,57 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         // 1. It's the queryBuilder built for two-phase, doesn't need any rewrite.
         // 2. It's registerAsyncAction has been registered successful.
         if (Objects.nonNull(queryTokensSupplier)) {
+            if (queryTokensSupplier.get() == SKIPPED_INFERENCE_QUERY_TOKENS) {
+                return new MatchNoneQueryBuilder().queryName(queryName);
+            }
             return this;
         }
         validateForRewrite(queryText, modelId);
         SetOnce<Map<String, Float>> queryTokensSetOnce = new SetOnce<>();
-        queryRewriteContext.registerAsyncAction(getModelInferenceAsync(queryTokensSetOnce));
+        // neural sparse queries of the same search request with the same model and query text share one inference call
+        ModelInferenceDeduplicator.<Map<String, Float>>registerInference(
+            queryRewriteContext,
+            NAME,
+            modelId(),
+            queryText,
+            listener -> ML_CLIENT.inferenceSentencesWithMapResult(
+                TextInferenceRequest.builder().modelId(modelId()).inputTexts(List.of(queryText)).build(),
+                ActionListener.wrap(
+                    mapResultList -> listener.onResponse(TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList).get(0)),
+                    listener::onFailure
+                )
+            ),
+            queryTokens -> setQueryTokens(queryTokensSetOnce, queryTokens),
+            failure -> Objects.requireNonNullElse(onInferenceFailure, OnInferenceFailure.FAIL)
+                .handle(NAME, fieldName, failure, () -> queryTokensSetOnce.set(SKIPPED_INFERENCE_QUERY_TOKENS))
+        );
         return new NeuralSparseQueryBuilder().fieldName(fieldName)
             .queryText(queryText)
             .modelId(modelId)
             .maxTokenScore(maxTokenScore)
             .queryTokensSupplier(queryTokensSetOnce::get)
             .twoPhaseSharedQueryToken(twoPhaseSharedQueryToken)
-            .twoPhasePruneRatio(twoPhasePruneRatio);
+            .twoPhasePruneRatio(twoPhasePruneRatio)
+            .onInferenceFailure(onInferenceFailure);
     }
 
-    private BiConsumer<Client, ActionListener<?>> getModelInferenceAsync(SetOnce<Map<String, Float>> setOnce) {
+    private void setQueryTokens(SetOnce<Map<String, Float>> setOnce, Map<String, Float> queryTokens) {
         // When Two-phase shared query tokens is null,
         // it set queryTokensSupplier to the inference result which has all query tokens with score.
         // When Two-phase shared query tokens exist,
         // it splits the tokens using a threshold defined by a ratio of the maximum score of tokens, updating the token set
-        // accordingly.
-        return ((client, actionListener) -> ML_CLIENT.inferenceSentencesWithMapResult(
-            TextInferenceRequest.builder().modelId(modelId()).inputTexts(List.of(queryText)).build(),
-            ActionListener.wrap(mapResultList -> {
-                Map<String, Float> queryTokens = TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList).get(0);
-                if (Objects.nonNull(twoPhaseSharedQueryToken)) {
-                    Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = PruneUtils.splitSparseVector(
-                        twoPhasePruneType,
-                        twoPhasePruneRatio,
-                        queryTokens
-                    );
-                    setOnce.set(splitQueryTokens.v1());
-                    twoPhaseSharedQueryToken = splitQueryTokens.v2();
-                } else {
-                    setOnce.set(queryTokens);
-                }
-                actionListener.onResponse(null);
-            }, actionListener::onFailure)
-        ));
+        // accordingly. Inference result may be shared with other queries, so it is never modified in place.
+        if (Objects.nonNull(twoPhaseSharedQueryToken)) {
+            Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = PruneUtils.splitSparseVector(
+                twoPhasePruneType,
+                twoPhasePruneRatio,
+                queryTokens
+            );
+            setOnce.set(splitQueryTokens.v1());
+            twoPhaseSharedQueryToken = splitQueryTokens.v2();
+        } else {
+            setOnce.set(queryTokens);
+        }
     }
 
     @Override
@@ -417,7 +448,8 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
             .append(modelId, obj.modelId)
             .append(maxTokenScore, obj.maxTokenScore)
             .append(twoPhasePruneRatio, obj.twoPhasePruneRatio)
-            .append(twoPhaseSharedQueryToken, obj.twoPhaseSharedQueryToken);
+            .append(twoPhaseSharedQueryToken, obj.twoPhaseSharedQueryToken)
+            .append(onInferenceFailure, obj.onInferenceFailure);
         if (Objects.nonNull(queryTokensSupplier)) {
             equalsBuilder.append(queryTokensSupplier.get(), obj.queryTokensSupplier.get());
         }
@@ -431,7 +463,8 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
             .append(modelId)
             .append(maxTokenScore)
             .append(twoPhasePruneRatio)
-            .append(twoPhaseSharedQueryToken);
+            .append(twoPhaseSharedQueryToken)
+            .append(onInferenceFailure);
         if (Objects.nonNull(queryTokensSupplier)) {
             builder.append(queryTokensSupplier.get());
         }
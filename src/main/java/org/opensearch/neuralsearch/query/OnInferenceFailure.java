@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.opensearch.common.logging.HeaderWarning;
+import org.opensearch.core.ParseField;
+import org.opensearch.neuralsearch.ml.InferenceTimeoutException;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Action taken by neural and neural_sparse queries when model inference for the query fails or times out, set with the
+ * "on_inference_failure" query parameter
+ */
+@Log4j2
+public enum OnInferenceFailure {
+    /**
+     * Search request fails with the inference failure, this is the default
+     */
+    FAIL,
+    /**
+     * Query is replaced with match_none query, hybrid query runs with the remaining sub-queries and the skipped sub-query
+     * has no results
+     */
+    SKIP;
+
+    public static final ParseField ON_INFERENCE_FAILURE_FIELD = new ParseField("on_inference_failure");
+
+    /**
+     * Get action by its name in the query
+     * @param value name of the action, case-insensitive
+     * @return action for the name
+     */
+    public static OnInferenceFailure from(final String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "[%s] must be one of %s, found [%s]",
+                    ON_INFERENCE_FAILURE_FIELD.getPreferredName(),
+                    Arrays.stream(values()).map(OnInferenceFailure::value).collect(Collectors.toList()),
+                    value
+                )
+            );
+        }
+    }
+
+    /**
+     * Handle failure of the model inference for the query. Skipped query is reported as a warning header of the search response.
+     * Search timeout is best-effort, so query that exceeded it while waiting for inference is skipped regardless of the action.
+     * @param queryType type of the query
+     * @param fieldName field name of the query
+     * @param failure failure of the inference
+     * @param skipAction action that makes the query builder rewrite to match_none query
+     * @return true if the query proceeds without inference result, false if the search request must fail
+     */
+    boolean handle(final String queryType, final String fieldName, final Exception failure, final Runnable skipAction) {
+        if (failure instanceof InferenceTimeoutException) {
+            log.debug("skipping [{}] query on field [{}], search timed out waiting for model inference", queryType, fieldName);
+            HeaderWarning.addWarning(
+                "[{}] query on field [{}] was skipped as search timed out waiting for model inference, results are partial",
+                queryType,
+                fieldName
+            );
+            skipAction.run();
+            return true;
+        }
+        if (this == FAIL) {
+            return false;
+        }
+        log.warn("skipping [{}] query on field [{}], model inference failed", queryType, fieldName, failure);
+        HeaderWarning.addWarning(
+            "[{}] query on field [{}] was skipped as model inference failed: {}",
+            queryType,
+            fieldName,
+            failure.getMessage()
+        );
+        skipAction.run();
+        return true;
+    }
+
+    /**
+     * @return name of the action in the query
+     */
+    public String value() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -129,6 +129,8 @@ public abstract class HybridTopFieldDocSortCollector implements HybridSearchColl
 
     protected abstract class HybridTopDocSortLeafCollector implements LeafCollector {
         protected HybridQueryScorer compoundQueryScorer;
+        protected int[] matchedSubQueryIndexes;
+        protected float[] matchedScores;
         private boolean collectedAllCompetitiveHits = false;
 
         /**
@@ -181,6 +183,34 @@ public abstract class HybridTopFieldDocSortCollector implements HybridSearchColl
             return null;
         }
 
+        /*
+        Collect scores of sub-queries that match the current doc into matchedSubQueryIndexes and matchedScores. Only matching
+        sub-queries are visited, and matches are ordered by sub-query index, so sub-queries are processed in the same order
+        as in the array of scores of all sub-queries. Returns number of matching sub-queries.
+         */
+        protected int collectMatchedSubQueryScores() throws IOException {
+            if (Objects.isNull(matchedSubQueryIndexes)) {
+                int numOfSubQueries = compoundQueryScorer.getNumOfSubQueries();
+                matchedSubQueryIndexes = new int[numOfSubQueries];
+                matchedScores = new float[numOfSubQueries];
+            }
+            int numOfMatches = compoundQueryScorer.matchedSubQueryScores(matchedSubQueryIndexes, matchedScores);
+            // insertion sort, number of matching sub-queries is small
+            for (int i = 1; i < numOfMatches; i++) {
+                int subQueryIndex = matchedSubQueryIndexes[i];
+                float score = matchedScores[i];
+                int j = i - 1;
+                while (j >= 0 && matchedSubQueryIndexes[j] > subQueryIndex) {
+                    matchedSubQueryIndexes[j + 1] = matchedSubQueryIndexes[j];
+                    matchedScores[j + 1] = matchedScores[j];
+                    j--;
+                }
+                matchedSubQueryIndexes[j + 1] = subQueryIndex;
+                matchedScores[j + 1] = score;
+            }
+            return numOfMatches;
+        }
+
         /*
         Increment total hit count and validate if threshold is reached.
          */
@@ -39,6 +39,9 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
     private int[] collectedHitsPerSubQuery;
     private final int numOfHits;
     private PriorityQueue<ScoreDoc>[] compoundScores;
+    // reusable buffers for sparse representation of sub-query scores of the current doc
+    private int[] matchedSubQueryIndexes;
+    private float[] matchedScores;
     @Getter
     private float maxScore = 0.0f;
 
@@ -97,20 +100,21 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
                 if (Objects.isNull(compoundQueryScorer)) {
                     throw new IllegalArgumentException("scorers are null for all sub-queries in hybrid query");
                 }
-                float[] subScoresByQuery = compoundQueryScorer.hybridScores();
-                // iterate over results for each query
                 if (compoundScores == null) {
-                    compoundScores = new PriorityQueue[subScoresByQuery.length];
-                    for (int i = 0; i < subScoresByQuery.length; i++) {
-                        compoundScores[i] = new HitQueue(numOfHits, false);
-                    }
-                    collectedHitsPerSubQuery = new int[subScoresByQuery.length];
+                    int numOfSubQueries = compoundQueryScorer.getNumOfSubQueries();
+                    // queues are created on the first hit of each sub-query, so sub-queries without hits don't take memory
+                    compoundScores = new PriorityQueue[numOfSubQueries];
+                    collectedHitsPerSubQuery = new int[numOfSubQueries];
+                    matchedSubQueryIndexes = new int[numOfSubQueries];
+                    matchedScores = new float[numOfSubQueries];
                 }
+                int numOfMatches = compoundQueryScorer.matchedSubQueryScores(matchedSubQueryIndexes, matchedScores);
                 // Increment total hit count which represents unique doc found on the shard
                 totalHits++;
                 hitsThresholdChecker.incrementHitCount();
-                for (int i = 0; i < subScoresByQuery.length; i++) {
-                    float score = subScoresByQuery[i];
+                // iterate over results of matching sub-queries only
+                for (int i = 0; i < numOfMatches; i++) {
+                    float score = matchedScores[i];
                     // if score is 0.0 there is no hits for that sub-query
                     if (score == 0) {
                         continue;
@@ -123,18 +127,38 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
                         );
                         totalHitsRelation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
                     }
-                    collectedHitsPerSubQuery[i]++;
-                    PriorityQueue<ScoreDoc> pq = compoundScores[i];
-                    ScoreDoc currentDoc = new ScoreDoc(doc + docBase, score);
-                    maxScore = Math.max(currentDoc.score, maxScore);
-                    // this way we're inserting into heap and do nothing else unless we reach the capacity
-                    // after that we pull out the lowest score element on each insert
-                    pq.insertWithOverflow(currentDoc);
+                    int subQueryIndex = matchedSubQueryIndexes[i];
+                    collectedHitsPerSubQuery[subQueryIndex]++;
+                    maxScore = Math.max(score, maxScore);
+                    collectHit(subQueryIndex, doc + docBase, score);
                 }
             }
         };
     }
 
+    /**
+     * Add hit to the queue of sub-query. Once the queue is full, the lowest score element is reused for competitive hit
+     * instead of allocating a new one, and non-competitive hits are dropped without allocation
+     */
+    private void collectHit(final int subQueryIndex, final int docId, final float score) {
+        PriorityQueue<ScoreDoc> pq = compoundScores[subQueryIndex];
+        if (pq == null) {
+            pq = new HitQueue(numOfHits, false);
+            compoundScores[subQueryIndex] = pq;
+        }
+        if (pq.size() < numOfHits) {
+            pq.add(new ScoreDoc(docId, score));
+            return;
+        }
+        ScoreDoc bottom = pq.top();
+        // same ordering as in HitQueue, for equal scores hit with lower doc id is more competitive
+        if (score > bottom.score || (score == bottom.score && docId < bottom.doc)) {
+            bottom.doc = docId;
+            bottom.score = score;
+            pq.updateTop();
+        }
+    }
+
     @Override
     public ScoreMode scoreMode() {
         return hitsThresholdChecker.scoreMode();
@@ -150,6 +174,10 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
         }
         final List<TopDocs> topDocs = new ArrayList<>();
         for (int i = 0; i < compoundScores.length; i++) {
+            if (compoundScores[i] == null) {
+                topDocs.add(EMPTY_TOPDOCS);
+                continue;
+            }
             topDocs.add(
                 topDocsPerQuery(
                     0,
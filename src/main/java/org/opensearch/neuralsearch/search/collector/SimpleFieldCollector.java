@@ -31,11 +31,13 @@ public final class SimpleFieldCollector extends HybridTopFieldDocSortCollector {
                 if (Objects.isNull(compoundQueryScorer)) {
                     throw new IllegalArgumentException("scorers are null for all sub-queries in hybrid query");
                 }
-                float[] subScoresByQuery = compoundQueryScorer.hybridScores();
-                initializePriorityQueuesWithComparators(context, subScoresByQuery.length);
+                initializePriorityQueuesWithComparators(context, compoundQueryScorer.getNumOfSubQueries());
                 incrementTotalHitCount();
-                for (int i = 0; i < subScoresByQuery.length; i++) {
-                    float score = subScoresByQuery[i];
+                // iterate over results of matching sub-queries only
+                int numOfMatches = collectMatchedSubQueryScores();
+                for (int j = 0; j < numOfMatches; j++) {
+                    int i = matchedSubQueryIndexes[j];
+                    float score = matchedScores[j];
                     // if score is 0.0 there is no hits for that sub-query
                     if (score == 0) {
                         continue;
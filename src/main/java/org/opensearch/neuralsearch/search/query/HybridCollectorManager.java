@@ -94,16 +94,7 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
             validateSortCriteria(searchContext, searchContext.trackScores());
         }
 
-        boolean isSingleShard = searchContext.numberOfShards() == 1;
-        // In case of single shard, it can happen that fetch phase might execute before normalization phase. Moreover, The pagination logic
-        // lies in the fetch phase.
-        // If the fetch phase gets executed before the normalization phase, then the result will be not paginated as per normalized score.
-        // Therefore, to avoid it we will update from value in search context to 0. This will stop fetch phase to trim results prematurely.
-        // Later in the normalization phase we will update QuerySearchResult object with the right from value, to handle the effective
-        // trimming of results.
-        if (isSingleShard && searchContext.from() > 0) {
-            searchContext.from(0);
-        }
+        resetFromForSingleShard(searchContext);
 
         Weight filteringWeight = null;
         // Check for post filter to create weight for filter query and later use that weight in the search workflow
@@ -135,6 +126,22 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
             );
     }
 
+    /**
+     * In case of single shard, it can happen that fetch phase might execute before normalization phase. Moreover, The pagination logic
+     * lies in the fetch phase.
+     * If the fetch phase gets executed before the normalization phase, then the result will be not paginated as per normalized score.
+     * Therefore, to avoid it we will update from value in search context to 0. This will stop fetch phase to trim results prematurely.
+     * Later in the normalization phase we will update QuerySearchResult object with the right from value, to handle the effective
+     * trimming of results.
+     * @param searchContext search context of hybrid query
+     */
+    static void resetFromForSingleShard(final SearchContext searchContext) {
+        boolean isSingleShard = searchContext.numberOfShards() == 1;
+        if (isSingleShard && searchContext.from() > 0) {
+            searchContext.from(0);
+        }
+    }
+
     @Override
     public Collector newCollector() {
         Collector hybridCollector = getHybridQueryCollector();
@@ -7,6 +7,7 @@ package org.opensearch.neuralsearch.search.query;
 import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -60,9 +61,16 @@ public class HybridQueryPhaseSearcher extends QueryPhaseSearcherWrapper {
             validateQuery(searchContext, query);
             return super.searchWith(searchContext, searcher, query, collectors, hasFilterCollector, hasTimeout);
         } else {
+            Optional<HybridQueryResultsCache.Key> cacheKey = HybridQueryResultsCache.instance().createKey(searchContext);
+            if (cacheKey.isPresent() && HybridQueryResultsCache.instance().loadIntoContext(cacheKey.get(), searchContext)) {
+                return false;
+            }
             Query hybridQuery = extractHybridQuery(searchContext, query);
             QueryPhaseSearcher queryPhaseSearcher = getQueryPhaseSearcher(searchContext);
             queryPhaseSearcher.searchWith(searchContext, searcher, hybridQuery, collectors, hasFilterCollector, hasTimeout);
+            if (cacheKey.isPresent()) {
+                HybridQueryResultsCache.instance().put(cacheKey.get(), searchContext);
+            }
             // we decide on rescore later in collector manager
             return false;
         }
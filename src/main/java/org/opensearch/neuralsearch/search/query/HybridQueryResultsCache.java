@@ -0,0 +1,253 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.query;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.opensearch.action.search.SearchType;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.indices.IndicesRequestCache;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_RESULTS_CACHE_SIZE;
+
+/**
+ * Node level cache of hybrid query shard results. Shard results of hybrid query are top docs of every sub-query in the
+ * hybrid format, they depend on pagination depth and sort, so they are cached per shard reader and serialized search
+ * source of the shard request. Source is rewritten before the query phase, so neural queries in the key carry resolved query
+ * vectors instead of the query text. Entries are invalidated when the reader is closed, for instance on refresh; keys are
+ * tracked per reader, so invalidation touches only entries of the closed reader. Requests are cached under the same
+ * conditions as in the shard request cache: requests with hits are cached only if the cache is explicitly requested with
+ * request_cache=true. Requests with aggregations, profiling or scroll are not cached, and neither are requests of search
+ * types other than query_then_fetch, as dfs scores depend on term statistics of other shards that change without this
+ * shard's reader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HybridQueryResultsCache {
+    private static final HybridQueryResultsCache INSTANCE = new HybridQueryResultsCache();
+    // approximate size of score doc and of the key and value objects, used to weigh cache entries
+    private static final long SCORE_DOC_BYTES = 32;
+    private static final long SORT_VALUE_BYTES = 32;
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    // keys of cached entries of every reader with a registered closed listener
+    private final Map<IndexReader.CacheKey, Set<Key>> keysByReader = new ConcurrentHashMap<>();
+    // null if cache is disabled
+    private volatile Cache<Key, CachedResult> cache;
+
+    /**
+     * Return instance of the hybrid query results cache, cache is disabled until initialized
+     * @return instance of hybrid query results cache
+     */
+    public static HybridQueryResultsCache instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Initialize the cache with size from node settings, zero size disables the cache
+     * @param settings node settings
+     */
+    public void initialize(final Settings settings) {
+        long maxWeight = HYBRID_QUERY_RESULTS_CACHE_SIZE.get(settings).getBytes();
+        keysByReader.clear();
+        cache = maxWeight > 0
+            ? CacheBuilder.<Key, CachedResult>builder()
+                .setMaximumWeight(maxWeight)
+                .weigher((key, value) -> key.getRequestBytes().length() + value.getWeight())
+                .removalListener(this::onRemoval)
+                .build()
+            : null;
+    }
+
+    /**
+     * Create cache key for the search request of the context
+     * @param searchContext search context of hybrid query
+     * @return cache key, empty if cache is disabled or results of the request can't be cached
+     * @throws IOException if search source can't be serialized
+     */
+    public Optional<Key> createKey(final SearchContext searchContext) throws IOException {
+        if (Objects.isNull(cache) || !isCacheable(searchContext)) {
+            return Optional.empty();
+        }
+        IndexReader.CacheHelper cacheHelper = searchContext.searcher().getDirectoryReader().getReaderCacheHelper();
+        if (Objects.isNull(cacheHelper)) {
+            return Optional.empty();
+        }
+        ShardSearchRequest request = searchContext.request();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.source().writeTo(out);
+            out.writeOptionalWriteable(request.getAliasFilter());
+            return Optional.of(new Key(cacheHelper.getKey(), out.copyBytes()));
+        }
+    }
+
+    /**
+     * Load cached results into query result of the search context
+     * @param key cache key created for the search context
+     * @param searchContext search context of hybrid query
+     * @return true if results were found in the cache, false otherwise
+     */
+    public boolean loadIntoContext(final Key key, final SearchContext searchContext) {
+        Cache<Key, CachedResult> currentCache = cache;
+        if (Objects.isNull(currentCache)) {
+            return false;
+        }
+        CachedResult cachedResult = currentCache.get(key);
+        if (Objects.isNull(cachedResult)) {
+            return false;
+        }
+        // collector manager is not created for cached results, from must be reset the same way for fetch phase to keep all results
+        HybridCollectorManager.resetFromForSingleShard(searchContext);
+        // query result is modified by normalization processor, every request gets its own copy of cached results
+        searchContext.queryResult().topDocs(copyOf(cachedResult.getTopDocsAndMaxScore()), cachedResult.getSortValueFormats());
+        return true;
+    }
+
+    /**
+     * Put results from query result of the search context into the cache, results of timed out or terminated early search
+     * are not cached as they may be incomplete
+     * @param key cache key created for the search context
+     * @param searchContext search context of hybrid query after query phase
+     */
+    public void put(final Key key, final SearchContext searchContext) {
+        Cache<Key, CachedResult> currentCache = cache;
+        QuerySearchResult queryResult = searchContext.queryResult();
+        if (Objects.isNull(currentCache)
+            || queryResult.searchTimedOut()
+            || Boolean.TRUE.equals(queryResult.terminatedEarly())
+            || Objects.isNull(queryResult.topDocs())) {
+            return;
+        }
+        trackKey(key, searchContext.searcher().getDirectoryReader().getReaderCacheHelper());
+        TopDocsAndMaxScore topDocsAndMaxScore = copyOf(queryResult.topDocs());
+        currentCache.put(key, new CachedResult(topDocsAndMaxScore, queryResult.sortValueFormats(), weigh(topDocsAndMaxScore.topDocs)));
+    }
+
+    private boolean isCacheable(final SearchContext searchContext) {
+        ShardSearchRequest request = searchContext.request();
+        if (Objects.isNull(request.source())
+            || request.searchType() != SearchType.QUERY_THEN_FETCH
+            || Boolean.FALSE.equals(request.requestCache())
+            || Objects.nonNull(searchContext.aggregations())
+            || Objects.nonNull(searchContext.getProfilers())
+            || Objects.nonNull(searchContext.scrollContext())) {
+            return false;
+        }
+        // same as for the shard request cache, unless cache is explicitly requested only requests without hits are cached,
+        // and only if request cache is enabled for the index
+        if (Objects.isNull(request.requestCache())
+            && (request.source().size() != 0
+                || !searchContext.getQueryShardContext()
+                    .getIndexSettings()
+                    .getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING))) {
+            return false;
+        }
+        // queries that use current time or scripts are not deterministic
+        return searchContext.getQueryShardContext().isCacheable();
+    }
+
+    private void trackKey(final Key key, final IndexReader.CacheHelper cacheHelper) {
+        Set<Key> readerKeys = keysByReader.get(key.getReaderKey());
+        if (Objects.isNull(readerKeys)) {
+            Set<Key> newReaderKeys = ConcurrentHashMap.newKeySet();
+            readerKeys = keysByReader.putIfAbsent(key.getReaderKey(), newReaderKeys);
+            if (Objects.isNull(readerKeys)) {
+                readerKeys = newReaderKeys;
+                cacheHelper.addClosedListener(this::invalidate);
+            }
+        }
+        readerKeys.add(key);
+    }
+
+    private void onRemoval(final RemovalNotification<Key, CachedResult> notification) {
+        if (notification.getRemovalReason() == RemovalReason.REPLACED) {
+            return;
+        }
+        Set<Key> readerKeys = keysByReader.get(notification.getKey().getReaderKey());
+        if (Objects.nonNull(readerKeys)) {
+            readerKeys.remove(notification.getKey());
+        }
+    }
+
+    private void invalidate(final IndexReader.CacheKey readerKey) {
+        Set<Key> readerKeys = keysByReader.remove(readerKey);
+        Cache<Key, CachedResult> currentCache = cache;
+        if (Objects.isNull(readerKeys) || Objects.isNull(currentCache)) {
+            return;
+        }
+        readerKeys.forEach(currentCache::invalidate);
+    }
+
+    private static TopDocsAndMaxScore copyOf(final TopDocsAndMaxScore topDocsAndMaxScore) {
+        TopDocs topDocs = topDocsAndMaxScore.topDocs;
+        if (topDocs instanceof TopFieldDocs) {
+            TopFieldDocs topFieldDocs = (TopFieldDocs) topDocs;
+            FieldDoc[] fieldDocs = new FieldDoc[topDocs.scoreDocs.length];
+            for (int i = 0; i < fieldDocs.length; i++) {
+                FieldDoc fieldDoc = (FieldDoc) topDocs.scoreDocs[i];
+                Object[] fields = Objects.isNull(fieldDoc.fields) ? null : fieldDoc.fields.clone();
+                fieldDocs[i] = new FieldDoc(fieldDoc.doc, fieldDoc.score, fields, fieldDoc.shardIndex);
+            }
+            return new TopDocsAndMaxScore(new TopFieldDocs(topDocs.totalHits, fieldDocs, topFieldDocs.fields), topDocsAndMaxScore.maxScore);
+        }
+        ScoreDoc[] scoreDocs = new ScoreDoc[topDocs.scoreDocs.length];
+        for (int i = 0; i < scoreDocs.length; i++) {
+            ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+            scoreDocs[i] = new ScoreDoc(scoreDoc.doc, scoreDoc.score, scoreDoc.shardIndex);
+        }
+        return new TopDocsAndMaxScore(new TopDocs(topDocs.totalHits, scoreDocs), topDocsAndMaxScore.maxScore);
+    }
+
+    private static long weigh(final TopDocs topDocs) {
+        long weight = ENTRY_OVERHEAD_BYTES;
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            weight += SCORE_DOC_BYTES;
+            if (scoreDoc instanceof FieldDoc && Objects.nonNull(((FieldDoc) scoreDoc).fields)) {
+                weight += SORT_VALUE_BYTES * ((FieldDoc) scoreDoc).fields.length;
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * Key of cached results, reader key is compared by identity and request bytes by content
+     */
+    @Value
+    public static class Key {
+        IndexReader.CacheKey readerKey;
+        BytesReference requestBytes;
+    }
+
+    @Value
+    private static class CachedResult {
+        TopDocsAndMaxScore topDocsAndMaxScore;
+        DocValueFormat[] sortValueFormats;
+        long weight;
+    }
+}
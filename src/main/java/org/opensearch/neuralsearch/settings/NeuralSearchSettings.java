@@ -5,6 +5,7 @@
 package org.opensearch.neuralsearch.settings;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeValue;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -34,4 +35,84 @@ public final class NeuralSearchSettings {
         50,
         Setting.Property.NodeScope
     );
+
+    /**
+     * Limits the number of sub-queries in a single hybrid query. Each sub-query adds a scorer and a queue of top hits
+     * on every shard, so the limit bounds memory used by a hybrid query on a shard.
+     */
+    public static final Setting<Integer> HYBRID_QUERY_MAX_SUB_QUERIES = Setting.intSetting(
+        "plugins.neural_search.hybrid_query_max_sub_queries",
+        5,
+        1,
+        100,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Limits the number of tasks a hybrid query forks to the hybrid query thread pool in one parallel step, for instance
+     * when scorers of sub-queries are created for a segment. Tasks above the limit, and tasks submitted while all threads
+     * of the pool are busy, are executed by the search thread instead of waiting in the queue of the pool.
+     */
+    public static final Setting<Integer> HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT = Setting.intSetting(
+        "plugins.neural_search.hybrid_query_executor_max_fan_out",
+        4,
+        0,
+        100,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables execution of hybrid query tasks, like rewrite of sub-queries and creation of sub-query scorers, on virtual
+     * threads instead of the fixed hybrid query thread pool. Such tasks mostly wait for I/O on cold segments, virtual threads
+     * don't occupy platform threads while waiting.
+     */
+    public static final Setting<Boolean> HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.hybrid_query_executor_virtual_threads_enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Limits the number of hybrid query tasks running on virtual threads at the same time on a node, tasks above the limit
+     * are executed by the search thread. Used only if hybrid query executor runs on virtual threads.
+     */
+    public static final Setting<Integer> HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_MAX_CONCURRENCY = Setting.intSetting(
+        "plugins.neural_search.hybrid_query_executor_virtual_threads_max_concurrency",
+        64,
+        1,
+        10_000,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Size of the node level cache of hybrid query shard results, as a percentage of heap or an absolute value. Cached
+     * results are reused by identical hybrid queries on the same shard until the shard is refreshed, zero disables the cache.
+     */
+    public static final Setting<ByteSizeValue> HYBRID_QUERY_RESULTS_CACHE_SIZE = Setting.memorySizeSetting(
+        "plugins.neural_search.hybrid_query_results_cache_size",
+        "1%",
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Disk budget of the node level cache of inference results of text_embedding and sparse_encoding processors. Cached results
+     * are reused when the same text is processed again with the same model, for instance on reindex, zero disables the cache.
+     */
+    public static final Setting<ByteSizeValue> EMBEDDING_CACHE_DISK_SIZE = Setting.byteSizeSetting(
+        "plugins.neural_search.embedding_cache_disk_size",
+        ByteSizeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Heap budget of the indexes of the embedding cache, as a percentage of heap or an absolute value. Every cached result
+     * takes a fixed number of bytes in the index of its segment, oldest segments are evicted when the budget is exceeded.
+     */
+    public static final Setting<ByteSizeValue> EMBEDDING_CACHE_INDEX_SIZE = Setting.memorySizeSetting(
+        "plugins.neural_search.embedding_cache_index_size",
+        "1%",
+        Setting.Property.NodeScope
+    );
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexAbstraction;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.env.Environment;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.SourceFieldMapper;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+
+/**
+ * Caches index level limits that ingest processors check for every document, like mapping depth limit and max token
+ * count, and the _source filter of the index mapping. Aliases and data streams are resolved to their write index. Limits
+ * are read from index settings, or from node settings if the index doesn't exist yet, in which case they are not cached.
+ * Cache is used only for the cluster service it's initialized with, entries are invalidated by the cluster state listener
+ * when metadata of the resolved index changes, for instance when index is deleted or its settings are updated, or when an
+ * alias is rolled over.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class IndexSettingsCache implements ClusterStateListener {
+    private static IndexSettingsCache instance;
+
+    private final Map<String, IndexLimits> limitsByIndexName = new ConcurrentHashMap<>();
+    // incremented on every invalidation, limits resolved from an older cluster state are not cached
+    private volatile long generation;
+    // cluster service the cache listens to, limits resolved from other cluster services are not cached
+    private volatile ClusterService clusterService;
+
+    /**
+     * Return instance of the index settings cache, must be initialized first to cache limits
+     * @return instance of index settings cache
+     */
+    public static synchronized IndexSettingsCache instance() {
+        if (instance == null) {
+            instance = new IndexSettingsCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Initializes the cache by registering it as cluster state listener, so cached limits are invalidated on index changes
+     * @param clusterService cluster service of the node
+     */
+    public void initialize(final ClusterService clusterService) {
+        clusterService.addListener(this);
+        synchronized (this) {
+            generation++;
+            limitsByIndexName.clear();
+            this.clusterService = clusterService;
+        }
+    }
+
+    /**
+     * Return mapping depth limit of the index
+     * @param indexName name of the index
+     * @param clusterService cluster service passed from OpenSearch core
+     * @param environment environment passed from OpenSearch core, its settings are used if index doesn't exist
+     * @return mapping depth limit
+     */
+    public long getMappingDepthLimit(final String indexName, final ClusterService clusterService, final Environment environment) {
+        return getIndexLimits(indexName, clusterService, environment).getMappingDepthLimit();
+    }
+
+    /**
+     * Return max token count of the index
+     * @param indexName name of the index
+     * @param clusterService cluster service passed from OpenSearch core
+     * @param environment environment passed from OpenSearch core, its settings are used if index doesn't exist
+     * @return max token count
+     */
+    public int getMaxTokenCount(final String indexName, final ClusterService clusterService, final Environment environment) {
+        return getIndexLimits(indexName, clusterService, environment).getMaxTokenCount();
+    }
+
+    /**
+     * Return _source filter of the index mapping, all fields are excluded if _source is disabled
+     * @param indexName name of the index, alias or data stream
+     * @param clusterService cluster service passed from OpenSearch core
+     * @param environment environment passed from OpenSearch core
+     * @return source filter, empty if index doesn't exist and its mapping is not known yet
+     */
+    public Optional<SourceFilter> getSourceFilter(
+        final String indexName,
+        final ClusterService clusterService,
+        final Environment environment
+    ) {
+        return Optional.ofNullable(getIndexLimits(indexName, clusterService, environment).getSourceFilter());
+    }
+
+    @Override
+    public void clusterChanged(final ClusterChangedEvent event) {
+        if (!event.metadataChanged()) {
+            return;
+        }
+        Metadata metadata = event.state().metadata();
+        Metadata previousMetadata = event.previousState().metadata();
+        synchronized (this) {
+            // limits that are being resolved now may be based on previous metadata, generation change prevents caching them
+            generation++;
+            // index metadata is immutable, any change of index creates new instance, and rollover changes the write index
+            limitsByIndexName.keySet()
+                .removeIf(indexName -> resolveWriteIndex(metadata, indexName) != resolveWriteIndex(previousMetadata, indexName));
+        }
+    }
+
+    private IndexLimits getIndexLimits(final String indexName, final ClusterService clusterService, final Environment environment) {
+        if (clusterService != this.clusterService) {
+            return resolveIndexLimits(indexName, clusterService, environment);
+        }
+        IndexLimits indexLimits = limitsByIndexName.get(indexName);
+        if (Objects.nonNull(indexLimits)) {
+            return indexLimits;
+        }
+        long resolvedGeneration = generation;
+        indexLimits = resolveIndexLimits(indexName, clusterService, environment);
+        // names that don't resolve to an index are not cached, otherwise misspelled names would stay in the cache forever
+        if (!indexLimits.isIndexResolved()) {
+            return indexLimits;
+        }
+        synchronized (this) {
+            if (resolvedGeneration == generation) {
+                limitsByIndexName.put(indexName, indexLimits);
+            }
+        }
+        return indexLimits;
+    }
+
+    private IndexLimits resolveIndexLimits(final String indexName, final ClusterService clusterService, final Environment environment) {
+        IndexMetadata indexMetadata = resolveWriteIndex(clusterService.state().metadata(), indexName);
+        Settings settings = Objects.isNull(indexMetadata) ? environment.settings() : indexMetadata.getSettings();
+        return new IndexLimits(
+            MapperService.INDEX_MAPPING_DEPTH_LIMIT_SETTING.get(settings),
+            IndexSettings.MAX_TOKEN_COUNT_SETTING.get(settings),
+            Objects.isNull(indexMetadata) ? null : resolveSourceFilter(indexMetadata.mapping())
+        );
+    }
+
+    /**
+     * Resolve the name to the index documents are written to, index is looked up directly first as it's the common case
+     * @return metadata of the write index, null if name doesn't exist or alias has no write index
+     */
+    private static IndexMetadata resolveWriteIndex(final Metadata metadata, final String name) {
+        IndexMetadata indexMetadata = metadata.index(name);
+        if (Objects.nonNull(indexMetadata)) {
+            return indexMetadata;
+        }
+        IndexAbstraction indexAbstraction = metadata.getIndicesLookup().get(name);
+        return Objects.isNull(indexAbstraction) ? null : indexAbstraction.getWriteIndex();
+    }
+
+    private static SourceFilter resolveSourceFilter(final MappingMetadata mappingMetadata) {
+        if (Objects.isNull(mappingMetadata) || !(mappingMetadata.sourceAsMap().get(SourceFieldMapper.NAME) instanceof Map)) {
+            return new SourceFilter(List.of(), List.of());
+        }
+        Map<?, ?> sourceMapping = (Map<?, ?>) mappingMetadata.sourceAsMap().get(SourceFieldMapper.NAME);
+        if (Boolean.FALSE.equals(sourceMapping.get("enabled")) || "false".equals(sourceMapping.get("enabled"))) {
+            return new SourceFilter(List.of(), List.of("*"));
+        }
+        return new SourceFilter(toPatterns(sourceMapping.get("includes")), toPatterns(sourceMapping.get("excludes")));
+    }
+
+    private static List<String> toPatterns(final Object value) {
+        return value instanceof List ? ((List<?>) value).stream().map(String::valueOf).toList() : List.of();
+    }
+
+    /**
+     * Filter of fields stored in _source, defined by includes and excludes of the _source mapping
+     */
+    @Value
+    public static class SourceFilter {
+        // empty if all fields are included
+        List<String> includes;
+        List<String> excludes;
+
+        /**
+         * Check if the field is not stored in _source. Patterns of the filter match the field if they match its path or the
+         * path of one of its parent objects, field is stored if an include pattern selects one of its sub-fields.
+         * @param path dotted path of the field
+         * @return true if the field is excluded or not included
+         */
+        public boolean isExcluded(final String path) {
+            if (!includes.isEmpty()
+                && !matchesPathOrParent(includes, path)
+                && includes.stream().noneMatch(pattern -> pattern.startsWith(path + "."))) {
+                return true;
+            }
+            return matchesPathOrParent(excludes, path);
+        }
+
+        private static boolean matchesPathOrParent(final List<String> patterns, final String path) {
+            int dotIndex = path.indexOf('.');
+            while (true) {
+                String parentPath = dotIndex == -1 ? path : path.substring(0, dotIndex);
+                if (patterns.stream().anyMatch(pattern -> Regex.simpleMatch(pattern, parentPath))) {
+                    return true;
+                }
+                if (dotIndex == -1) {
+                    return false;
+                }
+                dotIndex = path.indexOf('.', dotIndex + 1);
+            }
+        }
+    }
+
+    @Value
+    private static class IndexLimits {
+        long mappingDepthLimit;
+        int maxTokenCount;
+        // null if index doesn't exist
+        SourceFilter sourceFilter;
+
+        boolean isIndexResolved() {
+            return Objects.nonNull(sourceFilter);
+        }
+    }
+}
@@ -5,12 +5,9 @@
 package org.opensearch.neuralsearch.util;
 
 import org.apache.commons.lang3.StringUtils;
-import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.service.ClusterService;
-import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.env.Environment;
-import org.opensearch.index.mapper.MapperService;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -18,7 +15,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Stack;
 
 /**
@@ -171,10 +167,7 @@ public class ProcessorDocumentUtils {
         ClusterService clusterService,
         Environment environment
     ) {
-        Settings settings = Optional.ofNullable(clusterService.state().metadata().index(indexName))
-            .map(IndexMetadata::getSettings)
-            .orElse(environment.settings());
-        long maxDepth = MapperService.INDEX_MAPPING_DEPTH_LIMIT_SETTING.get(settings);
+        long maxDepth = IndexSettingsCache.instance().getMappingDepthLimit(indexName, clusterService, environment);
         if (depth > maxDepth) {
             throw new IllegalArgumentException(
                 String.format(Locale.ROOT, "map type field [%s] reaches max depth limit, cannot process it", sourceKey)
@@ -231,6 +224,31 @@ public class ProcessorDocumentUtils {
         return result;
     }
 
+    /**
+     * Check if a JSON object has field names with dot at any level, only such objects need to be unflattened.
+     * "Object" can be either a {@code Map<String, Object>} or a {@code List<Object>} or simply a String.
+     * For example, it's true for {"a": [{"b.c": "d"}]} and false for {"a": [{"b": {"c": "d"}}]}
+     * @param value the JSON object or value to check
+     * @return true if any map in the object has a key with dot, false otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean hasDottedKey(final Object value) {
+        if (value instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                if (entry.getKey().indexOf('.') != -1 || hasDottedKey(entry.getValue())) {
+                    return true;
+                }
+            }
+        } else if (value instanceof List) {
+            for (Object element : (List<Object>) value) {
+                if (hasDottedKey(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private static List<Object> handleList(List<Object> list) {
         List<Object> result = new ArrayList<>();
         Stack<ProcessJsonListItem> stack = new Stack<>();
@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util.quantization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.opensearch.core.ParseField;
+
+/**
+ * Data type of dense vectors produced by the text_embedding processor and used as query vectors by the neural query. It
+ * matches the data_type of the knn_vector field, so ingested vectors and query vectors are quantized in the same way.
+ */
+public enum EmbeddingDataType {
+    /**
+     * Vector is used as the model returns it, this is the default
+     */
+    FLOAT("float"),
+    /**
+     * Every dimension is scalar quantized to a signed byte. Quantization expects dimensions in range [-1, 1], like of
+     * normalized embeddings, values out of the range are clipped.
+     */
+    BYTE("byte"),
+    /**
+     * Every dimension is binarized to one bit, set if the dimension is positive. Bits are packed into signed bytes with the
+     * first dimension in the most significant bit, and the last byte is padded with zero bits.
+     */
+    BINARY("binary");
+
+    public static final ParseField EMBEDDING_DATA_TYPE_FIELD = new ParseField("embedding_data_type");
+    private static final int BYTE_QUANTIZATION_SCALE = 127;
+
+    private final String value;
+
+    EmbeddingDataType(final String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Get data type from string value
+     * @param value string representation of data type, float is returned if value is empty
+     * @return corresponding data type
+     * @throws IllegalArgumentException if value doesn't match any data type
+     */
+    public static EmbeddingDataType fromString(final String value) {
+        if (StringUtils.isEmpty(value)) return FLOAT;
+        for (EmbeddingDataType dataType : values()) {
+            if (dataType.value.equals(value)) {
+                return dataType;
+            }
+        }
+        throw new IllegalArgumentException(
+            String.format(
+                Locale.ROOT,
+                "[%s] must be one of %s, found [%s]",
+                EMBEDDING_DATA_TYPE_FIELD.getPreferredName(),
+                Arrays.stream(values()).map(EmbeddingDataType::getValue).collect(Collectors.toList()),
+                value
+            )
+        );
+    }
+
+    /**
+     * Quantize the vector to the data type
+     * @param vector vector returned by the model
+     * @return quantized vector, for binary type its length is the number of bytes the bits are packed into
+     */
+    public float[] quantize(final float[] vector) {
+        switch (this) {
+            case BYTE:
+                float[] byteVector = new float[vector.length];
+                for (int i = 0; i < vector.length; i++) {
+                    byteVector[i] = quantizeToByte(vector[i]);
+                }
+                return byteVector;
+            case BINARY:
+                float[] binaryVector = new float[(vector.length + Byte.SIZE - 1) / Byte.SIZE];
+                for (int i = 0; i < binaryVector.length; i++) {
+                    int packedBits = 0;
+                    for (int bit = 0; bit < Byte.SIZE; bit++) {
+                        int dimension = i * Byte.SIZE + bit;
+                        if (dimension < vector.length && vector[dimension] > 0) {
+                            packedBits |= 1 << (Byte.SIZE - 1 - bit);
+                        }
+                    }
+                    binaryVector[i] = (byte) packedBits;
+                }
+                return binaryVector;
+            default:
+                return vector;
+        }
+    }
+
+    /**
+     * Quantize the vector to the data type, dimensions of byte and binary vectors are integers
+     * @param vector vector returned by the model
+     * @return quantized vector, the vector itself for float type
+     */
+    public List<Number> quantize(final List<Number> vector) {
+        if (this == FLOAT) {
+            return vector;
+        }
+        float[] floatVector = new float[vector.size()];
+        for (int i = 0; i < floatVector.length; i++) {
+            floatVector[i] = vector.get(i).floatValue();
+        }
+        float[] quantizedVector = quantize(floatVector);
+        List<Number> result = new ArrayList<>(quantizedVector.length);
+        for (float dimension : quantizedVector) {
+            result.add((int) dimension);
+        }
+        return result;
+    }
+
+    private static int quantizeToByte(final float dimension) {
+        float clipped = Math.max(-1.0f, Math.min(1.0f, dimension));
+        return Math.round(clipped * BYTE_QUANTIZATION_SCALE);
+    }
+}
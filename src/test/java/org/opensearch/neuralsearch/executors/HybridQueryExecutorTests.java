@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.telemetry.metrics.Counter;
+import org.opensearch.telemetry.metrics.Histogram;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class HybridQueryExecutorTests extends OpenSearchTestCase {
+    private static final int NUM_OF_TASKS = 8;
+
+    public void testGetExecutor_whenFanOutLimited_thenTasksAboveLimitExecutedBySearchThread() throws IOException {
+        ThreadPool threadPool = new TestThreadPool(getTestName(), HybridQueryExecutor.getExecutorBuilder(Settings.EMPTY));
+        try {
+            HybridQueryExecutor.initialize(threadPool, createClusterService(1));
+
+            List<String> threadNames = HybridQueryExecutor.getExecutor().invokeAll(createTasks());
+
+            assertEquals(NUM_OF_TASKS, threadNames.size());
+            long numOfForkedTasks = threadNames.stream().filter(name -> !name.equals(Thread.currentThread().getName())).count();
+            assertTrue(numOfForkedTasks <= 1);
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testGetExecutor_whenFanOutDisabled_thenAllTasksExecutedBySearchThreadAndRecorded() throws IOException {
+        ThreadPool threadPool = new TestThreadPool(getTestName(), HybridQueryExecutor.getExecutorBuilder(Settings.EMPTY));
+        MetricsRegistry metricsRegistry = mock(MetricsRegistry.class);
+        Counter forkedTasksCounter = mock(Counter.class);
+        Counter inlineTasksCounter = mock(Counter.class);
+        when(metricsRegistry.createCounter(eq(HybridQueryExecutorMetrics.FORKED_TASKS_METRIC_NAME), anyString(), anyString()))
+            .thenReturn(forkedTasksCounter);
+        when(metricsRegistry.createCounter(eq(HybridQueryExecutorMetrics.INLINE_TASKS_METRIC_NAME), anyString(), anyString()))
+            .thenReturn(inlineTasksCounter);
+        when(metricsRegistry.createHistogram(anyString(), anyString(), anyString())).thenReturn(mock(Histogram.class));
+        try {
+            HybridQueryExecutor.initialize(threadPool, createClusterService(0));
+            HybridQueryExecutor.initializeMetrics(metricsRegistry);
+
+            List<String> threadNames = HybridQueryExecutor.getExecutor().invokeAll(createTasks());
+
+            assertEquals(NUM_OF_TASKS, threadNames.size());
+            assertTrue(threadNames.stream().allMatch(name -> name.equals(Thread.currentThread().getName())));
+            verify(inlineTasksCounter, atLeastOnce()).add(anyDouble());
+            verify(forkedTasksCounter, never()).add(anyDouble());
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testGetExecutor_whenVirtualThreadsEnabled_thenTasksExecutedOnVirtualThreadsWithThreadContext() throws IOException {
+        ThreadPool threadPool = new TestThreadPool(getTestName(), HybridQueryExecutor.getExecutorBuilder(Settings.EMPTY));
+        try (ThreadContext.StoredContext ignored = threadPool.getThreadContext().stashContext()) {
+            HybridQueryExecutor.initialize(threadPool, createClusterService(NUM_OF_TASKS, true));
+            threadPool.getThreadContext().putHeader("test-header", "test-value");
+            Thread searchThread = Thread.currentThread();
+            List<Callable<Boolean>> tasks = new ArrayList<>(NUM_OF_TASKS);
+            for (int i = 0; i < NUM_OF_TASKS; i++) {
+                tasks.add(
+                    () -> (Thread.currentThread() == searchThread || Thread.currentThread().isVirtual())
+                        && "test-value".equals(threadPool.getThreadContext().getHeader("test-header"))
+                );
+            }
+
+            List<Boolean> results = HybridQueryExecutor.getExecutor().invokeAll(tasks);
+
+            assertEquals(NUM_OF_TASKS, results.size());
+            assertTrue(results.stream().allMatch(Boolean::booleanValue));
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    private ClusterService createClusterService(final int maxFanOut) {
+        return createClusterService(maxFanOut, false);
+    }
+
+    private ClusterService createClusterService(final int maxFanOut, final boolean virtualThreadsEnabled) {
+        Settings settings = Settings.builder()
+            .put(HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT.getKey(), maxFanOut)
+            .put(HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED.getKey(), virtualThreadsEnabled)
+            .build();
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getSettings()).thenReturn(settings);
+        when(clusterService.getClusterSettings()).thenReturn(new ClusterSettings(settings, Set.of(HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT)));
+        return clusterService;
+    }
+
+    private List<Callable<String>> createTasks() {
+        List<Callable<String>> tasks = new ArrayList<>(NUM_OF_TASKS);
+        for (int i = 0; i < NUM_OF_TASKS; i++) {
+            tasks.add(() -> Thread.currentThread().getName());
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class InferenceBudgetTests extends OpenSearchTestCase {
+
+    public void testBind_whenBudgetNotExhausted_thenResponsePassed() {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            InferenceBudget inferenceBudget = InferenceBudget.create(createTask(false), new SearchRequest(), threadPool);
+            @SuppressWarnings("unchecked")
+            ActionListener<List<Number>> listener = mock(ActionListener.class);
+
+            inferenceBudget.bind(listener).onResponse(List.of(1.0f));
+
+            verify(listener).onResponse(List.of(1.0f));
+            verify(listener, never()).onFailure(any());
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testBind_whenTaskCancelled_thenInferenceAbandoned() {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            InferenceBudget inferenceBudget = InferenceBudget.create(createTask(true), new SearchRequest(), threadPool);
+            @SuppressWarnings("unchecked")
+            ActionListener<List<Number>> listener = mock(ActionListener.class);
+
+            ActionListener<List<Number>> boundListener = inferenceBudget.bind(listener);
+            boundListener.onResponse(List.of(1.0f));
+
+            verify(listener).onFailure(isA(TaskCancelledException.class));
+            verify(listener, never()).onResponse(any());
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testBind_whenSearchTimedOut_thenFailedBeforeResponseAndResponseDropped() throws Exception {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            SearchRequest searchRequest = new SearchRequest().source(new SearchSourceBuilder().timeout(TimeValue.timeValueMillis(50)));
+            InferenceBudget inferenceBudget = InferenceBudget.create(createTask(false), searchRequest, threadPool);
+            @SuppressWarnings("unchecked")
+            ActionListener<List<Number>> listener = mock(ActionListener.class);
+
+            ActionListener<List<Number>> boundListener = inferenceBudget.bind(listener);
+
+            assertBusy(() -> verify(listener).onFailure(isA(InferenceTimeoutException.class)));
+            boundListener.onResponse(List.of(1.0f));
+            verify(listener, never()).onResponse(any());
+            assertTrue(inferenceBudget.checkExhausted() instanceof InferenceTimeoutException);
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testCheckExhausted_whenCancelAfterTimeIntervalExceeded_thenSearchFails() {
+        SearchRequest searchRequest = new SearchRequest().source(new SearchSourceBuilder().timeout(TimeValue.timeValueMillis(0)));
+        searchRequest.setCancelAfterTimeInterval(TimeValue.timeValueMillis(0));
+        InferenceBudget inferenceBudget = InferenceBudget.create(createTask(false), searchRequest, mock(ThreadPool.class));
+
+        Exception exhausted = inferenceBudget.checkExhausted();
+
+        assertTrue(exhausted instanceof OpenSearchTimeoutException);
+        assertFalse(exhausted instanceof InferenceTimeoutException);
+    }
+
+    public void testCheckExhausted_whenSearchTimedOutAndPartialResultsNotAllowed_thenSearchFails() {
+        SearchRequest searchRequest = new SearchRequest().source(new SearchSourceBuilder().timeout(TimeValue.timeValueMillis(0)));
+        searchRequest.allowPartialSearchResults(false);
+        InferenceBudget inferenceBudget = InferenceBudget.create(createTask(false), searchRequest, mock(ThreadPool.class));
+
+        Exception exhausted = inferenceBudget.checkExhausted();
+
+        assertTrue(exhausted instanceof OpenSearchTimeoutException);
+        assertFalse(exhausted instanceof InferenceTimeoutException);
+    }
+
+    private CancellableTask createTask(final boolean isCancelled) {
+        CancellableTask task = mock(CancellableTask.class);
+        when(task.isCancelled()).thenReturn(isCancelled);
+        when(task.getStartTimeNanos()).thenReturn(System.nanoTime());
+        return task;
+    }
+}
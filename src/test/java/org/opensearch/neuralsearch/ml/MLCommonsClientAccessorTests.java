@@ -21,7 +21,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
@@ -30,7 +33,9 @@ import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.neuralsearch.constants.TestCommonConstants;
+import org.opensearch.tasks.CancellableTask;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.NodeNotConnectedException;
 
 public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
@@ -118,6 +123,23 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
         Mockito.verifyNoMoreInteractions(resultListener);
     }
 
+    public void testInferenceSentences_whenSearchTaskCancelled_thenModelNotCalled() {
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        CancellableTask task = mock(CancellableTask.class);
+        Mockito.when(task.isCancelled()).thenReturn(true);
+        threadContext.putTransient(
+            InferenceBudget.THREAD_CONTEXT_KEY,
+            new InferenceBudget(task, Long.MAX_VALUE, Long.MAX_VALUE, mock(ThreadPool.class))
+        );
+        MLCommonsClientAccessor accessorWithBudget = new MLCommonsClientAccessor(client, threadContext);
+
+        accessorWithBudget.inferenceSentences(TestCommonConstants.TEXT_INFERENCE_REQUEST, resultListener);
+
+        Mockito.verify(client, Mockito.never()).predict(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(resultListener).onFailure(Mockito.isA(TaskCancelledException.class));
+        Mockito.verifyNoMoreInteractions(resultListener);
+    }
+
     public void testInferenceSimilarity_whenNodeNotConnectedException_ThenRetry() {
         final NodeNotConnectedException nodeNodeConnectedException = new NodeNotConnectedException(
             mock(DiscoveryNode.class),
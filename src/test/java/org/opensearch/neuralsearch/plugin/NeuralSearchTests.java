@@ -8,27 +8,36 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import lombok.SneakyThrows;
 import org.junit.Before;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.support.ActionFilter;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.env.Environment;
+import org.opensearch.env.NodeEnvironment;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.ingest.IngestService;
 import org.opensearch.ingest.Processor;
+import org.opensearch.neuralsearch.ml.InferenceBudgetActionFilter;
 import org.opensearch.neuralsearch.processor.NeuralQueryEnricherProcessor;
 import org.opensearch.neuralsearch.processor.NeuralSparseTwoPhaseProcessor;
 import org.opensearch.neuralsearch.processor.NormalizationProcessor;
 import org.opensearch.neuralsearch.processor.RRFProcessor;
 import org.opensearch.neuralsearch.processor.TextEmbeddingProcessor;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombinationTechniqueProvider;
 import org.opensearch.neuralsearch.processor.factory.NormalizationProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.RRFProcessorFactory;
 import org.opensearch.neuralsearch.processor.rerank.RerankProcessor;
@@ -36,6 +45,8 @@ import org.opensearch.neuralsearch.query.HybridQueryBuilder;
 import org.opensearch.neuralsearch.query.NeuralQueryBuilder;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
 import org.opensearch.neuralsearch.search.query.HybridQueryPhaseSearcher;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.plugins.ExtensiblePlugin;
 import org.opensearch.plugins.SearchPipelinePlugin;
 import org.opensearch.plugins.SearchPlugin;
 import org.opensearch.plugins.SearchPlugin.SearchExtSpec;
@@ -74,11 +85,20 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
         searchParameters = new SearchPipelinePlugin.Parameters(null, null, null, null, null, null, searchPipelineService, null, null, null);
         ingestParameters = new Processor.Parameters(null, null, null, null, null, null, ingestService, null, null, null);
         when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        when(clusterService.getSettings()).thenReturn(Settings.EMPTY);
+        when(clusterService.getClusterSettings()).thenReturn(
+            new ClusterSettings(
+                Settings.EMPTY,
+                Set.of(NeuralSearchSettings.HYBRID_QUERY_MAX_SUB_QUERIES, NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_MAX_FAN_OUT)
+            )
+        );
     }
 
     public void testCreateComponents() {
         // clientAccessor can not be null, and this is the only way to access it from this test
         plugin.getProcessors(ingestParameters);
+        NodeEnvironment nodeEnvironment = mock(NodeEnvironment.class);
+        when(nodeEnvironment.nodeDataPaths()).thenReturn(new Path[] { createTempDir() });
         Collection<Object> components = plugin.createComponents(
             null,
             clusterService,
@@ -87,7 +107,7 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
             null,
             null,
             null,
-            null,
+            nodeEnvironment,
             null,
             null,
             null
@@ -160,10 +180,51 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
         assertTrue(rankingProcessor instanceof RRFProcessorFactory);
     }
 
+    @SneakyThrows
+    public void testLoadExtensions_whenCombinationTechniqueProvided_thenTechniqueUsedByProcessor() {
+        ScoreCombinationTechniqueProvider provider = () -> Map.of("max", params -> scores -> {
+            float maxScore = 0.0f;
+            for (float score : scores) {
+                maxScore = Math.max(maxScore, score);
+            }
+            return maxScore;
+        });
+        plugin.loadExtensions(new ExtensiblePlugin.ExtensionLoader() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> List<T> loadExtensions(Class<T> extensionPointType) {
+                if (ScoreCombinationTechniqueProvider.class.equals(extensionPointType)) {
+                    return (List<T>) List.of(provider);
+                }
+                return List.of();
+            }
+        });
+
+        Factory<SearchPhaseResultsProcessor> normalizationProcessorFactory = plugin.getSearchPhaseResultsProcessors(searchParameters)
+            .get(NormalizationProcessor.TYPE);
+        Map<String, Object> config = new HashMap<>(
+            Map.of(
+                NormalizationProcessorFactory.NORMALIZATION_CLAUSE,
+                new HashMap<>(Map.of(NormalizationProcessorFactory.TECHNIQUE, "min_max")),
+                NormalizationProcessorFactory.COMBINATION_CLAUSE,
+                new HashMap<>(Map.of(NormalizationProcessorFactory.TECHNIQUE, "max"))
+            )
+        );
+        SearchPhaseResultsProcessor processor = normalizationProcessorFactory.create(
+            Map.of(),
+            "tag",
+            "description",
+            false,
+            config,
+            mock(org.opensearch.search.pipeline.Processor.PipelineContext.class)
+        );
+        assertTrue(processor instanceof NormalizationProcessor);
+    }
+
     public void testGetSettings() {
         List<Setting<?>> settings = plugin.getSettings();
 
-        assertEquals(2, settings.size());
+        assertEquals(9, settings.size());
     }
 
     public void testRequestProcessors() {
@@ -187,6 +248,13 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
         assertEquals(1, searchExts.size());
     }
 
+    public void testGetActionFilters() {
+        List<ActionFilter> actionFilters = plugin.getActionFilters();
+
+        assertEquals(1, actionFilters.size());
+        assertTrue(actionFilters.get(0) instanceof InferenceBudgetActionFilter);
+    }
+
     public void testExecutionBuilders() {
         Settings settings = Settings.builder().build();
         Environment environment = mock(Environment.class);
@@ -195,7 +263,8 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
 
         assertNotNull(executorBuilders);
         assertFalse(executorBuilders.isEmpty());
-        assertEquals("Unexpected number of executor builders are registered", 1, executorBuilders.size());
+        assertEquals("Unexpected number of executor builders are registered", 2, executorBuilders.size());
         assertTrue(executorBuilders.get(0) instanceof FixedExecutorBuilder);
+        assertTrue(executorBuilders.get(1) instanceof FixedExecutorBuilder);
     }
 }
@@ -16,6 +16,7 @@ import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.neuralsearch.constants.TestCommonConstants;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.cache.EmbeddingCache;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -32,6 +33,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.neuralsearch.constants.TestCommonConstants.TEXT_INFERENCE_REQUEST;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.EMBEDDING_CACHE_DISK_SIZE;
 
 public class InferenceProcessorTests extends InferenceProcessorTestCase {
     private MLCommonsClientAccessor clientAccessor;
@@ -178,6 +180,31 @@ public class InferenceProcessorTests extends InferenceProcessorTestCase {
         assertEquals(List.of("value4"), processor.getAllInferenceInputs().get(2));
     }
 
+    public void test_batchExecute_whenEmbeddingCacheEnabled_thenOnlyMissedTextsInferred() {
+        EmbeddingCache embeddingCache = EmbeddingCache.instance();
+        embeddingCache.initialize(Settings.builder().put(EMBEDDING_CACHE_DISK_SIZE.getKey(), "1mb").build(), createTempDir());
+        try {
+            TestInferenceProcessor processor = new TestInferenceProcessor(createMockVectorWithLength(1), BATCH_SIZE, null);
+            List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(2);
+            wrapperList.get(0).getIngestDocument().setFieldValue("key1", "value1");
+            wrapperList.get(1).getIngestDocument().setFieldValue("key1", "value2");
+            processor.batchExecute(wrapperList.subList(0, 1), results -> {});
+
+            List<IngestDocumentWrapper> allResults = new ArrayList<>();
+            processor.batchExecute(wrapperList, allResults::addAll);
+
+            assertEquals(2, processor.getAllInferenceInputs().size());
+            assertEquals(List.of("value1"), processor.getAllInferenceInputs().get(0));
+            assertEquals(List.of("value2"), processor.getAllInferenceInputs().get(1));
+            for (IngestDocumentWrapper result : allResults) {
+                assertNull(result.getException());
+                assertEquals(List.of(0.234f, 1.234f), result.getIngestDocument().getFieldValue("embedding_key1", List.class));
+            }
+        } finally {
+            embeddingCache.close();
+        }
+    }
+
     private class TestInferenceProcessor extends InferenceProcessor {
         List<?> vectors;
         Exception exception;
@@ -186,7 +213,7 @@ public class InferenceProcessorTests extends InferenceProcessorTestCase {
         List<List<String>> allInferenceInputs = new ArrayList<>();
 
         public TestInferenceProcessor(List<?> vectors, int batchSize, Exception exception) {
-            super(TAG, DESCRIPTION, batchSize, TYPE, MAP_KEY, MODEL_ID, FIELD_MAP, clientAccessor, environment, clusterService);
+            super(TAG, DESCRIPTION, batchSize, TYPE, MAP_KEY, MODEL_ID, FIELD_MAP, false, clientAccessor, environment, clusterService);
             this.vectors = vectors;
             this.exception = exception;
         }
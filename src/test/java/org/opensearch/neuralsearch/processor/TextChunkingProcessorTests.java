@@ -8,16 +8,19 @@ import com.google.common.collect.ImmutableMap;
 import lombok.SneakyThrows;
 import org.apache.lucene.tests.analysis.MockTokenizer;
 import org.junit.Before;
+import org.mockito.ArgumentCaptor;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
 
@@ -32,7 +35,9 @@ import org.opensearch.index.analysis.AnalysisRegistry;
 import org.opensearch.index.analysis.TokenizerFactory;
 import org.opensearch.index.mapper.IndexFieldMapper;
 import org.opensearch.indices.analysis.AnalysisModule;
+import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.neuralsearch.processor.chunker.DelimiterChunker;
 import org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker;
@@ -144,7 +149,7 @@ public class TextChunkingProcessorTests extends OpenSearchTestCase {
         config.put(FIELD_MAP_FIELD, fieldMap);
         config.put(ALGORITHM_FIELD, algorithmMap);
         Map<String, Processor.Factory> registry = new HashMap<>();
-        return textChunkingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
+        return (TextChunkingProcessor) textChunkingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
     }
 
     @SneakyThrows
@@ -155,7 +160,7 @@ public class TextChunkingProcessorTests extends OpenSearchTestCase {
         config.put(FIELD_MAP_FIELD, fieldMap);
         config.put(ALGORITHM_FIELD, algorithmMap);
         Map<String, Processor.Factory> registry = new HashMap<>();
-        return textChunkingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
+        return (TextChunkingProcessor) textChunkingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
     }
 
     @SneakyThrows
@@ -166,7 +171,23 @@ public class TextChunkingProcessorTests extends OpenSearchTestCase {
         config.put(FIELD_MAP_FIELD, fieldMap);
         config.put(ALGORITHM_FIELD, algorithmMap);
         Map<String, Processor.Factory> registry = new HashMap<>();
-        return textChunkingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
+        return (TextChunkingProcessor) textChunkingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
+    }
+
+    @SneakyThrows
+    private TextChunkingProcessor createFixedTokenLengthInstanceWithMaxChunkLimitAndBatchSize(
+        Map<String, Object> fieldMap,
+        int maxChunkLimit,
+        int batchSize
+    ) {
+        Map<String, Object> config = new HashMap<>();
+        Map<String, Object> algorithmMap = new HashMap<>();
+        algorithmMap.put(FixedTokenLengthChunker.ALGORITHM_NAME, createFixedTokenLengthParametersWithMaxChunkLimit(maxChunkLimit));
+        config.put(FIELD_MAP_FIELD, fieldMap);
+        config.put(ALGORITHM_FIELD, algorithmMap);
+        config.put(AbstractBatchingProcessor.BATCH_SIZE_FIELD, batchSize);
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        return (TextChunkingProcessor) textChunkingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
     }
 
     @SneakyThrows
@@ -179,7 +200,7 @@ public class TextChunkingProcessorTests extends OpenSearchTestCase {
         config.put(FIELD_MAP_FIELD, fieldMap);
         config.put(ALGORITHM_FIELD, algorithmMap);
         Map<String, Processor.Factory> registry = new HashMap<>();
-        return textChunkingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
+        return (TextChunkingProcessor) textChunkingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
     }
 
     @SneakyThrows
@@ -193,7 +214,7 @@ public class TextChunkingProcessorTests extends OpenSearchTestCase {
         config.put(ALGORITHM_FIELD, algorithmMap);
         config.put(IGNORE_MISSING, true);
         Map<String, Processor.Factory> registry = new HashMap<>();
-        return textChunkingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
+        return (TextChunkingProcessor) textChunkingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
     }
 
     public void testCreate_whenAlgorithmFieldMissing_thenFail() {
@@ -972,4 +993,116 @@ public class TextChunkingProcessorTests extends OpenSearchTestCase {
         IngestDocument document = processor.execute(ingestDocument);
         assertFalse(document.getSourceAndMetadata().containsKey(OUTPUT_FIELD));
     }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public void testBatchExecute_withFixedTokenLength_andMaxChunkLimit_thenSameResultsAsExecute() {
+        int maxChunkLimit = 4;
+        int docCount = 3;
+        TextChunkingProcessor processor = createFixedTokenLengthInstanceWithMaxChunkLimitAndBatchSize(
+            createNestedFieldMapMultipleField(),
+            maxChunkLimit,
+            docCount
+        );
+        List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>();
+        List<IngestDocument> expectedDocuments = new ArrayList<>();
+        for (int i = 0; i < docCount; i++) {
+            Map<String, Object> sourceData = new HashMap<>();
+            sourceData.put(INPUT_FIELD + "_1", createSourceDataListStrings());
+            sourceData.put(INPUT_FIELD + "_2", createSourceDataString());
+            ingestDocumentWrappers.add(new IngestDocumentWrapper(i, createIngestDocumentWithNestedSourceData(sourceData), null));
+            expectedDocuments.add(processor.execute(createIngestDocumentWithNestedSourceData(new HashMap<>(sourceData))));
+        }
+
+        Consumer<List<IngestDocumentWrapper>> resultHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, resultHandler);
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultCallback = ArgumentCaptor.forClass(List.class);
+        verify(resultHandler).accept(resultCallback.capture());
+        assertEquals(docCount, resultCallback.getValue().size());
+        for (int i = 0; i < docCount; i++) {
+            IngestDocumentWrapper ingestDocumentWrapper = resultCallback.getValue().get(i);
+            assertNull(ingestDocumentWrapper.getException());
+            Map<String, Object> nestedResult = (Map<String, Object>) ingestDocumentWrapper.getIngestDocument()
+                .getSourceAndMetadata()
+                .get(INPUT_NESTED_FIELD_KEY);
+            Map<String, Object> expectedNestedResult = (Map<String, Object>) expectedDocuments.get(i)
+                .getSourceAndMetadata()
+                .get(INPUT_NESTED_FIELD_KEY);
+            assertEquals(expectedNestedResult.get(OUTPUT_FIELD + "_1"), nestedResult.get(OUTPUT_FIELD + "_1"));
+            assertEquals(expectedNestedResult.get(OUTPUT_FIELD + "_2"), nestedResult.get(OUTPUT_FIELD + "_2"));
+            List<String> passages1 = (List<String>) nestedResult.get(OUTPUT_FIELD + "_1");
+            List<String> passages2 = (List<String>) nestedResult.get(OUTPUT_FIELD + "_2");
+            assertEquals(maxChunkLimit, passages1.size() + passages2.size());
+        }
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public void testBatchExecute_withFixedTokenLength_andContentExceedsMaxTokenCount_thenOnlyUnlimitedChunkingFails() {
+        // max_token_count is 10000, chunkers stop reading tokens once max_chunk_limit is reached
+        String longContent = "token ".repeat(10001);
+        Map<String, Object> sourceData = Map.of(INPUT_FIELD, List.of(longContent, longContent));
+        TextChunkingProcessor processor = createFixedTokenLengthInstanceWithMaxChunkLimitAndBatchSize(createStringFieldMap(), 2, 1);
+        IngestDocument expectedDocument = processor.execute(createIngestDocumentWithSourceData(new HashMap<>(sourceData)));
+
+        Consumer<List<IngestDocumentWrapper>> resultHandler = mock(Consumer.class);
+        processor.batchExecute(
+            List.of(new IngestDocumentWrapper(0, createIngestDocumentWithSourceData(new HashMap<>(sourceData)), null)),
+            resultHandler
+        );
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultCallback = ArgumentCaptor.forClass(List.class);
+        verify(resultHandler).accept(resultCallback.capture());
+        IngestDocumentWrapper result = resultCallback.getValue().get(0);
+        assertNull(result.getException());
+        assertEquals(List.of(longContent, longContent), result.getIngestDocument().getSourceAndMetadata().get(OUTPUT_FIELD));
+        assertEquals(
+            expectedDocument.getSourceAndMetadata().get(OUTPUT_FIELD),
+            result.getIngestDocument().getSourceAndMetadata().get(OUTPUT_FIELD)
+        );
+
+        TextChunkingProcessor unlimitedProcessor = createFixedTokenLengthInstanceWithMaxChunkLimitAndBatchSize(
+            createStringFieldMap(),
+            -1,
+            1
+        );
+        Exception expectedException = expectThrows(
+            IllegalStateException.class,
+            () -> unlimitedProcessor.execute(createIngestDocumentWithSourceData(new HashMap<>(sourceData)))
+        );
+        Consumer<List<IngestDocumentWrapper>> unlimitedResultHandler = mock(Consumer.class);
+        unlimitedProcessor.batchExecute(
+            List.of(new IngestDocumentWrapper(0, createIngestDocumentWithSourceData(new HashMap<>(sourceData)), null)),
+            unlimitedResultHandler
+        );
+
+        verify(unlimitedResultHandler).accept(resultCallback.capture());
+        assertNotNull(resultCallback.getValue().get(0).getException());
+        assertEquals(expectedException.getMessage(), resultCallback.getValue().get(0).getException().getMessage());
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public void testBatchExecute_withFixedTokenLength_andInvalidDocument_thenOnlyInvalidDocumentFails() {
+        TextChunkingProcessor processor = createFixedTokenLengthInstanceWithMaxChunkLimitAndBatchSize(createStringFieldMap(), -1, 2);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = List.of(
+            new IngestDocumentWrapper(0, createIngestDocumentWithSourceData(createSourceDataListWithInvalidType()), null),
+            new IngestDocumentWrapper(1, createIngestDocumentWithSourceData(createSourceDataString()), null)
+        );
+
+        Consumer<List<IngestDocumentWrapper>> resultHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, resultHandler);
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultCallback = ArgumentCaptor.forClass(List.class);
+        verify(resultHandler).accept(resultCallback.capture());
+        assertEquals(2, resultCallback.getValue().size());
+        assertNotNull(resultCallback.getValue().get(0).getException());
+        assertNull(resultCallback.getValue().get(1).getException());
+        List<String> expectedPassages = new ArrayList<>();
+        expectedPassages.add("This is an example document to be chunked. The document ");
+        expectedPassages.add("contains a single paragraph, two sentences and 24 tokens by ");
+        expectedPassages.add("standard tokenizer in OpenSearch.");
+        assertEquals(expectedPassages, resultCallback.getValue().get(1).getIngestDocument().getSourceAndMetadata().get(OUTPUT_FIELD));
+    }
 }
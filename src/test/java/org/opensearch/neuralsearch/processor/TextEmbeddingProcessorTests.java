@@ -15,6 +15,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.isNull;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.isA;
+import static org.opensearch.neuralsearch.util.quantization.EmbeddingDataType.EMBEDDING_DATA_TYPE_FIELD;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -36,6 +37,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
@@ -166,6 +169,87 @@ public class TextEmbeddingProcessorTests extends InferenceProcessorTestCase {
         verify(handler).accept(any(IngestDocument.class), isNull());
     }
 
+    @SneakyThrows
+    public void testExecute_whenEmbeddingDataTypeIsByte_thenQuantizedVectorsSet() {
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, "my_index");
+        sourceAndMetadata.put("key1", "value1");
+        sourceAndMetadata.put("key2", "value2");
+        IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1_knn", "key2", "key2_knn"));
+        config.put(EMBEDDING_DATA_TYPE_FIELD.getPreferredName(), "byte");
+        TextEmbeddingProcessor processor = (TextEmbeddingProcessor) textEmbeddingProcessorFactory.create(
+            new HashMap<>(),
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            config
+        );
+
+        List<List<Float>> modelTensorList = List.of(List.of(0.5f, -1.0f), List.of(2.0f, -0.2f));
+        doAnswer(invocation -> {
+            ActionListener<List<List<Float>>> listener = invocation.getArgument(1);
+            listener.onResponse(modelTensorList);
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(argThat(request -> request.getInputTexts() != null), isA(ActionListener.class));
+
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, handler);
+        verify(handler).accept(any(IngestDocument.class), isNull());
+        assertEquals(List.of(64, -127), ingestDocument.getFieldValue("key1_knn", List.class));
+        assertEquals(List.of(127, -25), ingestDocument.getFieldValue("key2_knn", List.class));
+    }
+
+    @SneakyThrows
+    public void testExecute_whenRequireSourceExcludesAndFieldsNotExcludedByMapping_thenFail() {
+        IndexMetadata indexMetadata = mock(IndexMetadata.class);
+        when(indexMetadata.getSettings()).thenReturn(Settings.builder().put("index.mapping.depth.limit", 20).build());
+        MappingMetadata mappingMetadata = mock(MappingMetadata.class);
+        when(mappingMetadata.sourceAsMap()).thenReturn(Map.of("_source", Map.of("excludes", List.of("key1_*"))));
+        when(indexMetadata.mapping()).thenReturn(mappingMetadata);
+        when(clusterService.state().metadata().index(anyString())).thenReturn(indexMetadata);
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(
+            TextEmbeddingProcessor.FIELD_MAP_FIELD,
+            ImmutableMap.of("key1", "key1_knn", "key2", ImmutableMap.of("passages", "passages_knn"))
+        );
+        config.put(TextEmbeddingProcessor.REQUIRE_SOURCE_EXCLUDES_FIELD, true);
+        TextEmbeddingProcessor processor = (TextEmbeddingProcessor) textEmbeddingProcessorFactory.create(
+            new HashMap<>(),
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            config
+        );
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, "my_index");
+        sourceAndMetadata.put("key1", "value1");
+        sourceAndMetadata.put("key2", Map.of("passages", List.of("passage1", "passage2")));
+
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(new IngestDocument(sourceAndMetadata, new HashMap<>()), handler);
+        ArgumentCaptor<Exception> failureCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(handler).accept(isNull(), failureCaptor.capture());
+        assertTrue(failureCaptor.getValue() instanceof IllegalArgumentException);
+        assertEquals(
+            "[require_source_excludes] is set but fields [key2.passages_knn] generated by [text_embedding] processor are stored in"
+                + " _source of index [my_index], add them to _source.excludes of the index mapping",
+            failureCaptor.getValue().getMessage()
+        );
+
+        // excluding the parent object excludes embeddings of all passages in the list
+        when(mappingMetadata.sourceAsMap()).thenReturn(Map.of("_source", Map.of("excludes", List.of("key1_*", "key2"))));
+        doAnswer(invocation -> {
+            ActionListener<List<List<Float>>> listener = invocation.getArgument(1);
+            listener.onResponse(createMockVectorWithLength(3));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(argThat(request -> request.getInputTexts() != null), isA(ActionListener.class));
+        BiConsumer successHandler = mock(BiConsumer.class);
+        processor.execute(new IngestDocument(sourceAndMetadata, new HashMap<>()), successHandler);
+        verify(successHandler).accept(any(IngestDocument.class), isNull());
+    }
+
     @SneakyThrows
     public void testExecute_whenInferenceThrowInterruptedException_throwRuntimeException() {
         Map<String, Object> sourceAndMetadata = new HashMap<>();
@@ -861,6 +945,38 @@ public class TextEmbeddingProcessorTests extends InferenceProcessorTestCase {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public void testPreprocessIngestDocument_whenDottedFieldsOutsideFieldMap_thenOnlyFieldMapFieldsUnflattened() {
+        Map<String, Object> config = createNestedMapConfiguration();
+        IngestDocument ingestDocument = createFlattenedNestedMapIngestDocument();
+        Map<String, Object> unrelatedField = buildObjMap(Pair.of("page.count", "10"));
+        ingestDocument.getSourceAndMetadata().put("book.details", unrelatedField);
+        TextEmbeddingProcessor processor = createInstanceWithNestedMapConfiguration(config);
+
+        processor.preprocessIngestDocument(ingestDocument);
+
+        Map<String, Object> sourceAndMetadata = ingestDocument.getSourceAndMetadata();
+        assertFalse(sourceAndMetadata.containsKey("favorites.favorite"));
+        Map<String, Object> favorites = (Map<String, Object>) sourceAndMetadata.get("favorites");
+        assertNotNull(favorites);
+        assertEquals("matrix", ((Map<String, Object>) favorites.get("favorite")).get("movie"));
+        assertSame(unrelatedField, sourceAndMetadata.get("book.details"));
+        assertFalse(sourceAndMetadata.containsKey("book"));
+    }
+
+    public void testPreprocessIngestDocument_whenNoDottedFields_thenDocumentNotChanged() {
+        Map<String, Object> config = createNestedMapConfiguration();
+        Map<String, Object> favorite = buildObjMap(Pair.of("movie", "matrix"));
+        Map<String, Object> favorites = buildObjMap(Pair.of("favorite", favorite));
+        IngestDocument ingestDocument = new IngestDocument(buildObjMap(Pair.of("favorites", favorites)), new HashMap<>());
+        TextEmbeddingProcessor processor = createInstanceWithNestedMapConfiguration(config);
+
+        processor.preprocessIngestDocument(ingestDocument);
+
+        assertSame(favorites, ingestDocument.getSourceAndMetadata().get("favorites"));
+        assertSame(favorite, favorites.get("favorite"));
+    }
+
     @SneakyThrows
     @SuppressWarnings("unchecked")
     public void testBuildVectorOutput_withFlattenedNestedMapAndList_successful() {
@@ -1186,13 +1302,38 @@ public class TextEmbeddingProcessorTests extends InferenceProcessorTestCase {
         Map<String, Object> config = createNestedList2LevelConfiguration();
         TextEmbeddingProcessor processor = createInstanceWithNestedMapConfiguration(config);
         Map<String, Object> resultAsTree = new LinkedHashMap<>();
-        processor.buildNestedMap("nestedField", config.get("nestedField"), config, resultAsTree);
+        processor.buildNestedMap(processor.compileFieldMap(config).getFirst(), config, resultAsTree);
         assertNotNull(resultAsTree);
         Map<String, Object> actualMapLevel1 = (Map<String, Object>) resultAsTree.get("nestedField");
         assertEquals(1, actualMapLevel1.size());
         assertEquals(Map.of("vectorField", "vectorField"), actualMapLevel1.get("nestedField"));
     }
 
+    public void testCompileFieldMap_whenNestedFieldsWithDots_thenKeysSplitIntoNestedNodes() {
+        Map<String, Object> config = createNestedMapConfiguration();
+        TextEmbeddingProcessor processor = createInstanceWithNestedMapConfiguration(config);
+        List<InferenceProcessor.FieldMapNode> fieldMapPlan = processor.compileFieldMap(config);
+        assertEquals(1, fieldMapPlan.size());
+        assertFalse(fieldMapPlan.getFirst().isLeaf());
+        Map<String, String> targetKeyByPath = new HashMap<>();
+        collectTargetKeyByPath(fieldMapPlan, "", targetKeyByPath);
+        assertEquals(
+            Map.of("favorites.favorite.movie", "favorite_movie_knn", "favorites.favorite.games.adventure.action", "with_action_knn"),
+            targetKeyByPath
+        );
+    }
+
+    private void collectTargetKeyByPath(List<InferenceProcessor.FieldMapNode> nodes, String prefix, Map<String, String> targetKeyByPath) {
+        for (InferenceProcessor.FieldMapNode node : nodes) {
+            String path = prefix + node.getKey();
+            if (node.isLeaf()) {
+                targetKeyByPath.put(path, node.getTargetKey());
+            } else {
+                collectTargetKeyByPath(node.getChildren(), path + ".", targetKeyByPath);
+            }
+        }
+    }
+
     private void assertMapWithNestedFields(Pair<String, Object> actual, List<String> expectedKeys, Optional<Object> expectedFinalValue) {
         assertNotNull(actual);
         assertEquals(expectedKeys.get(0), actual.getKey());
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class EmbeddingCacheSegmentIndexTests extends OpenSearchTestCase {
+
+    public void testGet_whenIndexResized_thenAllLocationsFound() {
+        EmbeddingCacheSegmentIndex index = new EmbeddingCacheSegmentIndex();
+        long ramBytesUsedBefore = index.ramBytesUsed();
+        for (int i = 0; i < 10_000; i++) {
+            index.put(i, -i, 100L * i, i + 1);
+        }
+
+        assertEquals(10_000, index.size());
+        assertTrue(index.ramBytesUsed() > ramBytesUsedBefore);
+        for (int i = 0; i < 10_000; i++) {
+            long location = index.get(i, -i);
+            assertEquals(100L * i, EmbeddingCacheSegmentIndex.offset(location));
+            assertEquals(i + 1, EmbeddingCacheSegmentIndex.valueLength(location));
+        }
+        assertEquals(EmbeddingCacheSegmentIndex.NOT_FOUND, index.get(10_000, -10_000));
+    }
+
+    public void testPut_whenSameKey_thenLocationReplaced() {
+        EmbeddingCacheSegmentIndex index = new EmbeddingCacheSegmentIndex();
+        index.put(1, 2, 0, 10);
+        index.put(1, 2, 64, 20);
+        index.seal();
+
+        assertEquals(1, index.size());
+        long location = index.get(1, 2);
+        assertEquals(64, EmbeddingCacheSegmentIndex.offset(location));
+        assertEquals(20, EmbeddingCacheSegmentIndex.valueLength(location));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.cache;
+
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.EMBEDDING_CACHE_DISK_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.EMBEDDING_CACHE_INDEX_SIZE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class EmbeddingCacheTests extends OpenSearchTestCase {
+    private static final String NAMESPACE = "text_embedding/model_id";
+
+    @Override
+    public void tearDown() throws Exception {
+        EmbeddingCache.instance().close();
+        super.tearDown();
+    }
+
+    public void testGet_whenResultsPut_thenCachedResultsReturned() {
+        EmbeddingCache cache = EmbeddingCache.instance();
+        cache.initialize(createSettings("1mb"), createTempDir());
+        assertTrue(cache.isEnabled());
+
+        cache.put(
+            NAMESPACE,
+            List.of("dense", "sparse", "unsupported"),
+            List.of(List.of(0.1f, 0.2d), Map.of("hello", 1.5f), List.of("not a vector"))
+        );
+
+        assertEquals(
+            Arrays.asList(List.of(0.1f, 0.2f), Map.of("hello", 1.5f), null, null),
+            cache.get(NAMESPACE, List.of("dense", "sparse", "unsupported", "missing"))
+        );
+        assertEquals(Collections.singletonList(null), cache.get("sparse_encoding/model_id", List.of("dense")));
+    }
+
+    public void testInitialize_whenNodeRestarted_thenResultsReadFromDiskAndCorruptedRecordDropped() throws IOException {
+        Path directory = createTempDir();
+        EmbeddingCache cache = EmbeddingCache.instance();
+        cache.initialize(createSettings("1mb"), directory);
+        cache.put(NAMESPACE, List.of("first", "second"), List.of(List.of(1.0f), List.of(2.0f)));
+        cache.close();
+        assertFalse(cache.isEnabled());
+        assertEquals(Arrays.asList(null, null), cache.get(NAMESPACE, List.of("first", "second")));
+
+        // record that was written partially when the node stopped
+        Path segment = listSegments(directory).get(0);
+        Files.write(segment, new byte[] { 0, 0, 1, 0, 42 }, StandardOpenOption.APPEND);
+        cache.initialize(createSettings("1mb"), directory);
+
+        assertEquals(List.of(List.of(1.0f), List.of(2.0f)), cache.get(NAMESPACE, List.of("first", "second")));
+        cache.put(NAMESPACE, List.of("third"), List.of(List.of(3.0f)));
+        assertEquals(List.of(List.of(3.0f)), cache.get(NAMESPACE, List.of("third")));
+
+        cache.initialize(createSettings("0b"), directory);
+        assertFalse(cache.isEnabled());
+        assertTrue(listSegments(directory).isEmpty());
+    }
+
+    public void testPut_whenDiskBudgetExceeded_thenLeastRecentlyUsedSegmentsEvicted() throws IOException {
+        Path directory = createTempDir();
+        EmbeddingCache cache = EmbeddingCache.instance();
+        cache.initialize(createSettings("2mb"), directory);
+        // every vector takes 4kb, one segment holds about 250 vectors
+        List<Float> vector = Collections.nCopies(1024, 0.5f);
+        cache.put(NAMESPACE, List.of("text_0"), List.of(vector));
+        for (int i = 1; i < 1000; i++) {
+            cache.put(NAMESPACE, List.of("text_" + i), List.of(vector));
+            // first text is used recently and is not evicted
+            assertNotNull(cache.get(NAMESPACE, List.of("text_0")).get(0));
+        }
+
+        assertNotNull(cache.get(NAMESPACE, List.of("text_999")).get(0));
+        assertNull(cache.get(NAMESPACE, List.of("text_1")).get(0));
+        long sizeOnDisk = 0;
+        for (Path segment : listSegments(directory)) {
+            sizeOnDisk += Files.size(segment);
+        }
+        assertTrue(sizeOnDisk <= 2 * 1024 * 1024 + 1024 * 1024);
+    }
+
+    public void testPut_whenIndexBudgetExceeded_thenOldestSegmentsEvicted() throws IOException {
+        Path directory = createTempDir();
+        EmbeddingCache cache = EmbeddingCache.instance();
+        // index of a segment with up to 512 entries takes 24kb, so indexes of two segments fit into the budget
+        cache.initialize(
+            Settings.builder().put(EMBEDDING_CACHE_DISK_SIZE.getKey(), "10mb").put(EMBEDDING_CACHE_INDEX_SIZE.getKey(), "50kb").build(),
+            directory
+        );
+        // every vector takes 4kb, one segment holds about 300 vectors
+        List<Float> vector = Collections.nCopies(1024, 0.5f);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(NAMESPACE, List.of("text_" + i), List.of(vector));
+        }
+
+        assertNotNull(cache.get(NAMESPACE, List.of("text_999")).get(0));
+        assertNull(cache.get(NAMESPACE, List.of("text_1")).get(0));
+        assertEquals(2, listSegments(directory).size());
+    }
+
+    private Settings createSettings(final String diskSize) {
+        return Settings.builder().put(EMBEDDING_CACHE_DISK_SIZE.getKey(), diskSize).build();
+    }
+
+    private List<Path> listSegments(final Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> EmbeddingCacheSegment.parseId(path).isPresent()).sorted().collect(Collectors.toList());
+        }
+    }
+}
@@ -30,6 +30,12 @@ public class ChunkerFactoryTests extends OpenSearchTestCase {
         assert (chunker instanceof DelimiterChunker);
     }
 
+    public void testCreate_Recursive() {
+        Chunker chunker = ChunkerFactory.create(RecursiveChunker.ALGORITHM_NAME, createChunkParameters());
+        assertNotNull(chunker);
+        assert (chunker instanceof RecursiveChunker);
+    }
+
     public void testCreate_Invalid() {
         String invalidChunkerName = "Invalid Chunker Algorithm";
         assertThrows(NullPointerException.class, () -> ChunkerFactory.create(invalidChunkerName, createChunkParameters()));
@@ -7,6 +7,7 @@ package org.opensearch.neuralsearch.processor.chunker;
 import org.junit.Assert;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -17,6 +18,7 @@ public class ChunkerParameterParserTests extends OpenSearchTestCase {
     private static final Integer defaultInteger = 0;
     private static final Integer defaultPositiveInteger = 100;
     private static final Double defaultDouble = 0.0;
+    private static final List<String> defaultStringList = List.of("default_string");
 
     public void testParseString_withFieldValueNotString_thenFail() {
         Map<String, Object> parameters = Map.of(fieldName, 1);
@@ -86,6 +88,55 @@ public class ChunkerParameterParserTests extends OpenSearchTestCase {
         assertEquals(defaultString, parsedStringValue);
     }
 
+    public void testParseStringList_withFieldValueNotList_thenFail() {
+        Map<String, Object> parameters = Map.of(fieldName, "a");
+        IllegalArgumentException illegalArgumentException = assertThrows(
+            IllegalArgumentException.class,
+            () -> ChunkerParameterParser.parseStringList(parameters, fieldName)
+        );
+        Assert.assertEquals(
+            String.format(Locale.ROOT, "Parameter [%s] must be of %s type", fieldName, List.class.getName()),
+            illegalArgumentException.getMessage()
+        );
+    }
+
+    public void testParseStringList_withFieldValueEmptyList_thenFail() {
+        Map<String, Object> parameters = Map.of(fieldName, List.of());
+        IllegalArgumentException illegalArgumentException = assertThrows(
+            IllegalArgumentException.class,
+            () -> ChunkerParameterParser.parseStringList(parameters, fieldName)
+        );
+        Assert.assertEquals(
+            String.format(Locale.ROOT, "Parameter [%s] should not be empty.", fieldName),
+            illegalArgumentException.getMessage()
+        );
+    }
+
+    public void testParseStringList_withFieldValueInvalidElement_thenFail() {
+        Map<String, Object> parameters = Map.of(fieldName, List.of("a", ""));
+        IllegalArgumentException illegalArgumentException = assertThrows(
+            IllegalArgumentException.class,
+            () -> ChunkerParameterParser.parseStringList(parameters, fieldName)
+        );
+        Assert.assertEquals(
+            String.format(Locale.ROOT, "Parameter [%s] must only contain non-empty %s values", fieldName, String.class.getName()),
+            illegalArgumentException.getMessage()
+        );
+    }
+
+    public void testParseStringList_withFieldValueValidList_thenSucceed() {
+        List<String> parameterValue = List.of("a", "b");
+        Map<String, Object> parameters = Map.of(fieldName, parameterValue);
+        List<String> parsedStringListValue = ChunkerParameterParser.parseStringList(parameters, fieldName);
+        assertEquals(parameterValue, parsedStringListValue);
+    }
+
+    public void testParseStringListWithDefault_withFieldValueMissing_thenSucceed() {
+        Map<String, Object> parameters = Map.of();
+        List<String> parsedStringListValue = ChunkerParameterParser.parseStringListWithDefault(parameters, fieldName, defaultStringList);
+        assertEquals(defaultStringList, parsedStringListValue);
+    }
+
     public void testParseInteger_withFieldValueString_thenFail() {
         Map<String, Object> parameters = Map.of(fieldName, "a");
         IllegalArgumentException illegalArgumentException = assertThrows(
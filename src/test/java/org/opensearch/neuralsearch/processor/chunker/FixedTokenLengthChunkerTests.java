@@ -309,4 +309,49 @@ public class FixedTokenLengthChunkerTests extends OpenSearchTestCase {
         );
         assertEquals(expectedPassages, passages);
     }
+
+    public void testChunk_withOverlap_whenTokenLimitNotMultipleOfStep_thenSucceed() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(TOKEN_LIMIT_FIELD, 3);
+        parameters.put(OVERLAP_RATE_FIELD, 0.4);
+        FixedTokenLengthChunker fixedTokenLengthChunker = createFixedTokenLengthChunker(parameters);
+        String content = "a b c d e f";
+        List<String> passages = fixedTokenLengthChunker.chunk(content, runtimeParameters);
+        List<String> expectedPassages = List.of("a b c ", "c d e ", "e f");
+        assertEquals(expectedPassages, passages);
+    }
+
+    public void testChunk_whenExceedMaxTokenCount_thenFail() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(TOKEN_LIMIT_FIELD, 10);
+        FixedTokenLengthChunker fixedTokenLengthChunker = createFixedTokenLengthChunker(parameters);
+        Map<String, Object> runtimeParameters = new HashMap<>(this.runtimeParameters);
+        runtimeParameters.put(MAX_TOKEN_COUNT_FIELD, 15);
+        String content =
+            "This is an example document to be chunked. The document contains a single paragraph, two sentences and 24 tokens by standard tokenizer in OpenSearch.";
+        IllegalStateException illegalStateException = assertThrows(
+            IllegalStateException.class,
+            () -> fixedTokenLengthChunker.chunk(content, runtimeParameters)
+        );
+        assert (illegalStateException.getMessage()
+            .contains("The number of tokens produced by calling _analyze has exceeded the allowed maximum of [15]."));
+    }
+
+    public void testChunk_whenMaxChunkLimitReached_thenRestOfTokensNotRead() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(TOKEN_LIMIT_FIELD, 10);
+        FixedTokenLengthChunker fixedTokenLengthChunker = createFixedTokenLengthChunker(parameters);
+        Map<String, Object> runtimeParameters = new HashMap<>(this.runtimeParameters);
+        runtimeParameters.put(MAX_CHUNK_LIMIT_FIELD, 2);
+        // limit is reached after 11 tokens, the rest of 24 tokens are not counted
+        runtimeParameters.put(MAX_TOKEN_COUNT_FIELD, 15);
+        String content =
+            "This is an example document to be chunked. The document contains a single paragraph, two sentences and 24 tokens by standard tokenizer in OpenSearch.";
+        List<String> passages = fixedTokenLengthChunker.chunk(content, runtimeParameters);
+        List<String> expectedPassages = List.of(
+            "This is an example document to be chunked. The document ",
+            "contains a single paragraph, two sentences and 24 tokens by standard tokenizer in OpenSearch."
+        );
+        assertEquals(expectedPassages, passages);
+    }
 }
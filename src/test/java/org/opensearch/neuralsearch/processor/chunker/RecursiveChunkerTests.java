@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.chunker;
+
+import lombok.SneakyThrows;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.env.Environment;
+import org.opensearch.env.TestEnvironment;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.indices.analysis.AnalysisModule;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import static java.util.Collections.emptyList;
+import static org.opensearch.neuralsearch.processor.chunker.Chunker.MAX_CHUNK_LIMIT_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.Chunker.CHUNK_STRING_COUNT_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker.ANALYSIS_REGISTRY_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker.MAX_TOKEN_COUNT_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker.TOKENIZER_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker.TOKEN_LIMIT_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.RecursiveChunker.ALGORITHM_NAME;
+import static org.opensearch.neuralsearch.processor.chunker.RecursiveChunker.DELIMITERS_FIELD;
+
+public class RecursiveChunkerTests extends OpenSearchTestCase {
+
+    private final Map<String, Object> runtimeParameters = Map.of(
+        MAX_CHUNK_LIMIT_FIELD,
+        100,
+        CHUNK_STRING_COUNT_FIELD,
+        1,
+        MAX_TOKEN_COUNT_FIELD,
+        10000
+    );
+
+    @SneakyThrows
+    private RecursiveChunker createRecursiveChunker(Map<String, Object> parameters) {
+        Map<String, Object> nonRuntimeParameters = new HashMap<>(parameters);
+        Settings settings = Settings.builder().put(Environment.PATH_HOME_SETTING.getKey(), createTempDir().toString()).build();
+        Environment environment = TestEnvironment.newEnvironment(settings);
+        AnalysisRegistry analysisRegistry = new AnalysisModule(environment, emptyList()).getAnalysisRegistry();
+        nonRuntimeParameters.put(ANALYSIS_REGISTRY_FIELD, analysisRegistry);
+        return new RecursiveChunker(nonRuntimeParameters);
+    }
+
+    public void testParseParameters_whenNoParams_thenSuccessful() {
+        RecursiveChunker recursiveChunker = createRecursiveChunker(Map.of());
+        recursiveChunker.parseParameters(Map.of());
+    }
+
+    public void testParseParameters_whenIllegalDelimitersType_thenFail() {
+        IllegalArgumentException illegalArgumentException = assertThrows(
+            IllegalArgumentException.class,
+            () -> createRecursiveChunker(Map.of(DELIMITERS_FIELD, "\n"))
+        );
+        assertEquals(
+            String.format(Locale.ROOT, "Parameter [%s] must be of %s type", DELIMITERS_FIELD, List.class.getName()),
+            illegalArgumentException.getMessage()
+        );
+    }
+
+    public void testParseParameters_whenUnsupportedTokenizer_thenFail() {
+        String ngramTokenizer = "ngram";
+        IllegalArgumentException illegalArgumentException = assertThrows(
+            IllegalArgumentException.class,
+            () -> createRecursiveChunker(Map.of(TOKENIZER_FIELD, ngramTokenizer))
+        );
+        assert (illegalArgumentException.getMessage()
+            .contains(String.format(Locale.ROOT, "Tokenizer [%s] is not supported for [%s] algorithm.", ngramTokenizer, ALGORITHM_NAME)));
+    }
+
+    public void testChunk_withEmptyInput_thenSucceed() {
+        RecursiveChunker recursiveChunker = createRecursiveChunker(Map.of(TOKEN_LIMIT_FIELD, 3));
+        assertEquals(List.of(), recursiveChunker.chunk("", runtimeParameters));
+    }
+
+    public void testChunk_whenContentWithinTokenLimit_thenSinglePassage() {
+        RecursiveChunker recursiveChunker = createRecursiveChunker(Map.of(TOKEN_LIMIT_FIELD, 10));
+        String content = "a b c.\n\nd e f.";
+        assertEquals(List.of(content), recursiveChunker.chunk(content, runtimeParameters));
+    }
+
+    public void testChunk_whenParagraphsWithinTokenLimit_thenSplitOnParagraphs() {
+        RecursiveChunker recursiveChunker = createRecursiveChunker(Map.of(TOKEN_LIMIT_FIELD, 3));
+        String content = "a b c.\n\nd e f.\n\ng h i.";
+        List<String> passages = recursiveChunker.chunk(content, runtimeParameters);
+        assertEquals(List.of("a b c.\n\n", "d e f.\n\n", "g h i."), passages);
+    }
+
+    public void testChunk_whenSentencesMerged_thenPassagesHaveBalancedSize() {
+        RecursiveChunker recursiveChunker = createRecursiveChunker(Map.of(TOKEN_LIMIT_FIELD, 12));
+        String content = "a b c. d e f. g h i. j k l. m n o.";
+        List<String> passages = recursiveChunker.chunk(content, runtimeParameters);
+        // greedy merge up to the limit would produce passages of 12 and 3 tokens
+        assertEquals(List.of("a b c. d e f. g h i. ", "j k l. m n o."), passages);
+    }
+
+    public void testChunk_whenNoDelimiterLeft_thenSplitByTokenLimit() {
+        RecursiveChunker recursiveChunker = createRecursiveChunker(Map.of(TOKEN_LIMIT_FIELD, 3, DELIMITERS_FIELD, List.of("\n\n")));
+        String content = "a b c d e f g";
+        List<String> passages = recursiveChunker.chunk(content, runtimeParameters);
+        assertEquals(List.of("a b c ", "d e f ", "g"), passages);
+    }
+
+    public void testChunk_whenManyLargePiecesWithoutLowerLevelDelimiter_thenSplitByTokenLimit() {
+        RecursiveChunker recursiveChunker = createRecursiveChunker(Map.of(TOKEN_LIMIT_FIELD, 10, DELIMITERS_FIELD, List.of("\n\n", ". ")));
+        Map<String, Object> runtimeParameters = new HashMap<>(this.runtimeParameters);
+        runtimeParameters.put(MAX_CHUNK_LIMIT_FIELD, Chunker.DISABLED_MAX_CHUNK_LIMIT);
+        runtimeParameters.put(MAX_TOKEN_COUNT_FIELD, 1_000_000);
+        // every paragraph exceeds the token limit and sentence delimiter doesn't occur in the rest of the content, searching it
+        // till the end of the content for every paragraph would take time quadratic in the number of paragraphs
+        int paragraphCount = 20000;
+        String content = "word ".repeat(12).concat("\n\n").repeat(paragraphCount);
+
+        List<String> passages = recursiveChunker.chunk(content, runtimeParameters);
+
+        assertEquals(content, String.join("", passages));
+        assertEquals(2 * paragraphCount, passages.size());
+        for (String passage : passages) {
+            assertTrue(passage.trim().split("\\s+").length <= 10);
+        }
+    }
+
+    public void testChunk_whenExceedMaxChunkLimit_thenLastPassageGetConcatenated() {
+        RecursiveChunker recursiveChunker = createRecursiveChunker(Map.of(TOKEN_LIMIT_FIELD, 3));
+        Map<String, Object> runtimeParameters = new HashMap<>(this.runtimeParameters);
+        runtimeParameters.put(MAX_CHUNK_LIMIT_FIELD, 2);
+        String content = "a b c.\n\nd e f.\n\ng h i.";
+        List<String> passages = recursiveChunker.chunk(content, runtimeParameters);
+        assertEquals(List.of("a b c.\n\n", "d e f.\n\ng h i."), passages);
+    }
+
+    public void testChunk_whenExceedMaxTokenCount_thenFail() {
+        RecursiveChunker recursiveChunker = createRecursiveChunker(Map.of(TOKEN_LIMIT_FIELD, 3));
+        Map<String, Object> runtimeParameters = new HashMap<>(this.runtimeParameters);
+        runtimeParameters.put(MAX_TOKEN_COUNT_FIELD, 5);
+        IllegalStateException illegalStateException = assertThrows(
+            IllegalStateException.class,
+            () -> recursiveChunker.chunk("a b c.\n\nd e f.", runtimeParameters)
+        );
+        assert (illegalStateException.getMessage()
+            .contains("The number of tokens produced by calling _analyze has exceeded the allowed maximum of [5]."));
+    }
+}
@@ -58,6 +58,14 @@ public class ArithmeticMeanScoreCombinationTechniqueTests extends BaseScoreCombi
         testRandomValues_whenNotAllScoresAndWeightsPresent_thenCorrectScores(technique, weights);
     }
 
+    public void testBatchCombine_whenRandomScoresAndWeights_thenSameScoresAsSingleDocumentCombine() {
+        ScoreCombinationTechnique technique = new ArithmeticMeanScoreCombinationTechnique(
+            Map.of(PARAM_NAME_WEIGHTS, List.of(0.4, 0.3, 0.3)),
+            scoreCombinationUtil
+        );
+        testBatchCombine_whenRandomScores_thenSameScoresAsSingleDocumentCombine(technique, 3);
+    }
+
     private float arithmeticMean(List<Float> scores, List<Double> weights) {
         assertEquals(scores.size(), weights.size());
         float sumOfWeightedScores = 0;
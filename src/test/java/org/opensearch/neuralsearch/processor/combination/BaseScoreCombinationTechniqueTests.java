@@ -89,6 +89,30 @@ public class BaseScoreCombinationTechniqueTests extends OpenSearchTestCase {
         assertEquals(expectedScore, actualScore, DELTA_FOR_ASSERTION);
     }
 
+    public void testBatchCombine_whenRandomScores_thenSameScoresAsSingleDocumentCombine(
+        final ScoreCombinationTechnique technique,
+        final int numberOfSubQueries
+    ) {
+        int numberOfDocs = RandomizedTest.randomIntBetween(1, RANDOM_SCORES_SIZE);
+        float[][] scoresPerSubQuery = new float[numberOfSubQueries][numberOfDocs];
+        for (int indexOfSubQuery = 0; indexOfSubQuery < numberOfSubQueries; indexOfSubQuery++) {
+            for (int indexOfDoc = 0; indexOfDoc < numberOfDocs; indexOfDoc++) {
+                // documents that are not returned by the sub-query have zero score
+                scoresPerSubQuery[indexOfSubQuery][indexOfDoc] = RandomizedTest.randomBoolean() ? 0.0f : RandomizedTest.randomFloat();
+            }
+        }
+        float[] combinedScores = new float[numberOfDocs];
+        technique.combine(scoresPerSubQuery, combinedScores);
+
+        float[] scores = new float[numberOfSubQueries];
+        for (int indexOfDoc = 0; indexOfDoc < numberOfDocs; indexOfDoc++) {
+            for (int indexOfSubQuery = 0; indexOfSubQuery < numberOfSubQueries; indexOfSubQuery++) {
+                scores[indexOfSubQuery] = scoresPerSubQuery[indexOfSubQuery][indexOfDoc];
+            }
+            assertEquals(technique.combine(scores), combinedScores[indexOfDoc], DELTA_FOR_ASSERTION);
+        }
+    }
+
     private float randomScore() {
         return RandomizedTest.randomBoolean() ? -1.0f : RandomizedTest.randomFloat();
     }
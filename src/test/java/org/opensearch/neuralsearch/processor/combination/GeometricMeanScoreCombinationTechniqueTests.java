@@ -73,6 +73,14 @@ public class GeometricMeanScoreCombinationTechniqueTests extends BaseScoreCombin
      * Verify score correctness by using alternative formula for geometric mean as n-th root of product of weighted scores,
      * more details in here https://en.wikipedia.org/wiki/Weighted_geometric_mean
      */
+    public void testBatchCombine_whenRandomScoresAndWeights_thenSameScoresAsSingleDocumentCombine() {
+        ScoreCombinationTechnique technique = new GeometricMeanScoreCombinationTechnique(
+            Map.of(PARAM_NAME_WEIGHTS, List.of(0.4, 0.3, 0.3)),
+            scoreCombinationUtil
+        );
+        testBatchCombine_whenRandomScores_thenSameScoresAsSingleDocumentCombine(technique, 3);
+    }
+
     private float geometricMean(List<Float> scores, List<Double> weights) {
         float product = 1.0f;
         float sumOfWeights = 0.0f;
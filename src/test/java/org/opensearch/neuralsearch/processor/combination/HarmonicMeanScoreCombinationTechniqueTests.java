@@ -60,6 +60,14 @@ public class HarmonicMeanScoreCombinationTechniqueTests extends BaseScoreCombina
         testRandomValues_whenNotAllScoresAndWeightsPresent_thenCorrectScores(technique, weights);
     }
 
+    public void testBatchCombine_whenRandomScoresAndWeights_thenSameScoresAsSingleDocumentCombine() {
+        ScoreCombinationTechnique technique = new HarmonicMeanScoreCombinationTechnique(
+            Map.of(PARAM_NAME_WEIGHTS, List.of(0.4, 0.3, 0.3)),
+            scoreCombinationUtil
+        );
+        testBatchCombine_whenRandomScores_thenSameScoresAsSingleDocumentCombine(technique, 3);
+    }
+
     private float harmonicMean(List<Float> scores, List<Double> weights) {
         assertEquals(scores.size(), weights.size());
         float w = 0, h = 0;
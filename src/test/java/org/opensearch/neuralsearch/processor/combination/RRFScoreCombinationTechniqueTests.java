@@ -5,6 +5,9 @@
 package org.opensearch.neuralsearch.processor.combination;
 
 import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.neuralsearch.processor.combination.ScoreCombinationUtil.PARAM_NAME_WEIGHTS;
 
 public class RRFScoreCombinationTechniqueTests extends BaseScoreCombinationTechniqueTests {
 
@@ -13,16 +16,16 @@ public class RRFScoreCombinationTechniqueTests extends BaseScoreCombinationTechn
 
     public RRFScoreCombinationTechniqueTests() {
         this.expectedScoreFunction = (scores, weights) -> RRF(scores, weights);
-        combinationTechnique = new RRFScoreCombinationTechnique();
+        combinationTechnique = new RRFScoreCombinationTechnique(Map.of(), new ScoreCombinationUtil());
     }
 
     public void testLogic_whenAllScoresPresentAndNoWeights_thenCorrectScores() {
-        ScoreCombinationTechnique technique = new RRFScoreCombinationTechnique();
+        ScoreCombinationTechnique technique = new RRFScoreCombinationTechnique(Map.of(), new ScoreCombinationUtil());
         testLogic_whenAllScoresPresentAndNoWeights_thenCorrectScores(technique);
     }
 
     public void testLogic_whenNotAllScoresPresentAndNoWeights_thenCorrectScores() {
-        ScoreCombinationTechnique technique = new RRFScoreCombinationTechnique();
+        ScoreCombinationTechnique technique = new RRFScoreCombinationTechnique(Map.of(), new ScoreCombinationUtil());
         testLogic_whenNotAllScoresPresentAndNoWeights_thenCorrectScores(technique);
     }
 
@@ -61,6 +64,52 @@ public class RRFScoreCombinationTechniqueTests extends BaseScoreCombinationTechn
         assertEquals("scores array cannot be null", exception.getMessage());
     }
 
+    public void testCombine_whenWeightsProvided_thenWeightedSumOfScores() {
+        RRFScoreCombinationTechnique technique = new RRFScoreCombinationTechnique(
+            Map.of(PARAM_NAME_WEIGHTS, List.of(0.7, 0.3)),
+            new ScoreCombinationUtil()
+        );
+        float[] scores = new float[] { 1.0f / 61, 1.0f / 62 };
+        float result = technique.combine(scores);
+        assertEquals(0.7f / 61 + 0.3f / 62, result, 0.00001f);
+    }
+
+    public void testCombine_whenWeightsDoNotMatchScores_thenFail() {
+        RRFScoreCombinationTechnique technique = new RRFScoreCombinationTechnique(
+            Map.of(PARAM_NAME_WEIGHTS, List.of(0.7, 0.3)),
+            new ScoreCombinationUtil()
+        );
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> technique.combine(new float[] { 0.5f, 0.4f, 0.3f })
+        );
+        assertEquals("number of weights [2] must match number of sub-queries [3] in hybrid query", exception.getMessage());
+    }
+
+    public void testDescribe_whenWeightsProvided_thenWeightsIncluded() {
+        RRFScoreCombinationTechnique technique = new RRFScoreCombinationTechnique(
+            Map.of(PARAM_NAME_WEIGHTS, List.of(0.7, 0.3)),
+            new ScoreCombinationUtil()
+        );
+        assertEquals("rrf, weights [0.7, 0.3]", technique.describe());
+    }
+
+    public void testCreate_whenUnsupportedParam_thenFail() {
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> new RRFScoreCombinationTechnique(Map.of("rank_constant", 60), new ScoreCombinationUtil())
+        );
+        assertTrue(exception.getMessage().contains("provided parameter for combination technique is not supported"));
+    }
+
+    public void testBatchCombine_whenRandomScoresAndWeights_thenSameScoresAsSingleDocumentCombine() {
+        ScoreCombinationTechnique technique = new RRFScoreCombinationTechnique(
+            Map.of(PARAM_NAME_WEIGHTS, List.of(0.4, 0.3, 0.3)),
+            new ScoreCombinationUtil()
+        );
+        testBatchCombine_whenRandomScores_thenSameScoresAsSingleDocumentCombine(technique, 3);
+    }
+
     private float RRF(List<Float> scores, List<Double> weights) {
         float sumScores = 0.0f;
         for (float score : scores) {
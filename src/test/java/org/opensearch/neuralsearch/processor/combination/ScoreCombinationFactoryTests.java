@@ -53,4 +53,32 @@ public class ScoreCombinationFactoryTests extends OpenSearchQueryTestCase {
             containsString("provided combination technique is not supported")
         );
     }
+
+    public void testCustomTechnique_whenRegistered_thenReturnCorrectInstance() {
+        ScoreCombinationFactory scoreCombinationFactory = new ScoreCombinationFactory();
+        scoreCombinationFactory.registerCombinationTechnique("max", params -> scores -> {
+            float maxScore = 0.0f;
+            for (float score : scores) {
+                maxScore = Math.max(maxScore, score);
+            }
+            return maxScore;
+        });
+        ScoreCombinationTechnique scoreCombinationTechnique = scoreCombinationFactory.createCombination("max");
+
+        assertNotNull(scoreCombinationTechnique);
+        assertEquals(0.8f, scoreCombinationTechnique.combine(new float[] { 0.3f, 0.8f }), 0.0f);
+        // custom technique without batch implementation combines every document separately
+        float[] combinedScores = new float[2];
+        scoreCombinationTechnique.combine(new float[][] { { 0.3f, 0.5f }, { 0.8f, 0.1f } }, combinedScores);
+        assertArrayEquals(new float[] { 0.8f, 0.5f }, combinedScores, 0.0f);
+    }
+
+    public void testCustomTechnique_whenNameOfBuiltInTechnique_thenFail() {
+        ScoreCombinationFactory scoreCombinationFactory = new ScoreCombinationFactory();
+        IllegalArgumentException illegalArgumentException = expectThrows(
+            IllegalArgumentException.class,
+            () -> scoreCombinationFactory.registerCombinationTechnique("rrf", params -> scores -> 0.0f)
+        );
+        assertEquals("combination technique [rrf] is already registered", illegalArgumentException.getMessage());
+    }
 }
@@ -17,6 +17,7 @@ import org.opensearch.search.pipeline.SearchPhaseResultsProcessor;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.Mockito.mock;
@@ -77,6 +78,65 @@ public class RRFProcessorFactoryTests extends OpenSearchTestCase {
         assertRRFProcessor(searchPhaseResultsProcessor);
     }
 
+    @SneakyThrows
+    public void testCombinationParams_whenWeightsRankConstantAndRankScope_thenSuccessful() {
+        RRFProcessorFactory rrfProcessorFactory = new RRFProcessorFactory(
+            new NormalizationProcessorWorkflow(new ScoreNormalizer(), new ScoreCombiner()),
+            new ScoreNormalizationFactory(),
+            new ScoreCombinationFactory()
+        );
+        final Map<String, Processor.Factory<SearchPhaseResultsProcessor>> processorFactories = new HashMap<>();
+        String tag = "tag";
+        String description = "description";
+        boolean ignoreFailure = false;
+        Map<String, Object> config = new HashMap<>();
+        config.put(
+            COMBINATION_CLAUSE,
+            new HashMap<>(
+                Map.of(
+                    TECHNIQUE,
+                    "rrf",
+                    PARAMETERS,
+                    new HashMap<>(Map.of("rank_constant", 100, "rank_scope", "global", "weights", List.of(0.7, 0.3)))
+                )
+            )
+        );
+        Processor.PipelineContext pipelineContext = mock(Processor.PipelineContext.class);
+        SearchPhaseResultsProcessor searchPhaseResultsProcessor = rrfProcessorFactory.create(
+            processorFactories,
+            tag,
+            description,
+            ignoreFailure,
+            config,
+            pipelineContext
+        );
+        assertRRFProcessor(searchPhaseResultsProcessor);
+    }
+
+    @SneakyThrows
+    public void testInvalidCombinationParams_whenWeightsDoNotSumToOne_thenFail() {
+        RRFProcessorFactory rrfProcessorFactory = new RRFProcessorFactory(
+            new NormalizationProcessorWorkflow(new ScoreNormalizer(), new ScoreCombiner()),
+            new ScoreNormalizationFactory(),
+            new ScoreCombinationFactory()
+        );
+        final Map<String, Processor.Factory<SearchPhaseResultsProcessor>> processorFactories = new HashMap<>();
+        String tag = "tag";
+        String description = "description";
+        boolean ignoreFailure = false;
+        Map<String, Object> config = new HashMap<>();
+        config.put(
+            COMBINATION_CLAUSE,
+            new HashMap<>(Map.of(TECHNIQUE, "rrf", PARAMETERS, new HashMap<>(Map.of("weights", List.of(0.7, 0.7)))))
+        );
+        Processor.PipelineContext pipelineContext = mock(Processor.PipelineContext.class);
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> rrfProcessorFactory.create(processorFactories, tag, description, ignoreFailure, config, pipelineContext)
+        );
+        assertTrue(exception.getMessage().contains("sum of weights for combination must be equal to 1.0"));
+    }
+
     @SneakyThrows
     public void testInvalidCombinationParams_whenRankIsNegative_thenFail() {
         RRFProcessorFactory rrfProcessorFactory = new RRFProcessorFactory(
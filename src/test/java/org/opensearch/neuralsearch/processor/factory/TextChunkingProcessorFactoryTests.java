@@ -70,7 +70,7 @@ public class TextChunkingProcessorFactoryTests extends OpenSearchTestCase {
         Map<String, Object> config = new HashMap<>();
         config.put(ALGORITHM_FIELD, algorithmMap);
         config.put(FIELD_MAP_FIELD, new HashMap<>());
-        TextChunkingProcessor textChunkingProcessor = textChunkingProcessorFactory.create(
+        TextChunkingProcessor textChunkingProcessor = (TextChunkingProcessor) textChunkingProcessorFactory.create(
             processorFactories,
             PROCESSOR_TAG,
             DESCRIPTION,
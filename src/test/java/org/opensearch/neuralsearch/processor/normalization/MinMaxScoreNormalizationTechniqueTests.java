@@ -269,6 +269,48 @@ public class MinMaxScoreNormalizationTechniqueTests extends OpenSearchQueryTestC
         assertEquals(1.0f, topDocs3.scoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION); // doc1 in third subquery
     }
 
+    public void testNormalization_whenScoreStatsCollectedUpfront_thenStatsAreReused() {
+        MinMaxScoreNormalizationTechnique normalizationTechnique = new MinMaxScoreNormalizationTechnique();
+        List<CompoundTopDocs> compoundTopDocs = List.of(
+            new CompoundTopDocs(
+                new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(
+                        new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(2, 0.5f), new ScoreDoc(4, 0.2f) }
+                    )
+                ),
+                false,
+                SEARCH_SHARD
+            )
+        );
+        // statistics include scores from another shard that are lower and higher than scores of this shard
+        SubQueryScoreStats scoreStats = SubQueryScoreStats.fromQueryResults(compoundTopDocs);
+        scoreStats.collect(
+            new CompoundTopDocs(
+                new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(
+                        new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(1, 1.0f), new ScoreDoc(3, 0.0f) }
+                    )
+                ),
+                false,
+                new SearchShard("my_index", 1, "12345678")
+            )
+        );
+        NormalizeScoresDTO normalizeScoresDTO = NormalizeScoresDTO.builder()
+            .queryTopDocs(compoundTopDocs)
+            .normalizationTechnique(normalizationTechnique)
+            .scoreStats(scoreStats)
+            .build();
+        normalizationTechnique.normalize(normalizeScoresDTO);
+
+        ScoreDoc[] normalizedScoreDocs = compoundTopDocs.get(0).getTopDocs().get(0).scoreDocs;
+        assertEquals(0.5f, normalizedScoreDocs[0].score, DELTA_FOR_ASSERTION);
+        assertEquals(0.2f, normalizedScoreDocs[1].score, DELTA_FOR_ASSERTION);
+    }
+
     private void assertCompoundTopDocs(TopDocs expected, TopDocs actual) {
         assertEquals(expected.totalHits.value(), actual.totalHits.value());
         assertEquals(expected.totalHits.relation(), actual.totalHits.relation());
@@ -41,6 +41,101 @@ public class RRFNormalizationTechniqueTests extends OpenSearchQueryTestCase {
         // verify when parameter values are set
         normalizationTechnique = new RRFNormalizationTechnique(Map.of("rank_constant", 25), scoreNormalizationUtil);
         assertEquals("rrf, rank_constant [25]", normalizationTechnique.describe());
+
+        normalizationTechnique = new RRFNormalizationTechnique(Map.of("rank_scope", "global"), scoreNormalizationUtil);
+        assertEquals("rrf, rank_constant [60], rank_scope [global]", normalizationTechnique.describe());
+    }
+
+    public void testCreate_whenInvalidRankScope_thenFail() {
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> new RRFNormalizationTechnique(Map.of("rank_scope", "index"), scoreNormalizationUtil)
+        );
+        assertEquals("rank scope must be one of [shard, global], submitted rank scope: index", exception.getMessage());
+    }
+
+    public void testNormalization_whenGlobalRankScopeAndMultipleShards_thenRanksAcrossShards() {
+        RRFNormalizationTechnique normalizationTechnique = new RRFNormalizationTechnique(
+            Map.of("rank_scope", "global"),
+            scoreNormalizationUtil
+        );
+        SearchShard secondSearchShard = new SearchShard("my_index", 1, "12345678");
+        List<CompoundTopDocs> compoundTopDocs = List.of(
+            new CompoundTopDocs(
+                new TotalHits(3, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(
+                        new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(2, 0.9f), new ScoreDoc(4, 0.5f) }
+                    ),
+                    new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(3, 0.7f) })
+                ),
+                false,
+                SEARCH_SHARD
+            ),
+            new CompoundTopDocs(
+                new TotalHits(4, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(
+                        new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(5, 0.8f), new ScoreDoc(7, 0.6f) }
+                    ),
+                    new TopDocs(
+                        new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(6, 0.9f), new ScoreDoc(8, 0.2f) }
+                    )
+                ),
+                false,
+                secondSearchShard
+            )
+        );
+        NormalizeScoresDTO normalizeScoresDTO = NormalizeScoresDTO.builder()
+            .queryTopDocs(compoundTopDocs)
+            .normalizationTechnique(normalizationTechnique)
+            .build();
+        normalizationTechnique.normalize(normalizeScoresDTO);
+
+        // global top of each sub-query has as many documents as a single shard returns, other documents get zero score
+        CompoundTopDocs expectedFirstShardDocs = new CompoundTopDocs(
+            new TotalHits(3, TotalHits.Relation.EQUAL_TO),
+            List.of(
+                new TopDocs(
+                    new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                    new ScoreDoc[] { new ScoreDoc(2, rrfNorm(0)), new ScoreDoc(4, 0.0f) }
+                ),
+                new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(3, rrfNorm(1)) })
+            ),
+            false,
+            SEARCH_SHARD
+        );
+        CompoundTopDocs expectedSecondShardDocs = new CompoundTopDocs(
+            new TotalHits(4, TotalHits.Relation.EQUAL_TO),
+            List.of(
+                new TopDocs(
+                    new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                    new ScoreDoc[] { new ScoreDoc(5, rrfNorm(1)), new ScoreDoc(7, 0.0f) }
+                ),
+                new TopDocs(
+                    new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                    new ScoreDoc[] { new ScoreDoc(6, rrfNorm(0)), new ScoreDoc(8, 0.0f) }
+                )
+            ),
+            false,
+            secondSearchShard
+        );
+        List<CompoundTopDocs> expectedCompoundTopDocs = List.of(expectedFirstShardDocs, expectedSecondShardDocs);
+        for (int shard = 0; shard < expectedCompoundTopDocs.size(); shard++) {
+            List<TopDocs> expectedTopDocs = expectedCompoundTopDocs.get(shard).getTopDocs();
+            List<TopDocs> actualTopDocs = compoundTopDocs.get(shard).getTopDocs();
+            for (int subQuery = 0; subQuery < expectedTopDocs.size(); subQuery++) {
+                assertCompoundTopDocs(expectedTopDocs.get(subQuery), actualTopDocs.get(subQuery));
+            }
+        }
+
+        // explanation is based on the same global ranks
+        Map<DocIdAtSearchShard, ExplanationDetails> explanation = normalizationTechnique.explain(compoundTopDocs);
+        assertEquals(7, explanation.size());
+        assertTrue(explanation.containsKey(new DocIdAtSearchShard(5, secondSearchShard)));
     }
 
     public void testNormalization_whenResultFromOneShardOneSubQuery_thenSuccessful() {
@@ -346,6 +441,27 @@ public class RRFNormalizationTechniqueTests extends OpenSearchQueryTestCase {
         assertTrue(explanation.containsKey(new DocIdAtSearchShard(0, new SearchShard("test_index", 0, "uuid"))));
     }
 
+    public void testNormalization_whenMoreResultsThanPrecomputedRanks_thenAllRanksNormalized() {
+        RRFNormalizationTechnique normalizationTechnique = new RRFNormalizationTechnique(Map.of(), scoreNormalizationUtil);
+        int numberOfResults = 3000;
+        float[] scores = new float[numberOfResults];
+        for (int i = 0; i < numberOfResults; i++) {
+            scores[i] = numberOfResults - i;
+        }
+        CompoundTopDocs compoundTopDocs = createCompoundTopDocs(scores, numberOfResults);
+        NormalizeScoresDTO normalizeScoresDTO = NormalizeScoresDTO.builder()
+            .queryTopDocs(List.of(compoundTopDocs))
+            .normalizationTechnique(normalizationTechnique)
+            .build();
+        normalizationTechnique.normalize(normalizeScoresDTO);
+
+        ScoreDoc[] scoreDocs = compoundTopDocs.getTopDocs().get(0).scoreDocs;
+        for (int rank = 0; rank < numberOfResults; rank++) {
+            assertEquals(rank, scoreDocs[rank].doc);
+            assertEquals(rrfNorm(rank), scoreDocs[rank].score, DELTA_FOR_ASSERTION);
+        }
+    }
+
     private float rrfNorm(int rank) {
         // 1.0f / (float) (rank + RANK_CONSTANT + 1);
         return BigDecimal.ONE.divide(BigDecimal.valueOf(rank + RANK_CONSTANT + 1), 10, RoundingMode.HALF_UP).floatValue();
@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.processor.SearchShard;
+import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
+
+public class SubQueryScoreStatsTests extends OpenSearchQueryTestCase {
+    private static final float DELTA_FOR_ASSERTION = 0.0001f;
+
+    public void testFromQueryResults_whenMultipleSubQueries_thenStatsPerSubQuery() {
+        CompoundTopDocs compoundTopDocs = new CompoundTopDocs(
+            new TotalHits(3, TotalHits.Relation.EQUAL_TO),
+            List.of(
+                new TopDocs(new TotalHits(2, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(2, 0.5f), new ScoreDoc(4, 0.2f) }),
+                new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]),
+                new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(3, 0.9f) })
+            ),
+            false,
+            new SearchShard("my_index", 0, "12345678")
+        );
+
+        SubQueryScoreStats stats = SubQueryScoreStats.fromQueryResults(List.of(compoundTopDocs));
+
+        assertEquals(3, stats.getNumOfSubQueries());
+        assertEquals(0.2f, stats.getMinScores()[0], DELTA_FOR_ASSERTION);
+        assertEquals(0.5f, stats.getMaxScores()[0], DELTA_FOR_ASSERTION);
+        assertEquals((float) Math.sqrt(0.5f * 0.5f + 0.2f * 0.2f), stats.getL2Norm(0), DELTA_FOR_ASSERTION);
+        assertEquals(Float.MAX_VALUE, stats.getMinScores()[1], DELTA_FOR_ASSERTION);
+        assertEquals(Float.MIN_VALUE, stats.getMaxScores()[1], DELTA_FOR_ASSERTION);
+        assertEquals(0.0f, stats.getL2Norm(1), DELTA_FOR_ASSERTION);
+        assertEquals(0.9f, stats.getMinScores()[2], DELTA_FOR_ASSERTION);
+        assertEquals(0.9f, stats.getMaxScores()[2], DELTA_FOR_ASSERTION);
+    }
+
+    public void testFromQueryResults_whenMultipleShards_thenMergedStatsSameAsForAllScores() {
+        List<CompoundTopDocs> queryTopDocs = Arrays.asList(
+            new CompoundTopDocs(
+                new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(2, 0.5f) }),
+                    new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(4, 3.0f) })
+                ),
+                false,
+                new SearchShard("my_index", 0, "12345678")
+            ),
+            null,
+            new CompoundTopDocs(
+                new TotalHits(0, TotalHits.Relation.EQUAL_TO),
+                List.of(),
+                false,
+                new SearchShard("my_index", 1, "12345678")
+            ),
+            new CompoundTopDocs(
+                new TotalHits(3, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(
+                        new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(1, 0.9f), new ScoreDoc(7, 0.1f) }
+                    ),
+                    new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(5, 4.0f) })
+                ),
+                false,
+                new SearchShard("my_index", 2, "12345678")
+            )
+        );
+
+        SubQueryScoreStats stats = SubQueryScoreStats.fromQueryResults(queryTopDocs);
+
+        assertEquals(2, stats.getNumOfSubQueries());
+        assertEquals(0.1f, stats.getMinScores()[0], DELTA_FOR_ASSERTION);
+        assertEquals(0.9f, stats.getMaxScores()[0], DELTA_FOR_ASSERTION);
+        assertEquals((float) Math.sqrt(0.25f + 0.81f + 0.01f), stats.getL2Norm(0), DELTA_FOR_ASSERTION);
+        assertEquals(3.0f, stats.getMinScores()[1], DELTA_FOR_ASSERTION);
+        assertEquals(4.0f, stats.getMaxScores()[1], DELTA_FOR_ASSERTION);
+        assertEquals(5.0f, stats.getL2Norm(1), DELTA_FOR_ASSERTION);
+    }
+
+    public void testFromQueryResults_whenNoResults_thenEmptyStats() {
+        SubQueryScoreStats stats = SubQueryScoreStats.fromQueryResults(
+            List.of(
+                new CompoundTopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), List.of(), false, new SearchShard("my_index", 0, "1"))
+            )
+        );
+        assertEquals(0, stats.getNumOfSubQueries());
+    }
+
+    public void testCollect_whenShardsConsumedOneByOne_thenSameStatsAsForAllResults() {
+        List<CompoundTopDocs> queryTopDocs = List.of(
+            new CompoundTopDocs(
+                new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                List.of(new TopDocs(new TotalHits(2, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(2, 0.5f) })),
+                false,
+                new SearchShard("my_index", 0, "12345678")
+            ),
+            new CompoundTopDocs(
+                new TotalHits(1, TotalHits.Relation.EQUAL_TO),
+                List.of(new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(1, 0.7f) })),
+                false,
+                new SearchShard("my_index", 1, "12345678")
+            )
+        );
+        SubQueryScoreStats incrementalStats = new SubQueryScoreStats(0);
+        queryTopDocs.forEach(incrementalStats::collect);
+
+        SubQueryScoreStats stats = SubQueryScoreStats.fromQueryResults(queryTopDocs);
+
+        assertArrayEquals(stats.getMinScores(), incrementalStats.getMinScores(), DELTA_FOR_ASSERTION);
+        assertArrayEquals(stats.getMaxScores(), incrementalStats.getMaxScores(), DELTA_FOR_ASSERTION);
+        assertArrayEquals(stats.getSumOfSquares(), incrementalStats.getSumOfSquares(), DELTA_FOR_ASSERTION);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.rerank.context;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.search.TotalHits;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchResponseSections;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class DocumentContextSourceFetcherTests extends OpenSearchTestCase {
+
+    public void testFetchContext_whenContextFieldsInSource_thenOnlyContextFieldsRead() {
+        SearchHit hit = new SearchHit(0, "0", Map.of(), Map.of());
+        hit.sourceRef(
+            new BytesArray(
+                "{\"body\":{\"text\":\"long body\",\"passages\":[\"a\",\"b\"]},\"title\":\"dolphins\","
+                    + "\"metadata\":{\"author\":\"someone\",\"year\":2020},\"tags\":[\"sea\",\"mammal\"]}"
+            )
+        );
+        DocumentContextSourceFetcher fetcher = new DocumentContextSourceFetcher(List.of("title", "metadata.author", "tags"));
+
+        // only top level source fields are used as context, nested field path is not found as before
+        assertEquals(List.of("dolphins[sea, mammal]"), fetchContexts(fetcher, hit));
+    }
+
+    public void testFetchContext_whenContextFieldsInHitFields_thenHitFieldsUsed() {
+        DocumentField field = new DocumentField("title", List.of("field title"));
+        SearchHit hit = new SearchHit(0, "0", Map.of("title", field), Map.of());
+        hit.sourceRef(new BytesArray("{\"title\":\"source title\",\"year\":2020,\"draft\":null}"));
+        DocumentContextSourceFetcher fetcher = new DocumentContextSourceFetcher(List.of("title", "year", "draft", "missing"));
+
+        assertEquals(List.of("field title2020null"), fetchContexts(fetcher, hit));
+    }
+
+    public void testFetchContext_whenSourceIsMalformed_thenFail() {
+        SearchHit hit = new SearchHit(0, "0", Map.of(), Map.of());
+        hit.sourceRef(new BytesArray("{\"title\":"));
+        DocumentContextSourceFetcher fetcher = new DocumentContextSourceFetcher(List.of("title"));
+        @SuppressWarnings("unchecked")
+        ActionListener<Map<String, Object>> listener = mock(ActionListener.class);
+
+        fetcher.fetchContext(null, createSearchResponse(hit), listener);
+
+        verify(listener).onFailure(any());
+        verify(listener, never()).onResponse(any());
+    }
+
+    private List<?> fetchContexts(final DocumentContextSourceFetcher fetcher, final SearchHit hit) {
+        @SuppressWarnings("unchecked")
+        ActionListener<Map<String, Object>> listener = mock(ActionListener.class);
+        fetcher.fetchContext(null, createSearchResponse(hit), listener);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> argCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(listener).onResponse(argCaptor.capture());
+        return (List<?>) argCaptor.getValue().get(DocumentContextSourceFetcher.DOCUMENT_CONTEXT_LIST_FIELD);
+    }
+
+    private SearchResponse createSearchResponse(final SearchHit hit) {
+        SearchHits searchHits = new SearchHits(new SearchHit[] { hit }, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f);
+        SearchResponseSections internal = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+        return new SearchResponse(internal, null, 1, 1, 0, 1, new ShardSearchFailure[0], SearchResponse.Clusters.EMPTY, null);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.rerank.context;
+
+import java.util.Optional;
+
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.neuralsearch.query.HybridQueryBuilder;
+import org.opensearch.neuralsearch.query.NeuralQueryBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class QueryTextPathResolverTests extends OpenSearchTestCase {
+
+    public void testResolve_whenPathToNeuralQueryText_thenQueryTextReturned() {
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().query(createNeuralQueryBuilder());
+
+        assertEquals(
+            Optional.of("Question about dolphins"),
+            QueryTextPathResolver.resolve("query.neural.embedding.query_text", searchSourceBuilder)
+        );
+    }
+
+    public void testResolve_whenPathToQueryTextInCompoundQueries_thenQueryTextReturned() {
+        HybridQueryBuilder hybridQueryBuilder = new HybridQueryBuilder().add(createNeuralQueryBuilder())
+            .add(
+                QueryBuilders.boolQuery()
+                    .filter(QueryBuilders.termQuery("category", "mammals"))
+                    .should(QueryBuilders.matchQuery("title", "dolphins"))
+                    .should(QueryBuilders.matchPhraseQuery("title", "bottlenose dolphins"))
+            );
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().query(hybridQueryBuilder);
+
+        assertEquals(
+            Optional.of("Question about dolphins"),
+            QueryTextPathResolver.resolve("query.hybrid.queries.0.neural.embedding.query_text", searchSourceBuilder)
+        );
+        assertEquals(
+            Optional.of("mammals"),
+            QueryTextPathResolver.resolve("query.hybrid.queries.1.bool.filter.0.term.category.value", searchSourceBuilder)
+        );
+        assertEquals(
+            Optional.of("bottlenose dolphins"),
+            QueryTextPathResolver.resolve("query.hybrid.queries.1.bool.should.1.match_phrase.title.query", searchSourceBuilder)
+        );
+    }
+
+    public void testResolve_whenPathCannotBeResolved_thenEmptyReturned() {
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().query(
+            QueryBuilders.boolQuery().must(createNeuralQueryBuilder()).must(QueryBuilders.rangeQuery("year").gte(2000))
+        );
+
+        // path points to an object instead of the query text
+        assertTrue(QueryTextPathResolver.resolve("query.bool.must.0.neural.embedding", searchSourceBuilder).isEmpty());
+        // field name or query type don't match
+        assertTrue(QueryTextPathResolver.resolve("query.bool.must.0.neural.title.query_text", searchSourceBuilder).isEmpty());
+        assertTrue(QueryTextPathResolver.resolve("query.bool.must.0.match.embedding.query", searchSourceBuilder).isEmpty());
+        // clause index is out of range or not a number
+        assertTrue(QueryTextPathResolver.resolve("query.bool.must.2.neural.embedding.query_text", searchSourceBuilder).isEmpty());
+        assertTrue(QueryTextPathResolver.resolve("query.bool.must.first.neural.embedding.query_text", searchSourceBuilder).isEmpty());
+        // query type is not supported by the resolver
+        assertTrue(QueryTextPathResolver.resolve("query.bool.must.1.range.year.from", searchSourceBuilder).isEmpty());
+        // path doesn't point to the query
+        assertTrue(QueryTextPathResolver.resolve("size", searchSourceBuilder).isEmpty());
+        assertTrue(QueryTextPathResolver.resolve("query.neural.embedding.query_text", new SearchSourceBuilder()).isEmpty());
+    }
+
+    private NeuralQueryBuilder createNeuralQueryBuilder() {
+        return NeuralQueryBuilder.builder()
+            .fieldName("embedding")
+            .k(3)
+            .modelId("embedding_id")
+            .queryText("Question about dolphins")
+            .build();
+    }
+}
@@ -17,6 +17,7 @@ import static org.opensearch.neuralsearch.util.TestUtils.xContentBuilderToMap;
 import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.K_FIELD;
 import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.MODEL_ID_FIELD;
 import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.QUERY_TEXT_FIELD;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_MAX_SUB_QUERIES;
 
 import java.util.HashSet;
 import java.util.Iterator;
@@ -346,6 +347,57 @@ public class HybridQueryBuilderTests extends OpenSearchQueryTestCase {
         assertThat(exception.getMessage(), containsString("Number of sub-queries exceeds maximum supported"));
     }
 
+    @SneakyThrows
+    public void testFromXContent_whenMaxSubQueriesSettingUpdated_thenNewLimitApplied() {
+        ClusterService mockClusterService = mock(ClusterService.class);
+        ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, Set.of(HYBRID_QUERY_MAX_SUB_QUERIES));
+        when(mockClusterService.getSettings()).thenReturn(Settings.EMPTY);
+        when(mockClusterService.getClusterSettings()).thenReturn(clusterSettings);
+        setUpClusterService();
+        HybridQueryBuilder.initialize(mockClusterService);
+        try {
+            clusterSettings.applySettings(Settings.builder().put(HYBRID_QUERY_MAX_SUB_QUERIES.getKey(), 6).build());
+            assertEquals(6, HybridQueryBuilder.getMaxNumberOfSubQueries());
+
+            HybridQueryBuilder queryBuilder = HybridQueryBuilder.fromXContent(createHybridQueryParserWithTermQueries(6));
+            assertEquals(6, queryBuilder.queries().size());
+
+            ParsingException exception = expectThrows(
+                ParsingException.class,
+                () -> HybridQueryBuilder.fromXContent(createHybridQueryParserWithTermQueries(7))
+            );
+            assertThat(exception.getMessage(), containsString("Number of sub-queries exceeds maximum supported"));
+        } finally {
+            clusterSettings.applySettings(Settings.EMPTY);
+        }
+        assertEquals((int) HYBRID_QUERY_MAX_SUB_QUERIES.getDefault(Settings.EMPTY), HybridQueryBuilder.getMaxNumberOfSubQueries());
+    }
+
+    @SneakyThrows
+    private XContentParser createHybridQueryParserWithTermQueries(final int numberOfSubQueries) {
+        XContentBuilder xContentBuilder = XContentFactory.jsonBuilder().startObject().startArray("queries");
+        for (int i = 0; i < numberOfSubQueries; i++) {
+            xContentBuilder.startObject()
+                .startObject("term")
+                .field(TEXT_FIELD_NAME, RandomizedTest.randomAsciiAlphanumOfLength(10))
+                .endObject()
+                .endObject();
+        }
+        xContentBuilder.endArray().endObject();
+        NamedXContentRegistry namedXContentRegistry = new NamedXContentRegistry(
+            List.of(
+                new NamedXContentRegistry.Entry(QueryBuilder.class, new ParseField(TermQueryBuilder.NAME), TermQueryBuilder::fromXContent)
+            )
+        );
+        XContentParser contentParser = createParser(
+            namedXContentRegistry,
+            xContentBuilder.contentType().xContent(),
+            BytesReference.bytes(xContentBuilder)
+        );
+        contentParser.nextToken();
+        return contentParser;
+    }
+
     /**
      * Tests basic query:
      * {
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.neuralsearch.util.TestUtils.DELTA_FOR_SCORE_ASSERTION;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -589,6 +590,36 @@ public class HybridQueryScorerTests extends OpenSearchQueryTestCase {
         assertEquals("Cost should be 1", 1L, wrapper.cost);
     }
 
+    @SneakyThrows
+    public void testMatchedSubQueryScores_whenManySubQueries_thenSameScoresAsHybridScores() {
+        int numOfSubQueries = 12;
+        List<Scorer> subScorers = new ArrayList<>();
+        for (int i = 0; i < numOfSubQueries; i++) {
+            if (i == 3) {
+                // sub-query without scorer for the segment
+                subScorers.add(null);
+                continue;
+            }
+            Pair<int[], float[]> docsAndScores = generateDocuments(TestUtil.nextInt(random(), 10, 1_000));
+            subScorers.add(scorer(docsAndScores.getLeft(), docsAndScores.getRight(), fakeWeight(new MatchAllDocsQuery())));
+        }
+        HybridQueryScorer hybridQueryScorer = new HybridQueryScorer(mock(Weight.class), subScorers);
+        assertEquals(numOfSubQueries, hybridQueryScorer.getNumOfSubQueries());
+
+        int[] subQueryIndexes = new int[numOfSubQueries];
+        float[] scores = new float[numOfSubQueries];
+        for (int doc = hybridQueryScorer.iterator().nextDoc(); doc != NO_MORE_DOCS; doc = hybridQueryScorer.iterator().nextDoc()) {
+            float[] expectedScores = hybridQueryScorer.hybridScores();
+            int numOfMatches = hybridQueryScorer.matchedSubQueryScores(subQueryIndexes, scores);
+            assertTrue(numOfMatches > 0);
+            float[] actualScores = new float[numOfSubQueries];
+            for (int i = 0; i < numOfMatches; i++) {
+                actualScores[subQueryIndexes[i]] = scores[i];
+            }
+            assertArrayEquals(expectedScores, actualScores, DELTA_FOR_SCORE_ASSERTION);
+        }
+    }
+
     @SneakyThrows
     public void testHybridScores_withTwoPhaseIterator() throws IOException {
         // Create weight and scorers
@@ -9,6 +9,9 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 import static org.opensearch.index.query.AbstractQueryBuilder.BOOST_FIELD;
 import static org.opensearch.index.query.AbstractQueryBuilder.NAME_FIELD;
@@ -27,6 +30,7 @@ import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.QUERY_IMAGE_F
 import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.QUERY_TEXT_FIELD;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -59,9 +63,11 @@ import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
 import org.opensearch.neuralsearch.common.MinClusterVersionUtil;
 import org.opensearch.neuralsearch.common.VectorUtil;
+import org.opensearch.neuralsearch.ml.InferenceTimeoutException;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterTestUtils;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
+import org.opensearch.neuralsearch.util.quantization.EmbeddingDataType;
 import org.opensearch.test.OpenSearchTestCase;
 
 import lombok.SneakyThrows;
@@ -801,6 +807,185 @@ public class NeuralQueryBuilderTests extends OpenSearchTestCase {
         assertArrayEquals(VectorUtil.vectorAsListToArray(expectedVector), queryBuilder.vectorSupplier().get(), 0.0f);
     }
 
+    @SneakyThrows
+    public void testFromXContent_whenOnInferenceFailureSet_thenBuildSuccessfully() {
+        setUpClusterService(Version.CURRENT);
+        XContentBuilder xContentBuilder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject(FIELD_NAME)
+            .field(QUERY_TEXT_FIELD.getPreferredName(), QUERY_TEXT)
+            .field(MODEL_ID_FIELD.getPreferredName(), MODEL_ID)
+            .field(OnInferenceFailure.ON_INFERENCE_FAILURE_FIELD.getPreferredName(), "skip")
+            .endObject()
+            .endObject();
+        XContentParser contentParser = createParser(xContentBuilder);
+        contentParser.nextToken();
+
+        NeuralQueryBuilder neuralQueryBuilder = NeuralQueryBuilder.fromXContent(contentParser);
+
+        assertEquals(OnInferenceFailure.SKIP, neuralQueryBuilder.onInferenceFailure());
+
+        XContentBuilder invalidXContentBuilder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject(FIELD_NAME)
+            .field(QUERY_TEXT_FIELD.getPreferredName(), QUERY_TEXT)
+            .field(OnInferenceFailure.ON_INFERENCE_FAILURE_FIELD.getPreferredName(), "ignore")
+            .endObject()
+            .endObject();
+        XContentParser invalidContentParser = createParser(invalidXContentBuilder);
+        invalidContentParser.nextToken();
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> NeuralQueryBuilder.fromXContent(invalidContentParser)
+        );
+        assertEquals("[on_inference_failure] must be one of [fail, skip], found [ignore]", exception.getMessage());
+    }
+
+    @SneakyThrows
+    public void testRewrite_whenEmbeddingDataTypeIsBinary_thenQueryVectorBinarized() {
+        setUpClusterService(Version.CURRENT);
+        XContentBuilder xContentBuilder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject(FIELD_NAME)
+            .field(QUERY_TEXT_FIELD.getPreferredName(), QUERY_TEXT)
+            .field(MODEL_ID_FIELD.getPreferredName(), MODEL_ID)
+            .field(EmbeddingDataType.EMBEDDING_DATA_TYPE_FIELD.getPreferredName(), "binary")
+            .endObject()
+            .endObject();
+        XContentParser contentParser = createParser(xContentBuilder);
+        contentParser.nextToken();
+        NeuralQueryBuilder neuralQueryBuilder = NeuralQueryBuilder.fromXContent(contentParser);
+        assertEquals(EmbeddingDataType.BINARY, neuralQueryBuilder.embeddingDataType());
+
+        List<Number> modelVector = Arrays.asList(0.1f, -0.1f, 0.2f, -0.2f, 0.3f, -0.3f, 0.4f, -0.4f);
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Number>> listener = invocation.getArgument(1);
+            listener.onResponse(modelVector);
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesMap(any(), isA(ActionListener.class));
+        NeuralQueryBuilder.initialize(mlCommonsClientAccessor);
+
+        final CountDownLatch inProgressLatch = new CountDownLatch(1);
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        doAnswer(invocation -> {
+            BiConsumer<Client, ActionListener<?>> biConsumer = invocation.getArgument(0);
+            biConsumer.accept(null, ActionListener.wrap(response -> inProgressLatch.countDown(), err -> fail(err.getMessage())));
+            return null;
+        }).when(queryRewriteContext).registerAsyncAction(any());
+
+        NeuralQueryBuilder queryBuilder = (NeuralQueryBuilder) neuralQueryBuilder.doRewrite(queryRewriteContext);
+        assertTrue(inProgressLatch.await(5, TimeUnit.SECONDS));
+        // 10101010 packed into a signed byte, same as the text_embedding processor ingests it
+        assertArrayEquals(new float[] { -86 }, queryBuilder.vectorSupplier().get(), 0.0f);
+        assertEquals(EmbeddingDataType.BINARY, queryBuilder.embeddingDataType());
+    }
+
+    @SneakyThrows
+    public void testRewrite_whenInferenceFailsAndSkipped_thenRewriteToMatchNone() {
+        NeuralQueryBuilder neuralQueryBuilder = NeuralQueryBuilder.builder()
+            .fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .k(K)
+            .queryName(QUERY_NAME)
+            .onInferenceFailure(OnInferenceFailure.SKIP)
+            .build();
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Number>> listener = invocation.getArgument(1);
+            listener.onFailure(new IllegalStateException("model is not deployed"));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesMap(any(), isA(ActionListener.class));
+        NeuralQueryBuilder.initialize(mlCommonsClientAccessor);
+
+        final CountDownLatch inProgressLatch = new CountDownLatch(1);
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        doAnswer(invocation -> {
+            BiConsumer<Client, ActionListener<?>> biConsumer = invocation.getArgument(0);
+            biConsumer.accept(
+                null,
+                ActionListener.wrap(response -> inProgressLatch.countDown(), err -> fail("Inference failure is not skipped: " + err))
+            );
+            return null;
+        }).when(queryRewriteContext).registerAsyncAction(any());
+
+        NeuralQueryBuilder queryBuilder = (NeuralQueryBuilder) neuralQueryBuilder.doRewrite(queryRewriteContext);
+        assertTrue(inProgressLatch.await(5, TimeUnit.SECONDS));
+        QueryBuilder rewrittenQueryBuilder = queryBuilder.doRewrite(queryRewriteContext);
+
+        assertTrue(rewrittenQueryBuilder instanceof MatchNoneQueryBuilder);
+        assertEquals(QUERY_NAME, rewrittenQueryBuilder.queryName());
+        assertWarnings("[neural] query on field [testField] was skipped as model inference failed: model is not deployed");
+    }
+
+    @SneakyThrows
+    public void testRewrite_whenInferenceFailsAndNotSkipped_thenFail() {
+        NeuralQueryBuilder neuralQueryBuilder = NeuralQueryBuilder.builder()
+            .fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .k(K)
+            .build();
+        IllegalStateException inferenceFailure = new IllegalStateException("model is not deployed");
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Number>> listener = invocation.getArgument(1);
+            listener.onFailure(inferenceFailure);
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesMap(any(), isA(ActionListener.class));
+        NeuralQueryBuilder.initialize(mlCommonsClientAccessor);
+
+        @SuppressWarnings("unchecked")
+        ActionListener<Object> asyncActionListener = mock(ActionListener.class);
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        doAnswer(invocation -> {
+            BiConsumer<Client, ActionListener<?>> biConsumer = invocation.getArgument(0);
+            biConsumer.accept(null, asyncActionListener);
+            return null;
+        }).when(queryRewriteContext).registerAsyncAction(any());
+
+        NeuralQueryBuilder queryBuilder = (NeuralQueryBuilder) neuralQueryBuilder.doRewrite(queryRewriteContext);
+
+        verify(asyncActionListener).onFailure(inferenceFailure);
+        assertSame(queryBuilder, queryBuilder.doRewrite(queryRewriteContext));
+    }
+
+    @SneakyThrows
+    public void testRewrite_whenSearchTimedOutWaitingForInferenceAndNotSkipped_thenRewriteToMatchNone() {
+        NeuralQueryBuilder neuralQueryBuilder = NeuralQueryBuilder.builder()
+            .fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .k(K)
+            .build();
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Number>> listener = invocation.getArgument(1);
+            listener.onFailure(new InferenceTimeoutException("search task [1] exceeded search timeout waiting for model inference"));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesMap(any(), isA(ActionListener.class));
+        NeuralQueryBuilder.initialize(mlCommonsClientAccessor);
+
+        @SuppressWarnings("unchecked")
+        ActionListener<Object> asyncActionListener = mock(ActionListener.class);
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        doAnswer(invocation -> {
+            BiConsumer<Client, ActionListener<?>> biConsumer = invocation.getArgument(0);
+            biConsumer.accept(null, asyncActionListener);
+            return null;
+        }).when(queryRewriteContext).registerAsyncAction(any());
+
+        NeuralQueryBuilder queryBuilder = (NeuralQueryBuilder) neuralQueryBuilder.doRewrite(queryRewriteContext);
+
+        verify(asyncActionListener).onResponse(null);
+        verify(asyncActionListener, never()).onFailure(any());
+        assertTrue(queryBuilder.doRewrite(queryRewriteContext) instanceof MatchNoneQueryBuilder);
+        assertWarnings(
+            "[neural] query on field [testField] was skipped as search timed out waiting for model inference, results are partial"
+        );
+    }
+
     @SneakyThrows
     public void testRewrite_whenVectorSupplierNullAndQueryTextAndImageTextSet_thenSetVectorSupplier() {
         NeuralQueryBuilder neuralQueryBuilder = NeuralQueryBuilder.builder()
@@ -840,6 +1025,87 @@ public class NeuralQueryBuilderTests extends OpenSearchTestCase {
         assertArrayEquals(VectorUtil.vectorAsListToArray(expectedVector), queryBuilder.vectorSupplier().get(), 0.0f);
     }
 
+    @SneakyThrows
+    @SneakyThrows
+    public void testRewrite_whenSameModelAndQueryTextInHybridQuery_thenInferenceShared() {
+        setUpClusterService(Version.CURRENT);
+        NeuralQueryBuilder neuralQueryBuilder1 = NeuralQueryBuilder.builder()
+            .fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .k(K)
+            .build();
+        NeuralQueryBuilder neuralQueryBuilder2 = NeuralQueryBuilder.builder()
+            .fieldName("another_field")
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .k(K)
+            .build();
+        NeuralQueryBuilder neuralQueryBuilderWithOtherModel = NeuralQueryBuilder.builder()
+            .fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId("another_model")
+            .k(K)
+            .build();
+        List<Number> expectedVector = Arrays.asList(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Number>> listener = invocation.getArgument(1);
+            listener.onResponse(expectedVector);
+            return null;
+        }).when(mlCommonsClientAccessor)
+            .inferenceSentencesMap(argThat(request -> request.getInputObjects() != null), isA(ActionListener.class));
+        NeuralQueryBuilder.initialize(mlCommonsClientAccessor);
+
+        List<BiConsumer<Client, ActionListener<?>>> asyncActions = new ArrayList<>();
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        doAnswer(invocation -> asyncActions.add(invocation.getArgument(0))).when(queryRewriteContext).registerAsyncAction(any());
+
+        HybridQueryBuilder hybridQueryBuilder = new HybridQueryBuilder();
+        hybridQueryBuilder.add(neuralQueryBuilder1);
+        hybridQueryBuilder.add(neuralQueryBuilder2);
+        hybridQueryBuilder.add(neuralQueryBuilderWithOtherModel);
+        HybridQueryBuilder rewrittenHybridQueryBuilder = (HybridQueryBuilder) hybridQueryBuilder.doRewrite(queryRewriteContext);
+        assertEquals(2, asyncActions.size());
+        NeuralQueryBuilder queryBuilder1 = (NeuralQueryBuilder) rewrittenHybridQueryBuilder.queries().get(0);
+        NeuralQueryBuilder queryBuilder2 = (NeuralQueryBuilder) rewrittenHybridQueryBuilder.queries().get(1);
+        NeuralQueryBuilder queryBuilder3 = (NeuralQueryBuilder) rewrittenHybridQueryBuilder.queries().get(2);
+
+        asyncActions.forEach(
+            asyncAction -> asyncAction.accept(
+                null,
+                ActionListener.wrap(response -> {}, err -> fail("Failed to set vector supplier: " + err.getMessage()))
+            )
+        );
+        verify(mlCommonsClientAccessor, times(2)).inferenceSentencesMap(any(), any());
+        float[] expectedArray = VectorUtil.vectorAsListToArray(expectedVector);
+        assertArrayEquals(expectedArray, queryBuilder1.vectorSupplier().get(), 0.0f);
+        assertArrayEquals(expectedArray, queryBuilder2.vectorSupplier().get(), 0.0f);
+        assertArrayEquals(expectedArray, queryBuilder3.vectorSupplier().get(), 0.0f);
+    }
+
+    public void testRewrite_whenSameModelAndQueryTextOutsideHybridQuery_thenInferenceNotShared() {
+        NeuralQueryBuilder neuralQueryBuilder1 = NeuralQueryBuilder.builder()
+            .fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .k(K)
+            .build();
+        NeuralQueryBuilder neuralQueryBuilder2 = NeuralQueryBuilder.builder()
+            .fieldName("another_field")
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .k(K)
+            .build();
+        List<BiConsumer<Client, ActionListener<?>>> asyncActions = new ArrayList<>();
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        doAnswer(invocation -> asyncActions.add(invocation.getArgument(0))).when(queryRewriteContext).registerAsyncAction(any());
+
+        neuralQueryBuilder1.doRewrite(queryRewriteContext);
+        neuralQueryBuilder2.doRewrite(queryRewriteContext);
+        assertEquals(2, asyncActions.size());
+    }
+
     public void testRewrite_whenVectorNull_thenReturnCopy() {
         Supplier<float[]> nullSupplier = () -> null;
         NeuralQueryBuilder neuralQueryBuilder = NeuralQueryBuilder.builder()
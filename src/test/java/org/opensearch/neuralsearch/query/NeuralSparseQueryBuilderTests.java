@@ -9,6 +9,8 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.opensearch.index.query.AbstractQueryBuilder.BOOST_FIELD;
 import static org.opensearch.index.query.AbstractQueryBuilder.NAME_FIELD;
 import static org.opensearch.neuralsearch.util.TestUtils.xContentBuilderToMap;
@@ -19,6 +21,7 @@ import static org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder.QUERY_T
 import static org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder.QUERY_TOKENS_FIELD;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +51,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.index.query.MatchNoneQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
@@ -653,6 +657,75 @@ public class NeuralSparseQueryBuilderTests extends OpenSearchTestCase {
         assertEquals(expectedMap, queryBuilder.queryTokensSupplier().get());
     }
 
+    @SneakyThrows
+    public void testRewrite_whenInferenceFailsAndSkipped_thenRewriteToMatchNone() {
+        NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .onInferenceFailure(OnInferenceFailure.SKIP);
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Map<String, ?>>> listener = invocation.getArgument(1);
+            listener.onFailure(new IllegalStateException("model is not deployed"));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesWithMapResult(any(), isA(ActionListener.class));
+        NeuralSparseQueryBuilder.initialize(mlCommonsClientAccessor);
+
+        final CountDownLatch inProgressLatch = new CountDownLatch(1);
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        doAnswer(invocation -> {
+            BiConsumer<Client, ActionListener<?>> biConsumer = invocation.getArgument(0);
+            biConsumer.accept(
+                null,
+                ActionListener.wrap(response -> inProgressLatch.countDown(), err -> fail("Inference failure is not skipped: " + err))
+            );
+            return null;
+        }).when(queryRewriteContext).registerAsyncAction(any());
+
+        NeuralSparseQueryBuilder queryBuilder = (NeuralSparseQueryBuilder) sparseEncodingQueryBuilder.doRewrite(queryRewriteContext);
+        assertTrue(inProgressLatch.await(5, TimeUnit.SECONDS));
+
+        assertTrue(queryBuilder.doRewrite(queryRewriteContext) instanceof MatchNoneQueryBuilder);
+        assertWarnings("[neural_sparse] query on field [" + FIELD_NAME + "] was skipped as model inference failed: model is not deployed");
+    }
+
+    @SneakyThrows
+    public void testRewrite_whenSameModelAndQueryTextInHybridQuery_thenInferenceShared() {
+        NeuralSparseQueryBuilder sparseEncodingQueryBuilder1 = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID);
+        NeuralSparseQueryBuilder sparseEncodingQueryBuilder2 = new NeuralSparseQueryBuilder().fieldName("another_field")
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID);
+        Map<String, Float> expectedMap = Map.of("1", 1f, "2", 2f);
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Map<String, ?>>> listener = invocation.getArgument(1);
+            listener.onResponse(List.of(Map.of("response", List.of(expectedMap))));
+            return null;
+        }).when(mlCommonsClientAccessor)
+            .inferenceSentencesWithMapResult(argThat(request -> request.getInputTexts() != null), isA(ActionListener.class));
+        NeuralSparseQueryBuilder.initialize(mlCommonsClientAccessor);
+
+        List<BiConsumer<Client, ActionListener<?>>> asyncActions = new ArrayList<>();
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        doAnswer(invocation -> asyncActions.add(invocation.getArgument(0))).when(queryRewriteContext).registerAsyncAction(any());
+
+        HybridQueryBuilder hybridQueryBuilder = new HybridQueryBuilder();
+        hybridQueryBuilder.add(sparseEncodingQueryBuilder1);
+        hybridQueryBuilder.add(sparseEncodingQueryBuilder2);
+        HybridQueryBuilder rewrittenHybridQueryBuilder = (HybridQueryBuilder) hybridQueryBuilder.doRewrite(queryRewriteContext);
+        assertEquals(1, asyncActions.size());
+        NeuralSparseQueryBuilder queryBuilder1 = (NeuralSparseQueryBuilder) rewrittenHybridQueryBuilder.queries().get(0);
+        NeuralSparseQueryBuilder queryBuilder2 = (NeuralSparseQueryBuilder) rewrittenHybridQueryBuilder.queries().get(1);
+
+        asyncActions.get(0)
+            .accept(null, ActionListener.wrap(response -> {}, err -> fail("Failed to set query tokens supplier: " + err.getMessage())));
+        verify(mlCommonsClientAccessor, times(1)).inferenceSentencesWithMapResult(any(), any());
+        assertEquals(expectedMap, queryBuilder1.queryTokensSupplier().get());
+        assertEquals(expectedMap, queryBuilder2.queryTokensSupplier().get());
+    }
+
     @SneakyThrows
     public void testRewrite_whenQueryTokensSupplierNull_andPruneSet_thenSuceessPrune() {
         NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
@@ -157,6 +157,69 @@ public class HybridTopFieldDocSortCollectorTests extends OpenSearchQueryTestCase
         directory.close();
     }
 
+    @SneakyThrows
+    public void testSimpleFieldCollectorTopDocs_whenSubQueriesMatchDifferentDocs_thenHitsCollectedPerMatchingSubQuery() {
+        final Directory directory = newDirectory();
+        final IndexWriter w = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())));
+        Document document = new Document();
+        document.add(new TextField(TEXT_FIELD_NAME, FIELD_1_VALUE, Field.Store.YES));
+        w.addDocument(document);
+        w.commit();
+
+        DirectoryReader reader = DirectoryReader.open(w);
+        LeafReaderContext leafReaderContext = reader.getContext().leaves().get(0);
+        QueryShardContext mockQueryShardContext = mock(QueryShardContext.class);
+        TextFieldMapper.TextFieldType fieldType = (TextFieldMapper.TextFieldType) createMapperService().fieldType(TEXT_FIELD_NAME);
+        when(mockQueryShardContext.fieldMapper(eq(TEXT_FIELD_NAME))).thenReturn(fieldType);
+
+        SortField sortField = new SortField(DOC_FIELD_NAME, SortField.Type.DOC);
+        HybridTopFieldDocSortCollector hybridTopFieldDocSortCollector = new SimpleFieldCollector(
+            NUM_DOCS,
+            new HitsThresholdChecker(TOTAL_HITS_UP_TO),
+            new Sort(sortField)
+        );
+        Weight weight = mock(Weight.class);
+        hybridTopFieldDocSortCollector.setWeight(weight);
+        LeafCollector leafCollector = hybridTopFieldDocSortCollector.getLeafCollector(leafReaderContext);
+
+        // second sub-query has no scorer for the segment, first and third sub-queries match different docs
+        int[] docIdsForQuery1 = new int[] { 1, 3 };
+        int[] docIdsForQuery3 = new int[] { 2, 3, 4 };
+        Weight fakeWeight = fakeWeight(QueryBuilders.matchAllQuery().toQuery(mockQueryShardContext));
+        HybridQueryScorer hybridQueryScorer = new HybridQueryScorer(
+            weight,
+            Arrays.asList(
+                scorer(docIdsForQuery1, new float[] { 0.5f, 0.7f }, fakeWeight),
+                null,
+                scorer(docIdsForQuery3, new float[] { 0.1f, 0.2f, 0.3f }, fakeWeight)
+            )
+        );
+
+        leafCollector.setScorer(hybridQueryScorer);
+        DocIdSetIterator iterator = hybridQueryScorer.iterator();
+        int doc = iterator.nextDoc();
+        while (doc != DocIdSetIterator.NO_MORE_DOCS) {
+            leafCollector.collect(doc);
+            doc = iterator.nextDoc();
+        }
+
+        List<TopFieldDocs> topFieldDocs = hybridTopFieldDocSortCollector.topDocs();
+
+        assertEquals(3, topFieldDocs.size());
+        assertEquals(
+            Arrays.stream(docIdsForQuery1).boxed().collect(Collectors.toList()),
+            Arrays.stream(topFieldDocs.get(0).scoreDocs).map(scoreDoc -> scoreDoc.doc).collect(Collectors.toList())
+        );
+        assertEquals(0, topFieldDocs.get(1).scoreDocs.length);
+        assertEquals(
+            Arrays.stream(docIdsForQuery3).boxed().collect(Collectors.toList()),
+            Arrays.stream(topFieldDocs.get(2).scoreDocs).map(scoreDoc -> scoreDoc.doc).collect(Collectors.toList())
+        );
+        w.close();
+        reader.close();
+        directory.close();
+    }
+
     @SneakyThrows
     public void testPagingFieldCollectorTopDocs_whenCreateNewAndGetTopDocs_thenSuccessful() {
         final Directory directory = newDirectory();
@@ -357,6 +357,58 @@ public class HybridTopScoreDocCollectorTests extends OpenSearchQueryTestCase {
         directory.close();
     }
 
+    @SneakyThrows
+    public void testTopDocs_whenMoreMatchesThanNumHits_thenTopHitsPerSubQueryCollected() {
+        final Directory directory = newDirectory();
+        final IndexWriter w = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())));
+        FieldType ft = new FieldType(TextField.TYPE_NOT_STORED);
+        ft.setIndexOptions(IndexOptions.DOCS);
+        ft.freeze();
+        w.addDocument(getDocument(TEXT_FIELD_NAME, DOC_ID_1, FIELD_1_VALUE, ft));
+        w.commit();
+        DirectoryReader reader = DirectoryReader.open(w);
+        LeafReaderContext leafReaderContext = reader.getContext().leaves().get(0);
+
+        int numHits = 3;
+        HybridTopScoreDocCollector hybridTopScoreDocCollector = new HybridTopScoreDocCollector(
+            numHits,
+            new HitsThresholdChecker(TOTAL_HITS_UP_TO)
+        );
+        Weight weight = mock(Weight.class);
+        hybridTopScoreDocCollector.setWeight(weight);
+        LeafCollector leafCollector = hybridTopScoreDocCollector.getLeafCollector(leafReaderContext);
+
+        int[] docIds = new int[] { 0, 1, 2, 3, 4, 5, 6, 7 };
+        float[] scoresAscending = new float[] { 0.1f, 0.2f, 0.3f, 0.4f, 0.5f, 0.6f, 0.7f, 0.8f };
+        float[] scoresWithTies = new float[] { 0.5f, 0.9f, 0.5f, 0.9f, 0.1f, 0.5f, 0.2f, 0.3f };
+        HybridQueryScorer hybridQueryScorer = new HybridQueryScorer(
+            weight,
+            Arrays.asList(
+                scorer(docIds, scoresAscending, fakeWeight(new MatchAllDocsQuery())),
+                scorer(new int[0], new float[0], fakeWeight(new MatchNoDocsQuery())),
+                scorer(docIds, scoresWithTies, fakeWeight(new MatchAllDocsQuery()))
+            )
+        );
+        leafCollector.setScorer(hybridQueryScorer);
+        DocIdSetIterator iterator = hybridQueryScorer.iterator();
+        for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            leafCollector.collect(doc);
+        }
+
+        List<TopDocs> topDocs = hybridTopScoreDocCollector.topDocs();
+        assertEquals(3, topDocs.size());
+        assertEquals(docIds.length, topDocs.get(0).totalHits.value());
+        assertArrayEquals(new int[] { 7, 6, 5 }, Arrays.stream(topDocs.get(0).scoreDocs).mapToInt(scoreDoc -> scoreDoc.doc).toArray());
+        assertEquals(0, topDocs.get(1).scoreDocs.length);
+        // for equal scores hits with lower doc id win
+        assertArrayEquals(new int[] { 1, 3, 0 }, Arrays.stream(topDocs.get(2).scoreDocs).mapToInt(scoreDoc -> scoreDoc.doc).toArray());
+        assertEquals(0.9f, hybridTopScoreDocCollector.getMaxScore(), 0.0f);
+
+        w.close();
+        reader.close();
+        directory.close();
+    }
+
     @SneakyThrows
     public void testTrackTotalHits_whenTotalHitsSetIntegerMaxValue_thenSuccessful() {
         final Directory directory = newDirectory();
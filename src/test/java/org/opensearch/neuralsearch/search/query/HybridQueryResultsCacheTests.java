@@ -0,0 +1,194 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.query;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_RESULTS_CACHE_SIZE;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.opensearch.action.search.SearchType;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridQueryResultsCacheTests extends OpenSearchTestCase {
+    private static final String INDEX_NAME = "test-index";
+
+    public void testCreateKey_whenCacheDisabledOrRequestNotCacheable_thenNoKey() throws IOException {
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+            writer.addDocument(new Document());
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                HybridQueryResultsCache cache = HybridQueryResultsCache.instance();
+                cache.initialize(Settings.builder().put(HYBRID_QUERY_RESULTS_CACHE_SIZE.getKey(), "0b").build());
+                assertTrue(cache.createKey(createSearchContext(reader, true, true)).isEmpty());
+
+                cache.initialize(Settings.builder().put(HYBRID_QUERY_RESULTS_CACHE_SIZE.getKey(), "1mb").build());
+                assertTrue(cache.createKey(createSearchContext(reader, false, true)).isEmpty());
+                assertTrue(cache.createKey(createSearchContext(reader, true, false)).isEmpty());
+                assertTrue(cache.createKey(createSearchContext(reader, true, true)).isPresent());
+            }
+        }
+    }
+
+    public void testCreateKey_whenCacheNotExplicitlyRequested_thenOnlyRequestsWithoutHitsCached() throws IOException {
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+            writer.addDocument(new Document());
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                HybridQueryResultsCache cache = HybridQueryResultsCache.instance();
+                cache.initialize(Settings.builder().put(HYBRID_QUERY_RESULTS_CACHE_SIZE.getKey(), "1mb").build());
+                assertTrue(cache.createKey(createSearchContext(reader, null, true)).isEmpty());
+
+                SearchContext searchContextWithoutHits = createSearchContext(reader, null, true);
+                when(searchContextWithoutHits.request().source()).thenReturn(
+                    new SearchSourceBuilder().query(QueryBuilders.matchQuery("text", "hello")).size(0)
+                );
+                assertTrue(cache.createKey(searchContextWithoutHits).isPresent());
+            }
+        }
+    }
+
+    public void testCreateKey_whenSearchTypeIsDfsQueryThenFetch_thenNoKey() throws IOException {
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+            writer.addDocument(new Document());
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                HybridQueryResultsCache cache = HybridQueryResultsCache.instance();
+                cache.initialize(Settings.builder().put(HYBRID_QUERY_RESULTS_CACHE_SIZE.getKey(), "1mb").build());
+                SearchContext searchContext = createSearchContext(reader, true, true);
+                // scores of dfs search depend on term statistics of other shards, explicitly requested cache doesn't change it
+                when(searchContext.request().searchType()).thenReturn(SearchType.DFS_QUERY_THEN_FETCH);
+
+                assertTrue(cache.createKey(searchContext).isEmpty());
+            }
+        }
+    }
+
+    public void testLoadIntoContext_whenResultsPut_thenCopyOfResultsLoadedAndFromReset() throws IOException {
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+            writer.addDocument(new Document());
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                HybridQueryResultsCache cache = HybridQueryResultsCache.instance();
+                cache.initialize(Settings.builder().put(HYBRID_QUERY_RESULTS_CACHE_SIZE.getKey(), "1mb").build());
+                SearchContext searchContext = createSearchContext(reader, true, true);
+                Optional<HybridQueryResultsCache.Key> key = cache.createKey(searchContext);
+                assertTrue(key.isPresent());
+                assertFalse(cache.loadIntoContext(key.get(), searchContext));
+
+                ScoreDoc[] scoreDocs = new ScoreDoc[] { new ScoreDoc(0, 0.5f) };
+                TopDocs topDocs = new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), scoreDocs);
+                searchContext.queryResult().topDocs(new TopDocsAndMaxScore(topDocs, 0.5f), new DocValueFormat[0]);
+                cache.put(key.get(), searchContext);
+                // results in the cache must not be affected by changes made to the query result by normalization
+                scoreDocs[0].score = 1.0f;
+
+                SearchContext cachedSearchContext = createSearchContext(reader, true, true);
+                when(cachedSearchContext.numberOfShards()).thenReturn(1);
+                when(cachedSearchContext.from()).thenReturn(10);
+                Optional<HybridQueryResultsCache.Key> cachedKey = cache.createKey(cachedSearchContext);
+                assertEquals(key, cachedKey);
+                assertTrue(cache.loadIntoContext(cachedKey.get(), cachedSearchContext));
+
+                TopDocsAndMaxScore cachedTopDocs = cachedSearchContext.queryResult().topDocs();
+                assertEquals(1, cachedTopDocs.topDocs.scoreDocs.length);
+                assertEquals(0.5f, cachedTopDocs.topDocs.scoreDocs[0].score, 0.0f);
+                assertEquals(0.5f, cachedTopDocs.maxScore, 0.0f);
+                verify(cachedSearchContext).from(0);
+            }
+        }
+    }
+
+    public void testInvalidate_whenReaderClosed_thenResultsRemoved() throws IOException {
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+            writer.addDocument(new Document());
+            DirectoryReader reader = DirectoryReader.open(writer);
+            HybridQueryResultsCache cache = HybridQueryResultsCache.instance();
+            cache.initialize(Settings.builder().put(HYBRID_QUERY_RESULTS_CACHE_SIZE.getKey(), "1mb").build());
+            SearchContext searchContext = createSearchContext(reader, true, true);
+            HybridQueryResultsCache.Key key = cache.createKey(searchContext).orElseThrow();
+            TopDocs topDocs = new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(0, 0.5f) });
+            searchContext.queryResult().topDocs(new TopDocsAndMaxScore(topDocs, 0.5f), new DocValueFormat[0]);
+            cache.put(key, searchContext);
+            assertTrue(cache.loadIntoContext(key, createSearchContext(reader, true, true)));
+
+            reader.close();
+
+            assertFalse(cache.loadIntoContext(key, createSearchContext(reader, true, true)));
+        }
+    }
+
+    public void testInvalidate_whenOneOfReadersClosed_thenOnlyResultsOfClosedReaderRemoved() throws IOException {
+        try (
+            Directory directory = newDirectory();
+            Directory otherDirectory = newDirectory();
+            IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig());
+            IndexWriter otherWriter = new IndexWriter(otherDirectory, newIndexWriterConfig())
+        ) {
+            writer.addDocument(new Document());
+            otherWriter.addDocument(new Document());
+            DirectoryReader reader = DirectoryReader.open(writer);
+            try (DirectoryReader otherReader = DirectoryReader.open(otherWriter)) {
+                HybridQueryResultsCache cache = HybridQueryResultsCache.instance();
+                cache.initialize(Settings.builder().put(HYBRID_QUERY_RESULTS_CACHE_SIZE.getKey(), "1mb").build());
+                HybridQueryResultsCache.Key key = putResults(cache, reader);
+                HybridQueryResultsCache.Key otherKey = putResults(cache, otherReader);
+
+                reader.close();
+
+                assertFalse(cache.loadIntoContext(key, createSearchContext(reader, true, true)));
+                assertTrue(cache.loadIntoContext(otherKey, createSearchContext(otherReader, true, true)));
+            }
+        }
+    }
+
+    private HybridQueryResultsCache.Key putResults(final HybridQueryResultsCache cache, final DirectoryReader reader) throws IOException {
+        SearchContext searchContext = createSearchContext(reader, true, true);
+        HybridQueryResultsCache.Key key = cache.createKey(searchContext).orElseThrow();
+        TopDocs topDocs = new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(0, 0.5f) });
+        searchContext.queryResult().topDocs(new TopDocsAndMaxScore(topDocs, 0.5f), new DocValueFormat[0]);
+        cache.put(key, searchContext);
+        return key;
+    }
+
+    private SearchContext createSearchContext(final DirectoryReader reader, final Boolean requestCache, final boolean isCacheable) {
+        SearchContext searchContext = mock(SearchContext.class);
+        ContextIndexSearcher indexSearcher = mock(ContextIndexSearcher.class);
+        when(indexSearcher.getDirectoryReader()).thenReturn(reader);
+        when(searchContext.searcher()).thenReturn(indexSearcher);
+
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.source()).thenReturn(new SearchSourceBuilder().query(QueryBuilders.matchQuery("text", "hello")).size(10));
+        when(request.getAliasFilter()).thenReturn(AliasFilter.EMPTY);
+        when(request.requestCache()).thenReturn(requestCache);
+        when(request.searchType()).thenReturn(SearchType.QUERY_THEN_FETCH);
+        when(searchContext.request()).thenReturn(request);
+
+        QueryShardContext queryShardContext = mock(QueryShardContext.class);
+        when(queryShardContext.getIndexSettings()).thenReturn(IndexSettingsModule.newIndexSettings(INDEX_NAME, Settings.EMPTY));
+        when(queryShardContext.isCacheable()).thenReturn(isCacheable);
+        when(searchContext.getQueryShardContext()).thenReturn(queryShardContext);
+        when(searchContext.queryResult()).thenReturn(new QuerySearchResult());
+        return searchContext;
+    }
+}
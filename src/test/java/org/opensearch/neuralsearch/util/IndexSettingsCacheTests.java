@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexAbstraction;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.env.Environment;
+import org.opensearch.neuralsearch.util.IndexSettingsCache.SourceFilter;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class IndexSettingsCacheTests extends OpenSearchTestCase {
+    private static final String INDEX_NAME = "test-index";
+
+    public void testGetLimits_whenInitializedWithClusterService_thenLimitsCached() {
+        ClusterService clusterService = mock(ClusterService.class);
+        Metadata metadata = mockMetadata(clusterService, createIndexMetadata(5, 100));
+        IndexSettingsCache indexSettingsCache = IndexSettingsCache.instance();
+        indexSettingsCache.initialize(clusterService);
+        Environment environment = mock(Environment.class);
+
+        assertEquals(5, indexSettingsCache.getMappingDepthLimit(INDEX_NAME, clusterService, environment));
+        assertEquals(100, indexSettingsCache.getMaxTokenCount(INDEX_NAME, clusterService, environment));
+        assertEquals(5, indexSettingsCache.getMappingDepthLimit(INDEX_NAME, clusterService, environment));
+
+        verify(clusterService).addListener(indexSettingsCache);
+        verify(metadata, times(1)).index(INDEX_NAME);
+    }
+
+    public void testGetLimits_whenIndexSettingsUpdated_thenCacheInvalidated() {
+        ClusterService clusterService = mock(ClusterService.class);
+        mockMetadata(clusterService, createIndexMetadata(5, 100));
+        ClusterState previousState = clusterService.state();
+        IndexSettingsCache indexSettingsCache = IndexSettingsCache.instance();
+        indexSettingsCache.initialize(clusterService);
+        Environment environment = mock(Environment.class);
+        assertEquals(100, indexSettingsCache.getMaxTokenCount(INDEX_NAME, clusterService, environment));
+
+        mockMetadata(clusterService, createIndexMetadata(5, 200));
+        ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+        when(event.metadataChanged()).thenReturn(true);
+        when(event.state()).thenReturn(clusterService.state());
+        when(event.previousState()).thenReturn(previousState);
+        indexSettingsCache.clusterChanged(event);
+
+        assertEquals(200, indexSettingsCache.getMaxTokenCount(INDEX_NAME, clusterService, environment));
+    }
+
+    public void testGetLimits_whenIndexDoesNotExist_thenNodeSettingsUsedAndNotCached() {
+        ClusterService clusterService = mock(ClusterService.class);
+        Metadata metadata = mockMetadata(clusterService, null);
+        IndexSettingsCache indexSettingsCache = IndexSettingsCache.instance();
+        indexSettingsCache.initialize(clusterService);
+        Environment environment = mock(Environment.class);
+        when(environment.settings()).thenReturn(Settings.builder().put("index.mapping.depth.limit", 7).build());
+
+        assertEquals(7, indexSettingsCache.getMappingDepthLimit(INDEX_NAME, clusterService, environment));
+        assertEquals(7, indexSettingsCache.getMappingDepthLimit(INDEX_NAME, clusterService, environment));
+
+        verify(metadata, times(2)).index(INDEX_NAME);
+    }
+
+    public void testGetLimits_whenClusterServiceNotInitialized_thenLimitsNotCached() {
+        IndexSettingsCache.instance().initialize(mock(ClusterService.class));
+        ClusterService clusterService = mock(ClusterService.class);
+        Metadata metadata = mockMetadata(clusterService, createIndexMetadata(5, 100));
+        Environment environment = mock(Environment.class);
+
+        assertEquals(5, IndexSettingsCache.instance().getMappingDepthLimit(INDEX_NAME, clusterService, environment));
+        assertEquals(5, IndexSettingsCache.instance().getMappingDepthLimit(INDEX_NAME, clusterService, environment));
+
+        verify(metadata, times(2)).index(INDEX_NAME);
+    }
+
+    public void testGetSourceFilter_whenIndexMappingHasSourceExcludes_thenExcludesReturned() {
+        ClusterService clusterService = mock(ClusterService.class);
+        IndexMetadata indexMetadata = createIndexMetadata(5, 100);
+        MappingMetadata mappingMetadata = mock(MappingMetadata.class);
+        when(mappingMetadata.sourceAsMap()).thenReturn(Map.of("_source", Map.of("excludes", List.of("*_knn", "passage.embedding"))));
+        when(indexMetadata.mapping()).thenReturn(mappingMetadata);
+        mockMetadata(clusterService, indexMetadata);
+        Environment environment = mock(Environment.class);
+
+        Optional<SourceFilter> sourceFilter = IndexSettingsCache.instance().getSourceFilter(INDEX_NAME, clusterService, environment);
+        assertEquals(Optional.of(new SourceFilter(List.of(), List.of("*_knn", "passage.embedding"))), sourceFilter);
+        assertTrue(sourceFilter.get().isExcluded("title_knn"));
+        assertTrue(sourceFilter.get().isExcluded("passage.embedding.knn"));
+        assertFalse(sourceFilter.get().isExcluded("passage.text"));
+
+        when(mappingMetadata.sourceAsMap()).thenReturn(Map.of("_source", Map.of("enabled", false)));
+        assertEquals(
+            Optional.of(new SourceFilter(List.of(), List.of("*"))),
+            IndexSettingsCache.instance().getSourceFilter(INDEX_NAME, clusterService, environment)
+        );
+    }
+
+    public void testGetSourceFilter_whenNameIsAlias_thenMappingOfWriteIndexUsed() {
+        ClusterService clusterService = mock(ClusterService.class);
+        IndexMetadata indexMetadata = createIndexMetadata(5, 100);
+        MappingMetadata mappingMetadata = mock(MappingMetadata.class);
+        when(mappingMetadata.sourceAsMap()).thenReturn(Map.of("_source", Map.of("excludes", List.of("*_knn"))));
+        when(indexMetadata.mapping()).thenReturn(mappingMetadata);
+        Metadata metadata = mockMetadata(clusterService, null);
+        IndexAbstraction alias = mock(IndexAbstraction.class);
+        when(alias.getWriteIndex()).thenReturn(indexMetadata);
+        when(metadata.getIndicesLookup()).thenReturn(new TreeMap<>(Map.of(INDEX_NAME, alias)));
+        Environment environment = mock(Environment.class);
+
+        assertEquals(
+            Optional.of(new SourceFilter(List.of(), List.of("*_knn"))),
+            IndexSettingsCache.instance().getSourceFilter(INDEX_NAME, clusterService, environment)
+        );
+        assertEquals(5, IndexSettingsCache.instance().getMappingDepthLimit(INDEX_NAME, clusterService, environment));
+    }
+
+    public void testIsExcluded_whenSourceIncludesSet_thenFieldsNotIncludedAreExcluded() {
+        SourceFilter sourceFilter = new SourceFilter(List.of("title", "passages.text"), List.of("title.raw"));
+
+        assertTrue(sourceFilter.isExcluded("title_knn"));
+        assertTrue(sourceFilter.isExcluded("passages.text_knn"));
+        assertTrue(sourceFilter.isExcluded("title.raw"));
+        assertFalse(sourceFilter.isExcluded("title.keyword"));
+        assertFalse(sourceFilter.isExcluded("passages.text"));
+        // sub-field of the object is included
+        assertFalse(sourceFilter.isExcluded("passages"));
+    }
+
+    public void testGetSourceFilter_whenIndexDoesNotExist_thenEmptyReturned() {
+        ClusterService clusterService = mock(ClusterService.class);
+        mockMetadata(clusterService, null);
+        Environment environment = mock(Environment.class);
+        when(environment.settings()).thenReturn(Settings.EMPTY);
+
+        assertEquals(Optional.empty(), IndexSettingsCache.instance().getSourceFilter(INDEX_NAME, clusterService, environment));
+    }
+
+    private Metadata mockMetadata(final ClusterService clusterService, final IndexMetadata indexMetadata) {
+        ClusterState clusterState = mock(ClusterState.class);
+        Metadata metadata = mock(Metadata.class);
+        when(clusterService.state()).thenReturn(clusterState);
+        when(clusterState.metadata()).thenReturn(metadata);
+        when(metadata.index(INDEX_NAME)).thenReturn(indexMetadata);
+        return metadata;
+    }
+
+    private IndexMetadata createIndexMetadata(final int mappingDepthLimit, final int maxTokenCount) {
+        IndexMetadata indexMetadata = mock(IndexMetadata.class);
+        when(indexMetadata.getSettings()).thenReturn(
+            Settings.builder().put("index.mapping.depth.limit", mappingDepthLimit).put("index.max_token_count", maxTokenCount).build()
+        );
+        return indexMetadata;
+    }
+}
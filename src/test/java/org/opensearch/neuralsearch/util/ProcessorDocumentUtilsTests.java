@@ -235,6 +235,19 @@ public class ProcessorDocumentUtilsTests extends OpenSearchQueryTestCase {
         testUnflatten_withInvalidUsageOfDots_thenFail(fieldName, input);
     }
 
+    public void testHasDottedKey_withDotAtAnyLevel_thenTrue() {
+        assertTrue(ProcessorDocumentUtils.hasDottedKey(Map.of("a.b", "c")));
+        assertTrue(ProcessorDocumentUtils.hasDottedKey(Map.of("a", Map.of("b.c", "d"))));
+        assertTrue(ProcessorDocumentUtils.hasDottedKey(Map.of("a", List.of(Map.of("b", "c"), Map.of("b.c", "d")))));
+    }
+
+    public void testHasDottedKey_withoutDots_thenFalse() {
+        assertFalse(ProcessorDocumentUtils.hasDottedKey(Map.of("a", Map.of("b", List.of(Map.of("c", "d.e"))))));
+        assertFalse(ProcessorDocumentUtils.hasDottedKey(List.of("a.b", "c")));
+        assertFalse(ProcessorDocumentUtils.hasDottedKey("a.b"));
+        assertFalse(ProcessorDocumentUtils.hasDottedKey(null));
+    }
+
     private void testUnflatten_withInvalidUsageOfDots_thenFail(String fieldName, Map<String, Object> input) {
         IllegalArgumentException illegalArgumentException = assertThrows(
             IllegalArgumentException.class,
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util.quantization;
+
+import java.util.List;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class EmbeddingDataTypeTests extends OpenSearchTestCase {
+    public void testFromString() {
+        assertEquals(EmbeddingDataType.FLOAT, EmbeddingDataType.fromString(null));
+        assertEquals(EmbeddingDataType.FLOAT, EmbeddingDataType.fromString("float"));
+        assertEquals(EmbeddingDataType.BYTE, EmbeddingDataType.fromString("byte"));
+        assertEquals(EmbeddingDataType.BINARY, EmbeddingDataType.fromString("binary"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> EmbeddingDataType.fromString("int4"));
+        assertEquals("[embedding_data_type] must be one of [float, byte, binary], found [int4]", exception.getMessage());
+    }
+
+    public void testQuantize_whenByte_thenDimensionsScaledAndClipped() {
+        assertArrayEquals(
+            new float[] { 127, -127, 64, 0, 127 },
+            EmbeddingDataType.BYTE.quantize(new float[] { 1.0f, -1.0f, 0.5f, 0.001f, 3.0f }),
+            0.0f
+        );
+        assertEquals(List.of(127, -63), EmbeddingDataType.BYTE.quantize(List.<Number>of(1.0d, -0.5f)));
+    }
+
+    public void testQuantize_whenBinary_thenBitsPackedIntoSignedBytes() {
+        float[] vector = new float[] { 0.1f, -0.1f, 0.2f, -0.2f, 0.3f, -0.3f, 0.4f, -0.4f, 0.5f, 0.0f };
+        // 10101010 as signed byte, then 1 padded with zero bits
+        assertArrayEquals(new float[] { -86, -128 }, EmbeddingDataType.BINARY.quantize(vector), 0.0f);
+        List<Number> vectorAsList = List.of(0.1f, -0.1f, 0.2f, -0.2f, 0.3f, -0.3f, 0.4f, -0.4f, 0.5f);
+        assertEquals(List.of(-86, -128), EmbeddingDataType.BINARY.quantize(vectorAsList));
+
+        float[] floatVector = new float[] { 0.1f, -0.2f };
+        assertSame(floatVector, EmbeddingDataType.FLOAT.quantize(floatVector));
+    }
+}